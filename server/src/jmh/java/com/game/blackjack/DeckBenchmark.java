@@ -0,0 +1,28 @@
+package com.game.blackjack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    @Param({ "1", "2", "4", "6", "8" })
+    public int decks;
+
+    private BlackjackGame game;
+
+    @Setup
+    public void setUp() {
+        game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42));
+        game.initializeDeck(decks);
+    }
+
+    @Benchmark
+    public int initializeDeck() {
+        game.initializeDeck(decks);
+        return game.getDeckSize();
+    }
+}
@@ -0,0 +1,61 @@
+package com.game.blackjack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.game.blackjack.odds.ActionValues;
+import com.game.blackjack.odds.DealerProbabilityCalculator;
+import com.game.blackjack.odds.ExpectedValueCalculator;
+
+@State(Scope.Thread)
+public class ExpectedValueBenchmark {
+
+    private static final String[] VALUES = { "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A" };
+    private static final String[] SUITS = { "Hearts", "Diamonds", "Clubs", "Spades" };
+
+    @Param({ "1", "8" })
+    public int decks;
+
+    @Param({ "8", "5" })
+    public String pair;
+
+    private BlackjackGame game;
+
+    @Setup
+    public void setUp() {
+        List<Card> shoe = new ArrayList<>();
+        shoe.add(new Card(pair, "Hearts"));
+        shoe.add(new Card("10", "Hearts"));
+        shoe.add(new Card(pair, "Spades"));
+        shoe.add(new Card("6", "Hearts"));
+        for (int deck = 0; deck < decks; deck++) {
+            for (String suit : SUITS) {
+                for (String value : VALUES) {
+                    shoe.add(new Card(value, suit));
+                }
+            }
+        }
+        shoe.remove(shoe.lastIndexOf(new Card(pair, "Hearts")));
+        shoe.remove(shoe.lastIndexOf(new Card("10", "Hearts")));
+        shoe.remove(shoe.lastIndexOf(new Card(pair, "Spades")));
+        shoe.remove(shoe.lastIndexOf(new Card("6", "Hearts")));
+
+        game = new BlackjackGame();
+        game.initializeDeck(decks);
+        game.replaceDeck(shoe);
+        game.placeBet(10);
+        game.dealInitialCards();
+    }
+
+    @Benchmark
+    public ActionValues splitDecision() {
+        return new ExpectedValueCalculator(new DealerProbabilityCalculator(1), ForkJoinPool.commonPool()).values(game);
+    }
+}
@@ -0,0 +1,40 @@
+package com.game.blackjack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.game.blackjack.store.GameCodec;
+
+@State(Scope.Thread)
+public class GameCodecBenchmark {
+
+    @Param({ "1", "8" })
+    public int decks;
+
+    private ShuffleEngine shuffleEngine;
+    private BlackjackGame game;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        shuffleEngine = ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42);
+        game = new BlackjackGame(shuffleEngine);
+        game.initializeDeck(decks);
+        game.placeBet(10);
+        game.dealInitialCards();
+        encoded = GameCodec.encode(game);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return GameCodec.encode(game);
+    }
+
+    @Benchmark
+    public BlackjackGame decode() {
+        return GameCodec.decode(encoded, shuffleEngine, null);
+    }
+}
@@ -0,0 +1,59 @@
+package com.game.blackjack;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.blackjack.dto.GameResponse;
+
+@State(Scope.Thread)
+public class GameResponseBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+    private BlackjackGame game;
+
+    @Setup
+    public void setUp() {
+        game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42));
+        List<Card> cards = new ArrayList<>();
+        for (String value : new String[] { "8", "5", "8", "K", "3", "9" }) {
+            cards.add(new Card(value, "Clubs"));
+        }
+        game.replaceDeck(cards);
+        game.placeBet(10);
+        game.dealInitialCards();
+        game.split();
+    }
+
+    @Benchmark
+    public GameResponse from() {
+        return GameResponse.from(game);
+    }
+
+    @Benchmark
+    public int jackson() throws IOException {
+        output.reset();
+        objectMapper.writeValue(output, GameResponse.from(game));
+        return output.size();
+    }
+
+    @Benchmark
+    public int converter() throws IOException {
+        output.reset();
+        GameResponseConverter.write(GameResponse.from(game), output);
+        return output.size();
+    }
+
+    @Benchmark
+    public int encode() {
+        return GameResponseConverter.encode(game).json().length;
+    }
+}
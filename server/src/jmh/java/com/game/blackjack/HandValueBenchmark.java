@@ -0,0 +1,49 @@
+package com.game.blackjack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class HandValueBenchmark {
+
+    @Param({ "2", "5" })
+    public int cardCount;
+
+    private BlackjackGame game;
+    private List<Card> cards;
+    private Hand hand;
+
+    @Setup
+    public void setUp() {
+        game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42));
+        String[] values = { "A", "3", "A", "2", "K" };
+        cards = new ArrayList<>();
+        hand = new Hand(10);
+        for (int i = 0; i < cardCount; i++) {
+            Card card = new Card(values[i], "Spades");
+            cards.add(card);
+            hand.addCard(card);
+        }
+    }
+
+    @Benchmark
+    public int calculateHandValue() {
+        return game.calculateHandValue(cards);
+    }
+
+    @Benchmark
+    public int calculateHandValueOfHand() {
+        return game.calculateHandValue(hand.getCards());
+    }
+
+    @Benchmark
+    public int handValue() {
+        return hand.value();
+    }
+}
@@ -0,0 +1,81 @@
+package com.game.blackjack;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.game.blackjack.journal.RoundJournal;
+
+@State(Scope.Thread)
+public class JournalBenchmark {
+
+    private static final int BET = 10;
+
+    @Param({ "false", "true" })
+    public boolean journaled;
+
+    private ShuffleEngine shuffleEngine;
+    private RoundJournal journal;
+    private BlackjackGame game;
+    private int games;
+
+    @Setup
+    public void setUp() throws IOException {
+        shuffleEngine = ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42);
+        if (journaled) {
+            Path directory = Files.createTempDirectory("journal-benchmark");
+            journal = new RoundJournal(directory, 64 << 20, Duration.ofMillis(10), Duration.ZERO,
+                    Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor());
+            journal.recover(balance -> new BlackjackGame(shuffleEngine));
+        }
+        game = newGame();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Benchmark
+    public int fullRound() {
+        if (game.getBalance() < BET) {
+            game = newGame();
+        }
+        if (game.needsReshuffle()) {
+            game.initializeDeck(6);
+        }
+        game.placeBet(BET);
+        game.dealInitialCards();
+        if (!game.isInsuranceResolved()) {
+            game.resolveInsurance(0);
+        }
+        while (!game.isGameOver()) {
+            if (game.getCurrentHand().value() < 17) {
+                game.hitPlayer();
+            } else {
+                game.stand();
+            }
+        }
+        return game.getBalance();
+    }
+
+    private BlackjackGame newGame() {
+        BlackjackGame fresh = new BlackjackGame(shuffleEngine);
+        if (journal != null) {
+            journal.attach("benchmark-" + games++, fresh);
+        }
+        fresh.initializeDeck(6);
+        return fresh;
+    }
+}
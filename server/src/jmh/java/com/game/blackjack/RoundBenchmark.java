@@ -0,0 +1,54 @@
+package com.game.blackjack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class RoundBenchmark {
+
+    private static final int BET = 10;
+
+    @Param({ "1", "6" })
+    public int decks;
+
+    private ShuffleEngine shuffleEngine;
+    private BlackjackGame game;
+
+    @Setup
+    public void setUp() {
+        shuffleEngine = ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42);
+        game = newGame();
+    }
+
+    @Benchmark
+    public int fullRound() {
+        if (game.getBalance() < BET) {
+            game = newGame();
+        }
+        if (game.needsReshuffle()) {
+            game.initializeDeck(decks);
+        }
+        game.placeBet(BET);
+        game.dealInitialCards();
+        if (!game.isInsuranceResolved()) {
+            game.resolveInsurance(0);
+        }
+        while (!game.isGameOver()) {
+            if (game.getCurrentHand().value() < 17) {
+                game.hitPlayer();
+            } else {
+                game.stand();
+            }
+        }
+        return game.getBalance();
+    }
+
+    private BlackjackGame newGame() {
+        BlackjackGame fresh = new BlackjackGame(shuffleEngine);
+        fresh.initializeDeck(decks);
+        return fresh;
+    }
+}
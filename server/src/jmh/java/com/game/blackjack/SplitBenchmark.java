@@ -0,0 +1,46 @@
+package com.game.blackjack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class SplitBenchmark {
+
+    private static final int BET = 10;
+    private static final String[] SUITS = { "Hearts", "Diamonds", "Clubs", "Spades" };
+
+    @Param({ "1", "3", "7" })
+    public int splits;
+
+    private BlackjackGame game;
+    private List<Card> eights;
+
+    @Setup
+    public void setUp() {
+        game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42));
+        eights = new ArrayList<>();
+        for (int i = 0; i < 2 * splits + 8; i++) {
+            eights.add(new Card("8", SUITS[i % SUITS.length]));
+        }
+    }
+
+    @Benchmark
+    public int splitChain() {
+        game.replaceDeck(eights);
+        game.placeBet(BET);
+        game.dealInitialCards();
+        for (int i = 0; i < splits; i++) {
+            game.split();
+        }
+        while (!game.isGameOver()) {
+            game.stand();
+        }
+        return game.getBalance();
+    }
+}
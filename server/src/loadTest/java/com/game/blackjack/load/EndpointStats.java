@@ -0,0 +1,43 @@
+package com.game.blackjack.load;
+
+final class EndpointStats {
+
+    private final LatencySamples samples = new LatencySamples();
+    private long ok;
+    private long rateLimited;
+    private long errors;
+
+    void record(GameClient.Response response) {
+        samples.add(response.elapsedNanos());
+        if (response.isOk()) {
+            ok++;
+        } else if (response.status() == 429) {
+            rateLimited++;
+        } else {
+            errors++;
+        }
+    }
+
+    void merge(EndpointStats other) {
+        samples.addAll(other.samples);
+        ok += other.ok;
+        rateLimited += other.rateLimited;
+        errors += other.errors;
+    }
+
+    LatencySamples samples() {
+        return samples;
+    }
+
+    long requests() {
+        return ok + rateLimited + errors;
+    }
+
+    long rateLimited() {
+        return rateLimited;
+    }
+
+    long errors() {
+        return errors;
+    }
+}
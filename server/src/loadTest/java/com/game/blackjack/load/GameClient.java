@@ -0,0 +1,70 @@
+package com.game.blackjack.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+final class GameClient {
+
+    private static final String SESSION_COOKIE = "JSESSIONID=";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private String sessionCookie;
+
+    GameClient(HttpClient http, URI baseUri) {
+        this.http = http;
+        this.baseUri = baseUri;
+    }
+
+    Response get(String path) throws IOException, InterruptedException {
+        return send(request(path).GET());
+    }
+
+    Response post(String path, String json) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher body = json == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(json);
+        return send(request(path)
+                .header("Content-Type", "application/json")
+                .POST(body));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (sessionCookie != null) {
+            builder.header("Cookie", sessionCookie);
+        }
+        return builder;
+    }
+
+    private Response send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - start;
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            if (header.startsWith(SESSION_COOKIE)) {
+                int end = header.indexOf(';');
+                sessionCookie = end < 0 ? header : header.substring(0, end);
+            }
+        }
+        return new Response(response.statusCode(), response.body(), elapsed);
+    }
+
+    record Response(int status, String body, long elapsedNanos) {
+
+        boolean isOk() {
+            return status == 200;
+        }
+
+        boolean has(String field, Object value) {
+            return body.contains("\"" + field + "\":" + value);
+        }
+    }
+}
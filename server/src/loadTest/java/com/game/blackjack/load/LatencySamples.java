@@ -0,0 +1,43 @@
+package com.game.blackjack.load;
+
+import java.util.Arrays;
+
+final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private boolean sorted = true;
+
+    void add(long elapsedNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = elapsedNanos;
+        sorted = false;
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > nanos.length) {
+            nanos = Arrays.copyOf(nanos, Math.max(size + other.size, nanos.length * 2));
+        }
+        System.arraycopy(other.nanos, 0, nanos, size, other.size);
+        size += other.size;
+        sorted = false;
+    }
+
+    int count() {
+        return size;
+    }
+
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(nanos, 0, size);
+            sorted = true;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return nanos[Math.max(0, Math.min(size - 1, index))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,151 @@
+package com.game.blackjack.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Arguments arguments = new Arguments(args);
+        int clients = arguments.intValue("clients", 1000);
+        int durationSeconds = arguments.intValue("duration", 30);
+        int decks = arguments.intValue("decks", 6);
+        int backoffMillis = arguments.intValue("backoff-ms", 250);
+        String target = arguments.stringValue("target", null);
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("app.rate-limit.permit-limit", arguments.intValue("permit-limit", Integer.MAX_VALUE));
+        properties.put("app.rate-limit.window-seconds", arguments.intValue("window-seconds", 60));
+        properties.put("spring.threads.virtual.enabled", arguments.booleanValue("virtual-threads", false));
+
+        LocalServer server = target == null ? LocalServer.start(properties) : null;
+        try {
+            URI baseUri = server != null ? server.baseUri() : URI.create(target);
+            System.out.printf("%d clients for %ds against %s%s%n", clients, durationSeconds, baseUri,
+                    server != null ? " " + properties : "");
+            report(run(baseUri, clients, durationSeconds, decks, backoffMillis));
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    private static Summary run(URI baseUri, int clients, int durationSeconds, int decks, int backoffMillis)
+            throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        LongAdder transportErrors = new LongAdder();
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<RoundPlayer>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .build();
+            long start = System.nanoTime();
+            long deadline = start + durationSeconds * 1_000_000_000L;
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    RoundPlayer player = new RoundPlayer(new GameClient(http, baseUri), mapper, decks);
+                    go.await();
+                    while (System.nanoTime() < deadline) {
+                        boolean completed;
+                        try {
+                            completed = player.playRound();
+                        } catch (IOException e) {
+                            transportErrors.increment();
+                            completed = false;
+                        }
+                        if (!completed) {
+                            Thread.sleep(backoffMillis);
+                        }
+                    }
+                    return player;
+                }));
+            }
+            go.countDown();
+
+            Summary summary = new Summary();
+            for (Future<RoundPlayer> future : futures) {
+                summary.add(future.get());
+            }
+            summary.elapsedNanos = System.nanoTime() - start;
+            summary.transportErrors = transportErrors.sum();
+            return summary;
+        }
+    }
+
+    private static void report(Summary summary) {
+        double seconds = summary.elapsedNanos / 1e9;
+        long requests = 0;
+        long rateLimited = 0;
+        long errors = 0;
+        System.out.printf("%-10s %9s %9s %8s %8s %8s %8s %8s %7s %7s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "429 %", "err %");
+        for (Map.Entry<String, EndpointStats> entry : summary.endpoints.entrySet()) {
+            EndpointStats stats = entry.getValue();
+            if (stats.requests() == 0) {
+                continue;
+            }
+            LatencySamples samples = stats.samples();
+            System.out.printf("%-10s %9d %9.0f %8.2f %8.2f %8.2f %8.2f %8.2f %7.2f %7.2f%n",
+                    entry.getKey(),
+                    stats.requests(),
+                    stats.requests() / seconds,
+                    samples.percentileMillis(50),
+                    samples.percentileMillis(90),
+                    samples.percentileMillis(99),
+                    samples.percentileMillis(99.9),
+                    samples.percentileMillis(100),
+                    percent(stats.rateLimited(), stats.requests()),
+                    percent(stats.errors(), stats.requests()));
+            requests += stats.requests();
+            rateLimited += stats.rateLimited();
+            errors += stats.errors();
+        }
+        System.out.printf("total: %d requests (%.0f req/s), %d rounds (%.0f rounds/s), 429 %.2f%%, errors %.2f%%%n",
+                requests, requests / seconds, summary.rounds, summary.rounds / seconds,
+                percent(rateLimited, requests), percent(errors, requests));
+        if (summary.transportErrors > 0) {
+            System.out.printf("transport errors: %d%n", summary.transportErrors);
+        }
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0 : 100.0 * part / total;
+    }
+
+    private static final class Summary {
+
+        private final Map<String, EndpointStats> endpoints = new LinkedHashMap<>();
+        private long rounds;
+        private long elapsedNanos;
+        private long transportErrors;
+
+        Summary() {
+            for (String endpoint : RoundPlayer.ENDPOINTS) {
+                endpoints.put(endpoint, new EndpointStats());
+            }
+        }
+
+        void add(RoundPlayer player) {
+            player.stats().forEach((endpoint, stats) -> endpoints.get(endpoint).merge(stats));
+            rounds += player.rounds();
+        }
+    }
+}
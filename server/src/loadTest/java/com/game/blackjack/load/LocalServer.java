@@ -0,0 +1,44 @@
+package com.game.blackjack.load;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.game.blackjack.BlackjackApplication;
+
+final class LocalServer implements AutoCloseable {
+
+    private final ConfigurableApplicationContext context;
+    private final URI baseUri;
+
+    private LocalServer(ConfigurableApplicationContext context) {
+        this.context = context;
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.baseUri = URI.create("http://localhost:" + port);
+    }
+
+    static LocalServer start(Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.game.blackjack", "WARN");
+        properties.put("spring.main.banner-mode", "off");
+        properties.putAll(overrides);
+        return new LocalServer(new SpringApplicationBuilder(BlackjackApplication.class)
+                .properties(properties)
+                .run());
+    }
+
+    URI baseUri() {
+        return baseUri;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,101 @@
+package com.game.blackjack.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.ShuffleEngine;
+import com.game.blackjack.journal.RoundJournal;
+
+public final class RecoveryBenchmark {
+
+    private static final int BET = 10;
+
+    private RecoveryBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Arguments arguments = new Arguments(args);
+        int sessions = arguments.intValue("sessions", 100_000);
+        int rounds = arguments.intValue("rounds", 20);
+        int tailRounds = arguments.intValue("tail-rounds", 1);
+        int decks = arguments.intValue("decks", 6);
+        ShuffleEngine shuffleEngine = ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42);
+        Path directory = Files.createTempDirectory("recovery-benchmark");
+        try {
+            try (RoundJournal journal = open(directory)) {
+                journal.recover(balance -> new BlackjackGame(shuffleEngine));
+                for (int i = 0; i < sessions; i++) {
+                    BlackjackGame game = new BlackjackGame(shuffleEngine);
+                    journal.attach("session-" + i, game);
+                    game.initializeDeck(decks);
+                    play(game, rounds);
+                }
+            }
+            System.out.printf("%d sessions x %d rounds, %d decks%n", sessions, rounds, decks);
+            System.out.printf("%-16s %10s %10s %12s%n", "recovery", "sessions", "ms", "us/session");
+
+            try (RoundJournal journal = open(directory)) {
+                long start = System.nanoTime();
+                Map<String, BlackjackGame> games = journal.recover(balance -> new BlackjackGame(shuffleEngine));
+                print("full replay", games.size(), System.nanoTime() - start);
+
+                journal.snapshot();
+                for (BlackjackGame game : games.values()) {
+                    play(game, tailRounds);
+                }
+            }
+
+            try (RoundJournal journal = open(directory)) {
+                long start = System.nanoTime();
+                Map<String, BlackjackGame> games = journal.recover(balance -> new BlackjackGame(shuffleEngine));
+                print("snapshot + tail", games.size(), System.nanoTime() - start);
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static RoundJournal open(Path directory) {
+        return new RoundJournal(directory, 64 << 20, Duration.ofMillis(10), Duration.ZERO,
+                Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor());
+    }
+
+    private static void play(BlackjackGame game, int rounds) {
+        for (int round = 0; round < rounds && game.getBalance() >= BET; round++) {
+            if (game.needsReshuffle()) {
+                game.initializeDeck(game.getNumberOfDecks());
+            }
+            game.placeBet(BET);
+            game.dealInitialCards();
+            if (!game.isInsuranceResolved()) {
+                game.resolveInsurance(0);
+            }
+            while (!game.isGameOver()) {
+                if (game.getCurrentHand().value() < 17) {
+                    game.hitPlayer();
+                } else {
+                    game.stand();
+                }
+            }
+        }
+    }
+
+    private static void print(String label, int sessions, long nanos) {
+        System.out.printf("%-16s %10d %10.1f %12.2f%n", label, sessions, nanos / 1e6, nanos / 1e3 / sessions);
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.game.blackjack.load;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+final class RoundPlayer {
+
+    static final String[] ENDPOINTS = { "reset", "bet", "start", "insurance", "split", "hit", "stand" };
+
+    private static final String BASE_PATH = "/api/blackjack/";
+    private static final int BET = 10;
+    private static final int MAX_SPLITS = 3;
+    private static final int MAX_ACTIONS = 32;
+
+    private final GameClient client;
+    private final ObjectMapper mapper;
+    private final int decks;
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private long rounds;
+
+    RoundPlayer(GameClient client, ObjectMapper mapper, int decks) {
+        this.client = client;
+        this.mapper = mapper;
+        this.decks = decks;
+        for (String endpoint : ENDPOINTS) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    long rounds() {
+        return rounds;
+    }
+
+    boolean playRound() throws IOException, InterruptedException {
+        GameClient.Response response = send("bet", "{\"amount\":" + BET + "}");
+        if (response.status() == 400) {
+            response = send("reset", "{\"decks\":" + decks + "}");
+            if (!response.isOk()) {
+                return false;
+            }
+            response = send("bet", "{\"amount\":" + BET + "}");
+        }
+        if (!response.isOk()) {
+            return false;
+        }
+
+        response = send("start", null);
+        if (!response.isOk()) {
+            return false;
+        }
+        JsonNode state = mapper.readTree(response.body());
+        if (state.path("insuranceOffered").asBoolean() && !state.path("insuranceResolved").asBoolean()) {
+            response = send("insurance", "{\"amount\":0}");
+            if (!response.isOk()) {
+                return false;
+            }
+            state = mapper.readTree(response.body());
+        }
+
+        int splits = 0;
+        for (int actions = 0; !state.path("gameOver").asBoolean(); actions++) {
+            JsonNode hand = currentHand(state);
+            if (hand == null || actions == MAX_ACTIONS) {
+                return false;
+            }
+            String action;
+            if (splits < MAX_SPLITS && isPair(hand) && state.path("balance").asInt() >= hand.path("bet").asInt()) {
+                action = "split";
+                splits++;
+            } else {
+                action = handValue(hand) < 17 ? "hit" : "stand";
+            }
+            response = send(action, null);
+            if (!response.isOk()) {
+                return false;
+            }
+            state = mapper.readTree(response.body());
+        }
+        rounds++;
+        return true;
+    }
+
+    private GameClient.Response send(String endpoint, String json) throws IOException, InterruptedException {
+        GameClient.Response response = "start".equals(endpoint)
+                ? client.get(BASE_PATH + "start?decks=" + decks)
+                : client.post(BASE_PATH + endpoint, json);
+        stats.get(endpoint).record(response);
+        return response;
+    }
+
+    private static JsonNode currentHand(JsonNode state) {
+        for (JsonNode hand : state.path("playerHands")) {
+            if (hand.path("isTurn").asBoolean()) {
+                return hand;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isPair(JsonNode hand) {
+        JsonNode cards = hand.path("cards");
+        return cards.size() == 2 && points(cards.get(0)) == points(cards.get(1));
+    }
+
+    private static int handValue(JsonNode hand) {
+        int total = 0;
+        boolean ace = false;
+        for (JsonNode card : hand.path("cards")) {
+            int points = points(card);
+            ace |= points == 11;
+            total += points == 11 ? 1 : points;
+        }
+        return ace && total + 10 <= 21 ? total + 10 : total;
+    }
+
+    private static int points(JsonNode card) {
+        String value = card.path("value").asText();
+        return switch (value) {
+            case "A" -> 11;
+            case "J", "Q", "K" -> 10;
+            default -> Integer.parseInt(value);
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package com.game.blackjack.load;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.ref.Reference;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.ShuffleEngine;
+import com.game.blackjack.store.GameCodec;
+import com.game.blackjack.store.GameStore;
+import com.game.blackjack.store.InMemoryGameStore;
+import com.game.blackjack.store.OffHeapGameStore;
+
+public final class SessionFootprintBenchmark {
+
+    private static final int BET = 10;
+
+    private SessionFootprintBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        Arguments arguments = new Arguments(args);
+        int sessions = arguments.intValue("sessions", 1_000_000);
+        int decks = arguments.intValue("decks", 6);
+        String mode = arguments.stringValue("mode", "offheap");
+        ShuffleEngine shuffleEngine = ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42);
+        IntFunction<BlackjackGame> games = i -> {
+            BlackjackGame game = new BlackjackGame(shuffleEngine);
+            game.initializeDeck(decks);
+            game.placeBet(BET);
+            game.dealInitialCards();
+            return game;
+        };
+
+        long heapBefore = usedHeap();
+        long directBefore = usedDirect();
+        long start = System.nanoTime();
+        Object retained = switch (mode) {
+            case "objects" -> {
+                Map<String, BlackjackGame> objects = new HashMap<>();
+                for (int i = 0; i < sessions; i++) {
+                    objects.put("session-" + i, games.apply(i));
+                }
+                yield objects;
+            }
+            case "heap" -> fill(new InMemoryGameStore(Duration.ofHours(1)), sessions, games);
+            case "offheap" -> fill(new OffHeapGameStore(Duration.ofHours(1), 8L << 30), sessions, games);
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        };
+        long elapsed = System.nanoTime() - start;
+        long heap = usedHeap() - heapBefore;
+        long direct = usedDirect() - directBefore;
+
+        System.out.printf("%d idle sessions, %d decks, mode %s%n", sessions, decks, mode);
+        System.out.printf("%-12s %12s %12s %14s %10s%n", "mode", "heap MB", "direct MB", "heap B/session", "ms");
+        System.out.printf("%-12s %12.1f %12.1f %14.1f %10.1f%n", mode, heap / 1048576.0, direct / 1048576.0,
+                (double) heap / sessions, elapsed / 1e6);
+        Reference.reachabilityFence(retained);
+    }
+
+    private static GameStore fill(GameStore store, int sessions, IntFunction<BlackjackGame> games) {
+        for (int i = 0; i < sessions; i++) {
+            store.save("session-" + i, GameCodec.encode(games.apply(i)));
+        }
+        return store;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long usedDirect() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+            .filter(pool -> pool.getName().equals("direct"))
+            .mapToLong(BufferPoolMXBean::getMemoryUsed)
+            .sum();
+    }
+}
@@ -0,0 +1,80 @@
+package com.game.blackjack.load;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import com.game.blackjack.ShuffleEngine;
+import com.game.blackjack.odds.DealerProbabilityCalculator;
+import com.game.blackjack.simulation.BatchResult;
+import com.game.blackjack.simulation.BatchRunner;
+import com.game.blackjack.simulation.HitBelowStrategy;
+import com.game.blackjack.simulation.InsurancePolicy;
+import com.game.blackjack.simulation.PlayerStrategy;
+import com.game.blackjack.simulation.RuleMatrix;
+import com.game.blackjack.strategy.BasicStrategy;
+
+public final class SimulationMatrix {
+
+    private SimulationMatrix() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Arguments arguments = new Arguments(args);
+        List<Integer> decks = new ArrayList<>();
+        for (String value : list(arguments.stringValue("decks", "1,2,4,6,8"))) {
+            decks.add(Integer.parseInt(value));
+        }
+        List<Boolean> dealerHitsOnSoft17 = new ArrayList<>();
+        for (String value : list(arguments.stringValue("h17", "false,true"))) {
+            dealerHitsOnSoft17.add(Boolean.parseBoolean(value));
+        }
+        List<InsurancePolicy> insurance = new ArrayList<>();
+        for (String value : list(arguments.stringValue("insurance", "NEVER,ALWAYS"))) {
+            insurance.add(InsurancePolicy.valueOf(value.toUpperCase(Locale.ROOT)));
+        }
+        Map<String, PlayerStrategy> strategies = new LinkedHashMap<>();
+        for (String name : list(arguments.stringValue("strategies", "basic,stand-17"))) {
+            strategies.put(name, strategy(name));
+        }
+        int rounds = arguments.intValue("rounds", 1_000_000);
+        int bet = arguments.intValue("bet", 10);
+        int seed = arguments.intValue("seed", 1);
+        String output = arguments.stringValue("output", null);
+
+        RuleMatrix matrix = new RuleMatrix(decks, dealerHitsOnSoft17, insurance, strategies);
+        BatchRunner runner = new BatchRunner(ForkJoinPool.commonPool(), ShuffleEngine.DEFAULT_ALGORITHM);
+        long start = System.nanoTime();
+        List<BatchResult> results = runner.run(matrix, rounds, bet, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        String table = BatchRunner.table(results);
+        if (output != null) {
+            Files.writeString(Path.of(output), table);
+            System.out.printf("wrote %d rows to %s%n", results.size(), output);
+        } else {
+            System.out.print(table);
+        }
+        System.out.printf("%d cells x %d rounds in %.1fs (%.0f rounds/s)%n",
+                results.size(), rounds, seconds, results.size() * (double) rounds / seconds);
+    }
+
+    private static PlayerStrategy strategy(String name) {
+        if (name.equals("basic")) {
+            return new BasicStrategy(new DealerProbabilityCalculator(4096));
+        }
+        if (name.startsWith("stand-")) {
+            return new HitBelowStrategy(Integer.parseInt(name.substring("stand-".length())));
+        }
+        throw new IllegalArgumentException("Unknown strategy: " + name + " (use basic or stand-N)");
+    }
+
+    private static String[] list(String value) {
+        return value.split(",");
+    }
+}
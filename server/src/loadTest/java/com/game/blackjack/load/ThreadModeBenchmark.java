@@ -0,0 +1,105 @@
+package com.game.blackjack.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ThreadModeBenchmark {
+
+    private static final String START = "/api/blackjack/start";
+    private static final String HIT = "/api/blackjack/hit";
+    private static final String STATE = "/api/blackjack/state";
+
+    private ThreadModeBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Arguments arguments = new Arguments(args);
+        int clients = arguments.intValue("clients", 2000);
+        int requests = arguments.intValue("requests", 50);
+        int warmupRequests = arguments.intValue("warmup", 10);
+
+        System.out.printf("%d clients x %d requests per endpoint%n", clients, requests);
+        System.out.printf("%-9s %-7s %10s %9s %9s %9s %7s%n",
+                "threads", "path", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (boolean virtualThreads : new boolean[] { false, true }) {
+            try (LocalServer server = LocalServer.start(Map.of(
+                    "spring.threads.virtual.enabled", virtualThreads,
+                    "app.rate-limit.permit-limit", Integer.MAX_VALUE))) {
+                String mode = virtualThreads ? "virtual" : "platform";
+                measure(server.baseUri(), clients, warmupRequests, HIT);
+                print(mode, HIT, measure(server.baseUri(), clients, requests, HIT));
+                print(mode, STATE, measure(server.baseUri(), clients, requests, STATE));
+            }
+        }
+    }
+
+    private static Result measure(URI baseUri, int clients, int requests, String path) throws Exception {
+        LongAdder errors = new LongAdder();
+        CountDownLatch ready = new CountDownLatch(clients);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<LatencySamples>> futures = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .build();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    GameClient client = new GameClient(http, baseUri);
+                    try {
+                        client.get(START);
+                    } finally {
+                        ready.countDown();
+                    }
+                    go.await();
+                    return play(client, path, requests, errors);
+                }));
+            }
+            ready.await();
+            long start = System.nanoTime();
+            go.countDown();
+            LatencySamples samples = new LatencySamples();
+            for (Future<LatencySamples> future : futures) {
+                samples.addAll(future.get());
+            }
+            return new Result(samples, errors.sum(), System.nanoTime() - start);
+        }
+    }
+
+    private static LatencySamples play(GameClient client, String path, int requests, LongAdder errors)
+            throws Exception {
+        LatencySamples samples = new LatencySamples();
+        for (int i = 0; i < requests; i++) {
+            GameClient.Response response = HIT.equals(path) ? client.post(path, null) : client.get(path);
+            samples.add(response.elapsedNanos());
+            if (!response.isOk()) {
+                errors.increment();
+            } else if (response.has("gameOver", true)) {
+                client.get(START);
+            }
+        }
+        return samples;
+    }
+
+    private static void print(String mode, String path, Result result) {
+        System.out.printf("%-9s %-7s %10.0f %9.2f %9.2f %9.2f %7d%n",
+                mode,
+                path.substring(path.lastIndexOf('/')),
+                result.samples().count() / (result.elapsedNanos() / 1e9),
+                result.samples().percentileMillis(50),
+                result.samples().percentileMillis(99),
+                result.samples().percentileMillis(100),
+                result.errors());
+    }
+
+    private record Result(LatencySamples samples, long errors, long elapsedNanos) {
+    }
+}
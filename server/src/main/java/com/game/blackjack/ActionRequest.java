@@ -0,0 +1,61 @@
+package com.game.blackjack;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class ActionRequest {
+
+    @NotNull(message = "Action type is required")
+    private ActionType type;
+
+    @Min(value = 0, message = "Amount cannot be negative")
+    @Max(value = 100000, message = "Amount cannot exceed $100,000")
+    private Integer amount;
+
+    @Min(value = 1, message = "Must use at least 1 deck")
+    @Max(value = 8, message = "Cannot use more than 8 decks")
+    private Integer decks;
+
+    private Boolean dealerHitsOnSoft17;
+
+    public ActionRequest() {
+    }
+
+    public ActionRequest(ActionType type, Integer amount) {
+        this.type = type;
+        this.amount = amount;
+    }
+
+    public ActionType getType() {
+        return type;
+    }
+
+    public void setType(ActionType type) {
+        this.type = type;
+    }
+
+    public Integer getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Integer amount) {
+        this.amount = amount;
+    }
+
+    public Integer getDecks() {
+        return decks;
+    }
+
+    public void setDecks(Integer decks) {
+        this.decks = decks;
+    }
+
+    public Boolean getDealerHitsOnSoft17() {
+        return dealerHitsOnSoft17;
+    }
+
+    public void setDealerHitsOnSoft17(Boolean dealerHitsOnSoft17) {
+        this.dealerHitsOnSoft17 = dealerHitsOnSoft17;
+    }
+}
@@ -0,0 +1,24 @@
+package com.game.blackjack;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum ActionType {
+    BET("bet"),
+    START("start"),
+    HIT("hit"),
+    STAND("stand"),
+    DOUBLE_DOWN("doubledown"),
+    SPLIT("split"),
+    INSURANCE("insurance");
+
+    private final String name;
+
+    ActionType(String name) {
+        this.name = name;
+    }
+
+    @JsonValue
+    public String getName() {
+        return name;
+    }
+}
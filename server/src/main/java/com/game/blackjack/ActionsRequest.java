@@ -0,0 +1,32 @@
+package com.game.blackjack;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class ActionsRequest {
+
+    static final int MAX_ACTIONS = 32;
+
+    @NotEmpty(message = "At least one action is required")
+    @Size(max = MAX_ACTIONS, message = "Cannot send more than 32 actions")
+    private List<@Valid @NotNull(message = "Action is required") ActionRequest> actions;
+
+    public ActionsRequest() {
+    }
+
+    public ActionsRequest(List<ActionRequest> actions) {
+        this.actions = actions;
+    }
+
+    public List<ActionRequest> getActions() {
+        return actions;
+    }
+
+    public void setActions(List<ActionRequest> actions) {
+        this.actions = actions;
+    }
+}
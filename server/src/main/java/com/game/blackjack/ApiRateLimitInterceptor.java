@@ -58,19 +58,7 @@ public class ApiRateLimitInterceptor implements HandlerInterceptor {
         }
 
         long now = clock.millis();
-        String remoteAddress = request.getRemoteAddr();
-        String clientKey = remoteAddress == null || remoteAddress.isBlank()
-            ? ANONYMOUS_CLIENT
-            : remoteAddress;
-
-        RateWindow rateWindow = clientWindows.compute(clientKey, (key, current) -> {
-            if (current == null || now >= current.resetAt()) {
-                return new RateWindow(1, now + windowMillis);
-            }
-            return new RateWindow(current.requests() + 1, current.resetAt());
-        });
-
-        cleanupExpiredWindows(now);
+        RateWindow rateWindow = acquire(request.getRemoteAddr(), now);
 
         long remaining = Math.max(0, permitLimit - rateWindow.requests());
         long resetSeconds = Math.max(1, (rateWindow.resetAt() - now + 999) / 1000);
@@ -93,6 +81,26 @@ public class ApiRateLimitInterceptor implements HandlerInterceptor {
         return false;
     }
 
+    public boolean tryAcquire(String remoteAddress) {
+        return acquire(remoteAddress, clock.millis()).requests() <= permitLimit;
+    }
+
+    private RateWindow acquire(String remoteAddress, long now) {
+        String clientKey = remoteAddress == null || remoteAddress.isBlank()
+            ? ANONYMOUS_CLIENT
+            : remoteAddress;
+
+        RateWindow rateWindow = clientWindows.compute(clientKey, (key, current) -> {
+            if (current == null || now >= current.resetAt()) {
+                return new RateWindow(1, now + windowMillis);
+            }
+            return new RateWindow(current.requests() + 1, current.resetAt());
+        });
+
+        cleanupExpiredWindows(now);
+        return rateWindow;
+    }
+
     private void cleanupExpiredWindows(long now) {
         if (requestCount.incrementAndGet() % CLEANUP_INTERVAL == 0) {
             clientWindows.entrySet().removeIf(entry -> now >= entry.getValue().resetAt());
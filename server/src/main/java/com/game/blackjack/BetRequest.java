@@ -6,9 +6,15 @@ import jakarta.validation.constraints.NotNull;
 
 public class BetRequest {
 
-    @NotNull(message = "Bet amount is required")
-    @Min(value = 1, message = "Bet must be at least $1")
-    @Max(value = 100000, message = "Bet cannot exceed $100,000")
+    static final int MIN_AMOUNT = 1;
+    static final int MAX_AMOUNT = 100000;
+    static final String REQUIRED_MESSAGE = "Bet amount is required";
+    static final String MIN_MESSAGE = "Bet must be at least $1";
+    static final String MAX_MESSAGE = "Bet cannot exceed $100,000";
+
+    @NotNull(message = REQUIRED_MESSAGE)
+    @Min(value = MIN_AMOUNT, message = MIN_MESSAGE)
+    @Max(value = MAX_AMOUNT, message = MAX_MESSAGE)
     private Integer amount;
 
     public BetRequest() {
@@ -3,15 +3,31 @@ package com.game.blackjack;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.lang.NonNull;
 
+import com.game.blackjack.journal.RoundJournal;
+import com.game.blackjack.odds.DealerProbabilityCalculator;
+import com.game.blackjack.odds.ExpectedValueCalculator;
+import com.game.blackjack.store.FileGameStore;
+import com.game.blackjack.store.InMemoryGameStore;
+import com.game.blackjack.store.OffHeapGameStore;
+import com.game.blackjack.store.RedisGameStore;
+import com.game.blackjack.strategy.BasicStrategy;
+
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 @SpringBootApplication
 public class BlackjackApplication {
@@ -45,7 +61,135 @@ public class BlackjackApplication {
     }
 
     @Bean
-    public WebMvcConfigurer corsConfigurer(ApiRateLimitInterceptor apiRateLimitInterceptor) {
+    public ShoePool shoePool(
+            @Value("${app.shoe-pool.capacity:4}") int capacity,
+            @Value("${app.shuffle.algorithm:" + ShuffleEngine.DEFAULT_ALGORITHM + "}") String shuffleAlgorithm,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ExecutorService refillExecutor = backgroundExecutor("shoe-pool-refill", virtualThreads);
+        ShoePool shoePool = new ShoePool(capacity, refillExecutor, shuffleAlgorithm);
+        shoePool.warmUp(1);
+        return shoePool;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.journal.enabled", havingValue = "true")
+    public RoundJournal roundJournal(
+            @Value("${app.journal.directory:data/journal}") String directory,
+            @Value("${app.journal.segment-bytes:67108864}") int segmentBytes,
+            @Value("${app.journal.flush-interval-ms:10}") long flushIntervalMillis,
+            @Value("${app.journal.snapshot-interval-ms:60000}") long snapshotIntervalMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new RoundJournal(
+                Path.of(directory),
+                segmentBytes,
+                Duration.ofMillis(flushIntervalMillis),
+                Duration.ofMillis(snapshotIntervalMillis),
+                backgroundExecutor("journal-flush", virtualThreads),
+                backgroundExecutor("journal-snapshot", virtualThreads));
+    }
+
+    @Bean
+    @ConditionalOnExpression("${app.tiering.enabled:false} and '${app.store.type:session}' == 'session'")
+    public GameTiering gameTiering(
+            @Value("${app.tiering.idle-seconds:300}") long idleSeconds,
+            @Value("${app.tiering.spill-directory:}") String spillDirectory,
+            @Value("${server.servlet.session.timeout:30m}") Duration sessionTimeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        FileGameStore spillStore = spillDirectory.isEmpty()
+                ? null
+                : new FileGameStore(Path.of(spillDirectory), sessionTimeout,
+                        backgroundExecutor("game-spill-sweep", virtualThreads));
+        return new GameTiering(Duration.ofSeconds(idleSeconds), spillStore,
+                backgroundExecutor("game-tiering", virtualThreads));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.store.type", havingValue = "memory")
+    public InMemoryGameStore inMemoryGameStore(@Value("${app.store.ttl-seconds:1800}") long ttlSeconds) {
+        return new InMemoryGameStore(Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.store.type", havingValue = "offheap")
+    public OffHeapGameStore offHeapGameStore(
+            @Value("${app.store.offheap.max-megabytes:1024}") long maxMegabytes,
+            @Value("${app.store.ttl-seconds:1800}") long ttlSeconds) {
+        return new OffHeapGameStore(Duration.ofSeconds(ttlSeconds), maxMegabytes << 20);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.store.type", havingValue = "file")
+    public FileGameStore fileGameStore(
+            @Value("${app.store.file.directory:data/games}") String directory,
+            @Value("${app.store.ttl-seconds:1800}") long ttlSeconds,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new FileGameStore(Path.of(directory), Duration.ofSeconds(ttlSeconds),
+                backgroundExecutor("game-store-sweep", virtualThreads));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.store.type", havingValue = "redis")
+    public RedisGameStore redisGameStore(
+            @Value("${app.store.redis.host:localhost}") String host,
+            @Value("${app.store.redis.port:6379}") int port,
+            @Value("${app.store.redis.password:}") String password,
+            @Value("${app.store.redis.pool-size:16}") int poolSize,
+            @Value("${app.store.redis.timeout-ms:2000}") long timeoutMillis,
+            @Value("${app.store.ttl-seconds:1800}") long ttlSeconds) {
+        return new RedisGameStore(host, port, password, poolSize, Duration.ofSeconds(ttlSeconds),
+                Duration.ofMillis(timeoutMillis));
+    }
+
+    @Bean
+    @ConditionalOnExpression("'${app.store.type:session}' != 'session' or ${app.journal.enabled:false}")
+    public PlayerIdInterceptor playerIdInterceptor(
+            @Value("${app.store.ttl-seconds:1800}") long ttlSeconds,
+            @Value("${server.servlet.session.cookie.secure:false}") boolean secure,
+            @Value("${server.servlet.session.cookie.same-site:lax}") String sameSite) {
+        return new PlayerIdInterceptor(Duration.ofSeconds(ttlSeconds), secure, sameSite);
+    }
+
+    @Bean
+    public DealerProbabilityCalculator dealerProbabilityCalculator(
+            @Value("${app.odds.cache-size:4096}") int cacheSize) {
+        return new DealerProbabilityCalculator(cacheSize);
+    }
+
+    @Bean
+    public ExpectedValueCalculator expectedValueCalculator(DealerProbabilityCalculator dealerProbabilityCalculator) {
+        return new ExpectedValueCalculator(dealerProbabilityCalculator, ForkJoinPool.commonPool());
+    }
+
+    @Bean
+    public BasicStrategy basicStrategy(DealerProbabilityCalculator dealerProbabilityCalculator) {
+        return new BasicStrategy(dealerProbabilityCalculator);
+    }
+
+    @Bean
+    public ConditionalGetMetrics conditionalGetMetrics() {
+        return new ConditionalGetMetrics();
+    }
+
+    @Bean
+    public GameResponseConverter gameResponseConverter() {
+        return new GameResponseConverter();
+    }
+
+    static ExecutorService backgroundExecutor(String name, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name).factory());
+        }
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Bean
+    public WebMvcConfigurer corsConfigurer(
+            ApiRateLimitInterceptor apiRateLimitInterceptor,
+            Optional<PlayerIdInterceptor> playerIdInterceptor) {
         return new WebMvcConfigurer() {
             @Override
             public void addCorsMappings(@NonNull CorsRegistry registry) {
@@ -54,9 +198,10 @@ public class BlackjackApplication {
                 registry.addMapping("/api/**")
                     .allowedOrigins(allowedOrigins)
                     .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                    .allowedHeaders("Content-Type", "Accept", "X-Requested-With")
+                    .allowedHeaders("Content-Type", "Accept", "X-Requested-With", "If-None-Match")
                     .exposedHeaders(
                         "Content-Type",
+                        "ETag",
                         "RateLimit-Policy",
                         "RateLimit-Limit",
                         "RateLimit-Remaining",
@@ -70,6 +215,9 @@ public class BlackjackApplication {
             public void addInterceptors(@NonNull InterceptorRegistry registry) {
                 registry.addInterceptor(apiRateLimitInterceptor)
                     .addPathPatterns("/api/**");
+                playerIdInterceptor.ifPresent(interceptor -> registry.addInterceptor(interceptor)
+                    .addPathPatterns("/api/**")
+                    .excludePathPatterns("/api/health", "/api/blackjack/health"));
             }
         };
     }
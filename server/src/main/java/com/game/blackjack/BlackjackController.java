@@ -1,128 +1,199 @@
 package com.game.blackjack;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import com.game.blackjack.dto.ActionResult;
+import com.game.blackjack.dto.ActionsResponse;
 import com.game.blackjack.dto.BalanceResponse;
 import com.game.blackjack.dto.ErrorResponse;
-import com.game.blackjack.dto.GameResponse;
+import com.game.blackjack.dto.GameDelta;
+import com.game.blackjack.dto.StateResponse;
+import com.game.blackjack.odds.ActionValues;
+import com.game.blackjack.odds.DealerOutcomes;
+import com.game.blackjack.odds.DealerProbabilityCalculator;
+import com.game.blackjack.odds.ExpectedValueCalculator;
+import com.game.blackjack.strategy.BasicStrategy;
+import com.game.blackjack.strategy.Hint;
 
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
 @RestController
 @RequestMapping("/api/blackjack")
 @Validated
 public class BlackjackController {
 
-    private static final int LOW_CARD_THRESHOLD = 20;
     private final BlackjackSessionService sessionService;
+    private final DealerProbabilityCalculator dealerProbabilityCalculator;
+    private final BasicStrategy basicStrategy;
+    private final ExpectedValueCalculator expectedValueCalculator;
+    private final ConditionalGetMetrics conditionalGetMetrics;
 
-    public BlackjackController(BlackjackSessionService sessionService) {
+    public BlackjackController(
+            BlackjackSessionService sessionService,
+            DealerProbabilityCalculator dealerProbabilityCalculator,
+            BasicStrategy basicStrategy,
+            ExpectedValueCalculator expectedValueCalculator,
+            ConditionalGetMetrics conditionalGetMetrics) {
         this.sessionService = sessionService;
+        this.dealerProbabilityCalculator = dealerProbabilityCalculator;
+        this.basicStrategy = basicStrategy;
+        this.expectedValueCalculator = expectedValueCalculator;
+        this.conditionalGetMetrics = conditionalGetMetrics;
     }
 
     @GetMapping("/start")
-    public GameResponse startGame(
+    public StateResponse startGame(
             @RequestParam(required = false, defaultValue = "1") @Min(1) @Max(8) int decks,
             @RequestParam(required = false, defaultValue = "false") boolean dealerHitsOnSoft17,
+            @RequestParam(required = false) Long since,
             HttpSession session) {
 
-        BlackjackGame game = sessionService.getOrCreateGame(session);
-
-        boolean configChanged = game.getNumberOfDecks() != decks;
-        boolean lowCards = game.getDeckSize() < LOW_CARD_THRESHOLD;
-
-        if (configChanged || lowCards) {
-            game.initializeDeck(decks);
-        }
-
-        game.setDealerHitsOnSoft17(dealerHitsOnSoft17);
-        game.dealInitialCards();
-        return GameResponse.from(game);
+        return sessionService.withGame(session, game -> {
+            deal(game, decks, dealerHitsOnSoft17);
+            return state(game, since);
+        });
     }
 
     @PostMapping("/bet")
     public ResponseEntity<?> placeBet(@Valid @RequestBody BetRequest betRequest, HttpSession session) {
-        BlackjackGame game = sessionService.getOrCreateGame(session);
-        if (!game.isBettingOpen()) {
-            game.forfeitRound();
-        }
-        try {
-            Integer amount = betRequest.getAmount();
-            if (amount == null) {
-                return ResponseEntity.badRequest().body(new ErrorResponse("Bet amount is required"));
+        return sessionService.withGame(session, game -> {
+            try {
+                Integer amount = betRequest.getAmount();
+                if (amount == null) {
+                    return ResponseEntity.badRequest().body(new ErrorResponse(BetRequest.REQUIRED_MESSAGE));
+                }
+                bet(game, amount);
+                return ResponseEntity.ok(new BalanceResponse(game.getBalance()));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
             }
-            game.placeBet(amount);
-            return ResponseEntity.ok(new BalanceResponse(game.getBalance()));
-        } catch (IllegalArgumentException | IllegalStateException e) {
-            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
-        }
+        });
     }
 
     @PostMapping("/hit")
-    public GameResponse hit(HttpSession session) {
-        BlackjackGame game = sessionService.getOrCreateGame(session);
-        game.hitPlayer();
-        return GameResponse.from(game);
+    public StateResponse hit(@RequestParam(required = false) Long since, HttpSession session) {
+        return sessionService.withGame(session, game -> {
+            game.hitPlayer();
+            return state(game, since);
+        });
     }
 
     @PostMapping("/stand")
-    public GameResponse stand(HttpSession session) {
-        BlackjackGame game = sessionService.getOrCreateGame(session);
-        game.stand();
-        return GameResponse.from(game);
+    public StateResponse stand(@RequestParam(required = false) Long since, HttpSession session) {
+        return sessionService.withGame(session, game -> {
+            game.stand();
+            return state(game, since);
+        });
     }
 
     @PostMapping("/doubledown")
-    public ResponseEntity<?> doubleDown(HttpSession session) {
+    public ResponseEntity<?> doubleDown(@RequestParam(required = false) Long since, HttpSession session) {
         try {
-            BlackjackGame game = sessionService.getOrCreateGame(session);
-            game.doubleDown();
-            return ResponseEntity.ok(GameResponse.from(game));
+            return sessionService.withGame(session, game -> {
+                game.doubleDown();
+                return ResponseEntity.ok(state(game, since));
+            });
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         }
     }
 
     @PostMapping("/split")
-    public ResponseEntity<?> split(HttpSession session) {
+    public ResponseEntity<?> split(@RequestParam(required = false) Long since, HttpSession session) {
         try {
-            BlackjackGame game = sessionService.getOrCreateGame(session);
-            game.split();
-            return ResponseEntity.ok(GameResponse.from(game));
+            return sessionService.withGame(session, game -> {
+                game.split();
+                return ResponseEntity.ok(state(game, since));
+            });
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         }
     }
 
     @PostMapping("/insurance")
-    public ResponseEntity<?> resolveInsurance(@Valid @RequestBody InsuranceRequest insuranceRequest, HttpSession session) {
+    public ResponseEntity<?> resolveInsurance(
+            @Valid @RequestBody InsuranceRequest insuranceRequest,
+            @RequestParam(required = false) Long since,
+            HttpSession session) {
         try {
-            BlackjackGame game = sessionService.getOrCreateGame(session);
-            Integer amount = insuranceRequest.getAmount();
-            if (amount == null) {
-                return ResponseEntity.badRequest()
-                        .body(new ErrorResponse("Insurance amount is required"));
-            }
-            game.resolveInsurance(amount);
-            return ResponseEntity.ok(GameResponse.from(game));
+            return sessionService.withGame(session, game -> {
+                Integer amount = insuranceRequest.getAmount();
+                if (amount == null) {
+                    return ResponseEntity.badRequest()
+                            .body(new ErrorResponse(InsuranceRequest.REQUIRED_MESSAGE));
+                }
+                game.resolveInsurance(amount);
+                return ResponseEntity.ok(state(game, since));
+            });
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         }
     }
 
+    @PostMapping("/actions")
+    public ActionsResponse applyActions(
+            @Valid @RequestBody ActionsRequest actionsRequest,
+            @RequestParam(required = false) Long since,
+            HttpSession session) {
+        return sessionService.withGame(session, game -> {
+            List<ActionResult> results = new ArrayList<>(actionsRequest.getActions().size());
+            boolean rejected = false;
+            for (ActionRequest action : actionsRequest.getActions()) {
+                String name = action.getType().getName();
+                if (rejected) {
+                    results.add(new ActionResult(name, false, null));
+                    continue;
+                }
+                try {
+                    apply(game, action);
+                    results.add(new ActionResult(name, true, null));
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    results.add(new ActionResult(name, false, e.getMessage()));
+                    rejected = true;
+                }
+            }
+            return new ActionsResponse(results, StateResponse.from(game, since));
+        });
+    }
+
     @GetMapping("/state")
-    public GameResponse getState(HttpSession session) {
-        BlackjackGame game = sessionService.getOrCreateGame(session);
-        return GameResponse.from(game);
+    public ResponseEntity<StateResponse> getState(
+            @RequestParam(required = false) Long since,
+            WebRequest request,
+            HttpSession session) {
+        return sessionService.withGame(session,
+                game -> conditional(game, request, current -> state(current, since)));
+    }
+
+    @GetMapping("/odds")
+    public DealerOutcomes getDealerOdds(HttpSession session) {
+        return sessionService.withGame(session, dealerProbabilityCalculator::outcomes);
+    }
+
+    @GetMapping("/hint")
+    public Hint getHint(HttpSession session) {
+        return sessionService.withGame(session, basicStrategy::hint);
+    }
+
+    @GetMapping("/ev")
+    public ActionValues getExpectedValues(HttpSession session) {
+        return sessionService.withGame(session, expectedValueCalculator::values);
     }
 
     @PostMapping("/reset")
-    public GameResponse reset(@Valid @RequestBody(required = false) ResetRequest payload, HttpSession session) {
+    public StateResponse reset(@Valid @RequestBody(required = false) ResetRequest payload, HttpSession session) {
         int decks = payload != null && payload.getDecks() != null
                 ? payload.getDecks()
                 : 1;
@@ -130,14 +201,92 @@ public class BlackjackController {
                 ? payload.getDealerHitsOnSoft17()
                 : false;
 
-        BlackjackGame game = sessionService.resetGame(session, decks, dealerHitsOnSoft17);
-        return GameResponse.from(game);
+        return sessionService.resetGame(session, decks, dealerHitsOnSoft17, GameResponseConverter::encode);
     }
 
     @GetMapping("/gameover")
-    public boolean isGameOver(HttpSession session) {
-        BlackjackGame game = sessionService.getOrCreateGame(session);
-        return game.isGameOver();
+    public ResponseEntity<Boolean> isGameOver(WebRequest request, HttpSession session) {
+        return sessionService.withGame(session, game -> conditional(game, request, BlackjackGame::isGameOver));
+    }
+
+    private <T> ResponseEntity<T> conditional(
+            BlackjackGame game,
+            WebRequest request,
+            Function<BlackjackGame, T> body) {
+        boolean notModified = request.checkNotModified("\"" + game.getRevision() + "\"");
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            conditionalGetMetrics.record(notModified);
+        }
+        if (notModified) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body.apply(game));
+    }
+
+    private static StateResponse state(BlackjackGame game, Long since) {
+        GameDelta delta = StateResponse.delta(game, since);
+        return delta != null ? delta : GameResponseConverter.encode(game);
+    }
+
+    static void apply(BlackjackGame game, ActionRequest action) {
+        switch (action.getType()) {
+            case BET -> bet(game, betAmount(action.getAmount()));
+            case START -> deal(game,
+                    action.getDecks() != null ? action.getDecks() : 1,
+                    action.getDealerHitsOnSoft17() != null && action.getDealerHitsOnSoft17());
+            case HIT -> game.hitPlayer();
+            case STAND -> game.stand();
+            case DOUBLE_DOWN -> game.doubleDown();
+            case SPLIT -> game.split();
+            case INSURANCE -> game.resolveInsurance(insuranceAmount(action.getAmount()));
+        }
+    }
+
+    private static void bet(BlackjackGame game, int amount) {
+        if (!game.isBettingOpen()) {
+            game.forfeitRound();
+        }
+        game.placeBet(amount);
+    }
+
+    private static void deal(BlackjackGame game, int decks, boolean dealerHitsOnSoft17) {
+        boolean configChanged = game.getNumberOfDecks() != decks;
+        boolean lowCards = game.needsReshuffle();
+
+        if (configChanged || lowCards) {
+            game.initializeDeck(decks);
+        }
+
+        game.setDealerHitsOnSoft17(dealerHitsOnSoft17);
+        game.dealInitialCards();
+    }
+
+    private static int betAmount(Integer amount) {
+        return inRange(required(amount, BetRequest.REQUIRED_MESSAGE),
+                BetRequest.MIN_AMOUNT, BetRequest.MIN_MESSAGE, BetRequest.MAX_AMOUNT, BetRequest.MAX_MESSAGE);
+    }
+
+    private static int insuranceAmount(Integer amount) {
+        return inRange(required(amount, InsuranceRequest.REQUIRED_MESSAGE),
+                InsuranceRequest.MIN_AMOUNT, InsuranceRequest.MIN_MESSAGE,
+                InsuranceRequest.MAX_AMOUNT, InsuranceRequest.MAX_MESSAGE);
+    }
+
+    private static int inRange(int amount, int min, String minMessage, int max, String maxMessage) {
+        if (amount < min) {
+            throw new IllegalArgumentException(minMessage);
+        }
+        if (amount > max) {
+            throw new IllegalArgumentException(maxMessage);
+        }
+        return amount;
+    }
+
+    private static int required(Integer amount, String message) {
+        if (amount == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return amount;
     }
 
 }
@@ -1,15 +1,29 @@
 package com.game.blackjack;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class BlackjackGame {
 
+    public static final int DEFAULT_BALANCE = 1000;
+
+    private static final byte SNAPSHOT_VERSION = 2;
+    private static final byte SNAPSHOT_VERSION_WITHOUT_REVISION = 1;
+    private static final int SNAPSHOT_HEADER = 29;
+    private static final int REVISION_HISTORY = 8;
+    private static final int HISTORY_ENTRY_CAPACITY = 64;
+    private static final int SNAPSHOT_HAND_HEADER = 7;
+    private static final String[] OUTCOMES = { null, "WIN", "LOSS", "TIE", "DECLINED" };
+
     private List<Hand> playerHands;
     private int currentHandIndex;
-    private List<Card> dealerHand;
-    private List<Card> deck;
+    private CardList dealerHand;
+    private final ShuffleEngine shuffleEngine;
+    private final ShoePool shoePool;
+    private Shoe shoe;
     private boolean gameOver;
     private int balance;
     private int initialBet;
@@ -21,44 +35,85 @@ public class BlackjackGame {
     private boolean bettingOpen = true;
     private boolean dealerHitsOnSoft17 = false;
     private int numberOfDecks = 1;
+    private GameListener listener;
+    private int actionDepth;
+    private byte[] drawn = new byte[8];
+    private int drawnCount;
+    private Shoe replayShoe;
+    private boolean shoeInSync = true;
+    private long revision;
+    private ByteBuffer[] history;
 
     public BlackjackGame() {
+        this(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM));
+    }
+
+    public BlackjackGame(ShuffleEngine shuffleEngine) {
+        this(shuffleEngine, null);
+    }
+
+    public BlackjackGame(ShuffleEngine shuffleEngine, ShoePool shoePool) {
+        this(shuffleEngine, shoePool, DEFAULT_BALANCE);
+    }
+
+    public BlackjackGame(ShuffleEngine shuffleEngine, ShoePool shoePool, int startingBalance) {
+        this(shuffleEngine, shoePool, startingBalance, true);
+    }
+
+    private BlackjackGame(ShuffleEngine shuffleEngine, ShoePool shoePool, int startingBalance, boolean dealShoe) {
+        this.shuffleEngine = shuffleEngine;
+        this.shoePool = shoePool;
         this.playerHands = new ArrayList<>();
-        this.dealerHand = new ArrayList<>();
-        this.deck = new ArrayList<>();
+        this.dealerHand = new CardList();
         this.gameOver = false;
-        this.balance = 1000;
+        this.balance = startingBalance;
         this.initialBet = 0;
         this.insuranceBet = 0;
         this.insuranceOffered = false;
         this.insuranceResolved = true;
         this.insuranceOutcome = null;
         this.playerActed = false;
-        initializeDeck(1);
+        this.revision = ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+        if (dealShoe) {
+            initializeDeck(1);
+        } else {
+            this.shoe = new Shoe();
+        }
+    }
+
+    public static BlackjackGame fromSnapshot(ByteBuffer buffer, ShuffleEngine shuffleEngine, ShoePool shoePool) {
+        BlackjackGame game = new BlackjackGame(shuffleEngine, shoePool, DEFAULT_BALANCE, false);
+        game.readSnapshot(buffer);
+        return game;
     }
 
     public void initializeDeck(int numberOfDecks) {
-        deck.clear();
+        beginAction();
         this.numberOfDecks = numberOfDecks;
-        String[] suits = { "Hearts", "Diamonds", "Clubs", "Spades" };
-        String[] values = { "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A" };
-
-        for (int i = 0; i < numberOfDecks; i++) {
-            for (String suit : suits) {
-                for (String value : values) {
-                    deck.add(new Card(value, suit));
-                }
-            }
+        Shoe pooled = shoePool != null ? shoePool.exchange(numberOfDecks, shoe) : null;
+        if (pooled != null) {
+            shoe = pooled;
+        } else if (shoe == null) {
+            shoe = new Shoe(numberOfDecks, shuffleEngine);
+        } else {
+            shoe.refill(numberOfDecks, shuffleEngine);
         }
-        Collections.shuffle(deck);
+        endAction(GameAction.DECKS, numberOfDecks);
+    }
+
+    public void resetDeck(int numberOfDecks) {
+        beginAction();
+        this.numberOfDecks = numberOfDecks;
+        shoe.refill(numberOfDecks, shuffleEngine);
+        endAction(GameAction.DECKS, numberOfDecks);
     }
 
     void replaceDeck(List<Card> cards) {
-        deck.clear();
-        deck.addAll(cards);
+        shoe.replace(cards);
     }
 
     public void dealInitialCards() {
+        beginAction();
         playerHands.clear();
         dealerHand.clear();
 
@@ -73,10 +128,10 @@ public class BlackjackGame {
         currentHandIndex = 0;
         initialHand.setTurn(true);
 
-        initialHand.addCard(deck.remove(0));
-        dealerHand.add(deck.remove(0));
-        initialHand.addCard(deck.remove(0));
-        dealerHand.add(deck.remove(0));
+        initialHand.addCard(drawCard());
+        dealerHand.addCode(drawCode());
+        initialHand.addCard(drawCard());
+        dealerHand.addCode(drawCode());
 
         insuranceOffered = dealerUpcardIsAce();
         insuranceResolved = !insuranceOffered;
@@ -84,6 +139,7 @@ public class BlackjackGame {
         gameOver = false;
         balance -= initialBet;
         bettingOpen = false;
+        endAction(GameAction.DEAL, 0);
     }
 
     public void placeBet(int bet) {
@@ -91,20 +147,22 @@ public class BlackjackGame {
             throw new IllegalStateException("Cannot bet after cards are dealt");
         }
         if (bet <= balance) {
+            beginAction();
             initialBet = bet;
+            endAction(GameAction.BET, bet);
         } else {
             throw new IllegalArgumentException("Bet exceeds balance");
         }
     }
 
     public void resolveAllHands() {
-        int dealerValue = calculateHandValue(dealerHand);
+        int dealerValue = dealerHand.value();
 
         for (Hand hand : playerHands) {
-            int playerValue = calculateHandValue(hand.getCards());
+            int playerValue = hand.value();
             int bet = hand.getBet();
 
-            if (hand.isBusted() || playerValue > 21) {
+            if (hand.isBusted()) {
                 hand.setOutcome("LOSS");
             } else {
                 if (dealerValue > 21) {
@@ -130,7 +188,7 @@ public class BlackjackGame {
     public boolean isTie() {
         if (playerHands.isEmpty())
             return false;
-        return calculateHandValue(playerHands.get(0).getCards()) == calculateHandValue(dealerHand);
+        return playerHands.get(0).value() == dealerHand.value();
     }
 
     public List<Hand> getPlayerHands() {
@@ -141,6 +199,10 @@ public class BlackjackGame {
         return dealerHand;
     }
 
+    public Card getDealerUpcard() {
+        return dealerHand.size() < 2 ? null : dealerHand.get(1);
+    }
+
     public Hand getCurrentHand() {
         if (playerHands.isEmpty() || currentHandIndex >= playerHands.size())
             return null;
@@ -153,15 +215,35 @@ public class BlackjackGame {
             if (currentHand == null)
                 return;
 
+            beginAction();
             playerActed = true;
-            Card newCard = deck.remove(0);
+            Card newCard = drawCard();
             currentHand.addCard(newCard);
 
-            if (calculateHandValue(currentHand.getCards()) > 21) {
+            if (currentHand.value() > 21) {
                 currentHand.setBusted(true);
                 stand();
             }
+            endAction(GameAction.HIT, 0);
+        }
+    }
+
+    public boolean canDoubleDown() {
+        Hand currentHand = getCurrentHand();
+        return !gameOver && currentHand != null
+                && currentHand.getCards().size() == 2
+                && !currentHand.hasDoubledDown()
+                && currentHand.getBet() <= balance;
+    }
+
+    public boolean canSplit() {
+        Hand currentHand = getCurrentHand();
+        if (gameOver || currentHand == null || currentHand.getCards().size() != 2) {
+            return false;
         }
+        List<Card> cards = currentHand.getCards();
+        return getCardValueForSplit(cards.get(0)) == getCardValueForSplit(cards.get(1))
+                && currentHand.getBet() <= balance;
     }
 
     public void doubleDown() {
@@ -179,6 +261,7 @@ public class BlackjackGame {
             throw new IllegalArgumentException("Insufficient balance to double down");
         }
 
+        beginAction();
         playerActed = true;
 
         int bet = currentHand.getBet();
@@ -186,13 +269,14 @@ public class BlackjackGame {
         currentHand.setBet(bet * 2);
         currentHand.setDoubledDown(true);
 
-        Card newCard = deck.remove(0);
+        Card newCard = drawCard();
         currentHand.addCard(newCard);
 
-        if (calculateHandValue(currentHand.getCards()) > 21) {
+        if (currentHand.value() > 21) {
             currentHand.setBusted(true);
         }
         stand();
+        endAction(GameAction.DOUBLE_DOWN, 0);
     }
 
     public void split() {
@@ -218,6 +302,7 @@ public class BlackjackGame {
             throw new IllegalArgumentException("Insufficient balance to split");
         }
 
+        beginAction();
         playerActed = true;
 
         balance -= currentHand.getBet();
@@ -229,21 +314,18 @@ public class BlackjackGame {
 
         playerHands.add(currentHandIndex + 1, newHand);
 
-        currentHand.addCard(deck.remove(0));
+        currentHand.addCard(drawCard());
 
-        newHand.addCard(deck.remove(0));
+        newHand.addCard(drawCard());
+        endAction(GameAction.SPLIT, 0);
     }
 
     private int getCardValueForSplit(Card card) {
-        String val = card.getValue();
-        if ("J".equals(val) || "Q".equals(val) || "K".equals(val))
-            return 10;
-        if ("A".equals(val))
-            return 11;
-        return Integer.parseInt(val);
+        return Card.points(card.getCode());
     }
 
     public void stand() {
+        beginAction();
         playerActed = true;
         Hand currentHand = getCurrentHand();
         if (currentHand != null) {
@@ -258,33 +340,17 @@ public class BlackjackGame {
         } else {
             dealerPlay();
         }
+        endAction(GameAction.STAND, 0);
     }
 
     public int calculateHandValue(List<Card> hand) {
-        int value = 0;
-        int aceCount = 0;
-
-        for (Card card : hand) {
-            if ("J".equals(card.getValue()) || "Q".equals(card.getValue()) || "K".equals(card.getValue())) {
-                value += 10;
-            } else if ("A".equals(card.getValue())) {
-                aceCount++;
-                value += 11;
-            } else {
-                value += Integer.parseInt(card.getValue());
-            }
-        }
-
-        while (value > 21 && aceCount > 0) {
-            value -= 10;
-            aceCount--;
-        }
-
-        return value;
+        return CardList.of(hand).value();
     }
 
     public void setDealerHitsOnSoft17(boolean dealerHitsOnSoft17) {
+        beginAction();
         this.dealerHitsOnSoft17 = dealerHitsOnSoft17;
+        endAction(GameAction.RULES, dealerHitsOnSoft17 ? 1 : 0);
     }
 
     public boolean isDealerHitsOnSoft17() {
@@ -295,6 +361,10 @@ public class BlackjackGame {
         return numberOfDecks;
     }
 
+    public long getShuffleSeed() {
+        return shoe.getSeed();
+    }
+
     public void dealerPlay() {
         boolean allBusted = true;
         for (Hand h : playerHands) {
@@ -305,8 +375,8 @@ public class BlackjackGame {
         }
 
         if (!allBusted) {
-            while (calculateHandValue(dealerHand) < 17 || (dealerHitsOnSoft17 && isSoft17(dealerHand))) {
-                dealerHand.add(deck.remove(0));
+            while (dealerHand.value() < 17 || (dealerHitsOnSoft17 && isSoft17(dealerHand))) {
+                dealerHand.addCode(drawCode());
             }
         }
 
@@ -314,37 +384,8 @@ public class BlackjackGame {
     }
 
     private boolean isSoft17(List<Card> hand) {
-        int value = 0;
-        int aceCount = 0;
-
-        for (Card card : hand) {
-            String cardValue = card.getValue();
-            if ("J".equals(cardValue)) {
-                value += 10;
-            } else if ("Q".equals(cardValue)) {
-                value += 10;
-            } else if ("K".equals(cardValue)) {
-                value += 10;
-            } else if ("A".equals(cardValue)) {
-                aceCount++;
-                value += 11;
-            } else {
-                value += Integer.parseInt(cardValue);
-            }
-        }
-
-        while (value > 21) {
-            if (aceCount <= 0) {
-                break;
-            }
-            value -= 10;
-            aceCount--;
-        }
-
-        if (value != 17) {
-            return false;
-        }
-        return aceCount > 0;
+        CardList cards = CardList.of(hand);
+        return cards.value() == 17 && cards.isSoft();
     }
 
     public int getBalance() {
@@ -369,11 +410,25 @@ public class BlackjackGame {
     }
 
     public int getDeckSize() {
-        return deck.size();
+        return shoe.remaining();
+    }
+
+    public int[] getUnseenPointCounts() {
+        int[] counts = new int[Card.POINT_VALUES];
+        shoe.countRemaining(counts);
+        if (!bettingOpen && !gameOver && !dealerHand.isEmpty()) {
+            counts[Card.pointIndex(dealerHand.codeAt(0))]++;
+        }
+        return counts;
+    }
+
+    public boolean needsReshuffle() {
+        return shoe.isPastCutCard();
     }
 
     public void forfeitRound() {
         if (!bettingOpen && initialBet > 0) {
+            beginAction();
             bettingOpen = true;
             gameOver = true;
             playerHands.clear();
@@ -384,6 +439,7 @@ public class BlackjackGame {
             insuranceResolved = true;
             insuranceOutcome = null;
             playerActed = false;
+            endAction(GameAction.FORFEIT, 0);
         }
     }
 
@@ -444,6 +500,7 @@ public class BlackjackGame {
             throw new IllegalArgumentException("Insufficient balance for insurance");
         }
 
+        beginAction();
         insuranceBet = amount;
         insuranceResolved = true;
         if (amount > 0) {
@@ -461,16 +518,308 @@ public class BlackjackGame {
         } else {
             insuranceOutcome = amount > 0 ? "LOSS" : "DECLINED";
         }
+        endAction(GameAction.INSURANCE, amount);
     }
 
     private boolean dealerUpcardIsAce() {
         if (dealerHand.size() < 2) {
             return false;
         }
-        return "A".equals(dealerHand.get(1).getValue());
+        return Card.isAce(dealerHand.codeAt(1));
     }
 
     private boolean isDealerBlackjack() {
-        return dealerHand.size() == 2 && calculateHandValue(dealerHand) == 21;
+        return dealerHand.isBlackjack();
+    }
+
+    private Card drawCard() {
+        return Card.of(drawCode());
+    }
+
+    public int snapshotSize() {
+        int size = SNAPSHOT_HEADER + dealerHand.size() + shoe.remaining();
+        for (Hand hand : playerHands) {
+            size += SNAPSHOT_HAND_HEADER + hand.getCards().size();
+        }
+        return size;
+    }
+
+    public void writeSnapshot(ByteBuffer buffer) {
+        buffer.put(SNAPSHOT_VERSION);
+        writeTable(buffer);
+        shoe.writeRemaining(buffer);
+    }
+
+    private void writeTable(ByteBuffer buffer) {
+        buffer.putLong(revision)
+            .putInt(balance)
+            .putInt(initialBet)
+            .putInt(insuranceBet)
+            .put((byte) flags(gameOver, insuranceOffered, insuranceResolved, playerActed, bettingOpen,
+                    dealerHitsOnSoft17))
+            .put(outcomeIndex(insuranceOutcome))
+            .put((byte) numberOfDecks)
+            .put((byte) currentHandIndex)
+            .put((byte) dealerHand.size());
+        for (int i = 0; i < dealerHand.size(); i++) {
+            buffer.put((byte) dealerHand.codeAt(i));
+        }
+        buffer.put((byte) playerHands.size());
+        for (Hand hand : playerHands) {
+            List<Card> cards = hand.getCards();
+            buffer.putInt(hand.getBet())
+                .put((byte) flags(hand.isTurn(), hand.isStanding(), hand.isBusted(), hand.hasDoubledDown()))
+                .put(outcomeIndex(hand.getOutcome()))
+                .put((byte) cards.size());
+            for (Card card : cards) {
+                buffer.put((byte) card.getCode());
+            }
+        }
+    }
+
+    public void readSnapshot(ByteBuffer buffer) {
+        byte version = buffer.get();
+        if (version != SNAPSHOT_VERSION && version != SNAPSHOT_VERSION_WITHOUT_REVISION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+        }
+        revision = version == SNAPSHOT_VERSION ? buffer.getLong() : 0;
+        if (history != null) {
+            Arrays.fill(history, null);
+        }
+        balance = buffer.getInt();
+        initialBet = buffer.getInt();
+        insuranceBet = buffer.getInt();
+        int flags = buffer.get();
+        gameOver = (flags & 1) != 0;
+        insuranceOffered = (flags & 2) != 0;
+        insuranceResolved = (flags & 4) != 0;
+        playerActed = (flags & 8) != 0;
+        bettingOpen = (flags & 16) != 0;
+        dealerHitsOnSoft17 = (flags & 32) != 0;
+        insuranceOutcome = OUTCOMES[buffer.get()];
+        numberOfDecks = buffer.get() & 0xFF;
+        currentHandIndex = buffer.get() & 0xFF;
+        dealerHand.clear();
+        for (int i = buffer.get() & 0xFF; i > 0; i--) {
+            dealerHand.addCode(buffer.get());
+        }
+        playerHands.clear();
+        for (int i = buffer.get() & 0xFF; i > 0; i--) {
+            Hand hand = new Hand(buffer.getInt());
+            int handFlags = buffer.get();
+            hand.setTurn((handFlags & 1) != 0);
+            hand.setStanding((handFlags & 2) != 0);
+            hand.setBusted((handFlags & 4) != 0);
+            hand.setDoubledDown((handFlags & 8) != 0);
+            hand.setOutcome(OUTCOMES[buffer.get()]);
+            for (int card = buffer.get() & 0xFF; card > 0; card--) {
+                hand.addCard(Card.of(buffer.get()));
+            }
+            playerHands.add(hand);
+        }
+        shoe.readRemaining(buffer);
+    }
+
+    private static int flags(boolean... values) {
+        int flags = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i]) {
+                flags |= 1 << i;
+            }
+        }
+        return flags;
+    }
+
+    private static byte outcomeIndex(String outcome) {
+        for (int i = 1; i < OUTCOMES.length; i++) {
+            if (OUTCOMES[i].equals(outcome)) {
+                return (byte) i;
+            }
+        }
+        return 0;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void enableHistory() {
+        if (history == null) {
+            history = new ByteBuffer[REVISION_HISTORY];
+        }
+    }
+
+    public GameView viewAt(long revision) {
+        if (revision == this.revision) {
+            return GameView.of(this);
+        }
+        if (history == null || revision < 0 || revision > this.revision
+                || this.revision - revision > REVISION_HISTORY) {
+            return null;
+        }
+        ByteBuffer entry = history[(int) (revision % REVISION_HISTORY)];
+        return entry != null && entry.getLong(0) == revision ? readView(entry.duplicate().flip()) : null;
+    }
+
+    private void recordHistory() {
+        int slot = (int) (revision % REVISION_HISTORY);
+        ByteBuffer entry = history[slot];
+        if (entry != null && entry.getLong(0) == revision) {
+            return;
+        }
+        int size = snapshotSize() - shoe.remaining();
+        if (entry == null || entry.capacity() < size) {
+            entry = ByteBuffer.allocate(Math.max(size, HISTORY_ENTRY_CAPACITY));
+            history[slot] = entry;
+        }
+        entry.clear();
+        writeTable(entry);
+        entry.putShort((short) shoe.remaining());
+    }
+
+    private static GameView readView(ByteBuffer entry) {
+        long revision = entry.getLong();
+        int balance = entry.getInt();
+        int initialBet = entry.getInt();
+        int insuranceBet = entry.getInt();
+        int flags = entry.get();
+        String insuranceOutcome = OUTCOMES[entry.get()];
+        int numberOfDecks = entry.get() & 0xFF;
+        entry.get();
+        List<Card> dealerHand = new ArrayList<>();
+        for (int i = entry.get() & 0xFF; i > 0; i--) {
+            dealerHand.add(Card.of(entry.get()));
+        }
+        List<GameView.HandView> playerHands = new ArrayList<>();
+        int currentBet = 0;
+        boolean doubledDown = false;
+        for (int i = entry.get() & 0xFF; i > 0; i--) {
+            int bet = entry.getInt();
+            int handFlags = entry.get();
+            String outcome = OUTCOMES[entry.get()];
+            List<Card> cards = new ArrayList<>();
+            for (int card = entry.get() & 0xFF; card > 0; card--) {
+                cards.add(Card.of(entry.get()));
+            }
+            playerHands.add(new GameView.HandView(List.copyOf(cards), bet, (handFlags & 1) != 0,
+                    (handFlags & 2) != 0, (handFlags & 4) != 0, (handFlags & 8) != 0, outcome));
+            currentBet += bet;
+            doubledDown |= (handFlags & 8) != 0;
+        }
+        return new GameView(
+            revision,
+            List.copyOf(dealerHand),
+            List.copyOf(playerHands),
+            (flags & 1) != 0,
+            balance,
+            playerHands.isEmpty() ? initialBet : currentBet,
+            (flags & 16) != 0,
+            entry.getShort() & 0xFFFF,
+            (flags & 32) != 0,
+            numberOfDecks,
+            doubledDown,
+            insuranceBet,
+            (flags & 2) != 0,
+            (flags & 4) != 0,
+            insuranceOutcome,
+            initialBet <= 0 ? 0 : initialBet / 2
+        );
+    }
+
+    public GameListener getListener() {
+        return listener;
+    }
+
+    public void setListener(GameListener listener) {
+        this.listener = listener;
+    }
+
+    public void replay(GameAction action, int amount, byte[] cards, int cardCount) {
+        Shoe live = shoe;
+        if (replayShoe == null) {
+            replayShoe = new Shoe();
+        }
+        replayShoe.replace(cards, cardCount);
+        shoe = replayShoe;
+        try {
+            replayAction(action, amount);
+        } finally {
+            shoe = live;
+        }
+        if (action == GameAction.DECKS) {
+            shoeInSync = false;
+        } else if (shoeInSync) {
+            shoeInSync = shoe.skip(cards, cardCount);
+        }
+    }
+
+    public void finishReplay() {
+        replayShoe = null;
+        if (!shoeInSync) {
+            shoeInSync = true;
+            initializeDeck(numberOfDecks);
+        }
+    }
+
+    private void replayAction(GameAction action, int amount) {
+        switch (action) {
+            case NEW_GAME -> {
+            }
+            case DECKS -> numberOfDecks = amount;
+            case RULES -> setDealerHitsOnSoft17(amount != 0);
+            case BET -> placeBet(amount);
+            case DEAL -> dealInitialCards();
+            case HIT -> hitPlayer();
+            case STAND -> stand();
+            case DOUBLE_DOWN -> doubleDown();
+            case SPLIT -> split();
+            case INSURANCE -> resolveInsurance(amount);
+            case FORFEIT -> forfeitRound();
+        }
+    }
+
+    private void beginAction() {
+        if (actionDepth++ == 0) {
+            drawnCount = 0;
+            if (history != null && shoe != null) {
+                recordHistory();
+            }
+        }
+    }
+
+    private void endAction(GameAction action, int amount) {
+        if (--actionDepth == 0) {
+            revision++;
+            if (listener != null) {
+                listener.onAction(this, action, amount, drawn, drawnCount);
+            }
+        }
+    }
+
+    private int[] liveCardCounts() {
+        int[] counts = new int[Card.CODE_COUNT];
+        for (int i = 0; i < dealerHand.size(); i++) {
+            counts[dealerHand.codeAt(i)]++;
+        }
+        for (Hand hand : playerHands) {
+            for (Card card : hand.getCards()) {
+                counts[card.getCode()]++;
+            }
+        }
+        return counts;
+    }
+
+    private int drawCode() {
+        if (shoe.remaining() == 0) {
+            shoe.reshuffleDiscards(numberOfDecks, liveCardCounts(), shuffleEngine);
+        }
+        int code = shoe.deal();
+        if (actionDepth > 0) {
+            if (drawnCount == drawn.length) {
+                drawn = Arrays.copyOf(drawn, drawnCount * 2);
+            }
+            drawn[drawnCount++] = (byte) code;
+        }
+        return code;
     }
 }
@@ -1,28 +1,243 @@
 package com.game.blackjack;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.game.blackjack.journal.RoundJournal;
+import com.game.blackjack.store.GameCodec;
+import com.game.blackjack.store.GameStore;
+import com.game.blackjack.store.GameStoreException;
+
 import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
 
 @Service
-public class BlackjackSessionService {
+public class BlackjackSessionService implements HttpSessionListener {
 
     static final String SESSION_GAME_KEY = "blackjackGame";
+    static final String SESSION_LOCK_KEY = "blackjackGameLock";
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final RandomGeneratorFactory<RandomGenerator> shuffleRandomFactory;
+    private final ShoePool shoePool;
+    private final boolean failFast;
+    private final RoundJournal journal;
+    private final Map<String, BlackjackGame> recoveredGames;
+    private final long recoveredAt;
+    private final long recoveryWindowNanos;
+    private final GameStore store;
+    private final GameTiering tiering;
+    private final GameUpdates updates;
+    private final ReentrantLock[] lockStripes = new ReentrantLock[LOCK_STRIPES];
+
+    public BlackjackSessionService(
+            @Value("${app.shuffle.algorithm:" + ShuffleEngine.DEFAULT_ALGORITHM + "}") String shuffleAlgorithm,
+            ShoePool shoePool,
+            @Value("${app.session.fail-fast:false}") boolean failFast,
+            @Value("${server.servlet.session.timeout:30m}") Duration sessionTimeout,
+            Optional<RoundJournal> journal,
+            Optional<GameStore> store,
+            Optional<GameTiering> tiering,
+            Optional<GameUpdates> updates) {
+        this.shuffleRandomFactory = RandomGeneratorFactory.of(shuffleAlgorithm);
+        this.shoePool = shoePool;
+        this.failFast = failFast;
+        this.journal = journal.orElse(null);
+        this.recoveredGames = this.journal != null
+                ? new ConcurrentHashMap<>(this.journal.recover(this::newGame))
+                : Map.of();
+        this.recoveredAt = System.nanoTime();
+        this.recoveryWindowNanos = sessionTimeout.toNanos();
+        this.store = store.orElse(null);
+        this.tiering = tiering.orElse(null);
+        this.updates = updates.orElse(null);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            lockStripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withGame(HttpSession session, Function<BlackjackGame, T> action) {
+        ReentrantLock lock = acquire(session);
+        try {
+            if (store != null) {
+                return withStoredGame(session, action);
+            }
+            BlackjackGame game = getOrCreateGame(session);
+            long revision = game.getRevision();
+            T result = action.apply(game);
+            publish(session.getId(), game, revision);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
 
     public BlackjackGame getOrCreateGame(HttpSession session) {
+        if (store != null) {
+            return loadGame(store.load(gameKey(session)));
+        }
+        if (tiering != null) {
+            BlackjackGame game = tiering.get(session.getId(), this::newGame);
+            if (game == null) {
+                game = recoveredOrNewGame(session);
+                tiering.put(session.getId(), game, sessionLock(session));
+            }
+            return game;
+        }
         BlackjackGame game = (BlackjackGame) session.getAttribute(SESSION_GAME_KEY);
         if (game == null) {
-            game = new BlackjackGame();
+            game = recoveredOrNewGame(session);
             session.setAttribute(SESSION_GAME_KEY, game);
         }
         return game;
     }
 
-    public BlackjackGame resetGame(HttpSession session, int decks, boolean dealerHitsOnSoft17) {
-        BlackjackGame game = new BlackjackGame();
-        game.initializeDeck(decks);
-        game.setDealerHitsOnSoft17(dealerHitsOnSoft17);
-        session.setAttribute(SESSION_GAME_KEY, game);
+    public <T> T resetGame(HttpSession session, int decks, boolean dealerHitsOnSoft17,
+            Function<BlackjackGame, T> action) {
+        ReentrantLock lock = acquire(session);
+        try {
+            BlackjackGame game = store != null ? newGame(BlackjackGame.DEFAULT_BALANCE) : newGame(session);
+            game.initializeDeck(decks);
+            game.setDealerHitsOnSoft17(dealerHitsOnSoft17);
+            if (store != null) {
+                store.save(gameKey(session), GameCodec.encode(game));
+            } else if (tiering != null) {
+                tiering.put(session.getId(), game, lock);
+            } else {
+                session.setAttribute(SESSION_GAME_KEY, game);
+            }
+            T result = action.apply(game);
+            publish(session.getId(), game, null);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        HttpSession session = event.getSession();
+        String playerId = (String) session.getAttribute(PlayerIdInterceptor.SESSION_PLAYER_ID_KEY);
+        if (journal != null && playerId != null && timedOut(session)) {
+            recoveredGames.remove(playerId);
+            journal.detach(playerId);
+        }
+        expireRecoveredGames();
+    }
+
+    private <T> T withStoredGame(HttpSession session, Function<BlackjackGame, T> action) {
+        String id = gameKey(session);
+        byte[] stored = store.load(id);
+        BlackjackGame game = loadGame(stored);
+        long revision = game.getRevision();
+        T result = action.apply(game);
+        byte[] updated = GameCodec.encode(game);
+        if (!Arrays.equals(stored, updated) && !store.replace(id, stored, updated)) {
+            throw new ConcurrentRequestException("The game was changed by another request");
+        }
+        publish(session.getId(), game, revision);
+        return result;
+    }
+
+    private void publish(String id, BlackjackGame game, Long since) {
+        if (updates != null) {
+            updates.publish(id, game, since);
+        }
+    }
+
+    private BlackjackGame loadGame(byte[] stored) {
+        if (stored != null) {
+            try {
+                BlackjackGame game = GameCodec.decode(stored, ShuffleEngine.create(shuffleRandomFactory), shoePool);
+                game.enableHistory();
+                return game;
+            } catch (IllegalArgumentException e) {
+                throw new GameStoreException("Stored game state is unreadable", e);
+            }
+        }
+        return newGame(BlackjackGame.DEFAULT_BALANCE);
+    }
+
+    private ReentrantLock acquire(HttpSession session) {
+        ReentrantLock lock = sessionLock(session);
+        if (!failFast) {
+            lock.lock();
+        } else if (!lock.tryLock()) {
+            throw new ConcurrentRequestException();
+        }
+        return lock;
+    }
+
+    private ReentrantLock sessionLock(HttpSession session) {
+        ReentrantLock lock = (ReentrantLock) session.getAttribute(SESSION_LOCK_KEY);
+        if (lock != null) {
+            return lock;
+        }
+        int hash = session.getId().hashCode();
+        ReentrantLock stripe = lockStripes[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+        stripe.lock();
+        try {
+            lock = (ReentrantLock) session.getAttribute(SESSION_LOCK_KEY);
+            if (lock == null) {
+                lock = new ReentrantLock();
+                session.setAttribute(SESSION_LOCK_KEY, lock);
+            }
+            return lock;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private BlackjackGame recoveredOrNewGame(HttpSession session) {
+        expireRecoveredGames();
+        BlackjackGame game = recoveredGames.isEmpty() ? null : recoveredGames.remove(gameKey(session));
+        return game != null ? game : newGame(session);
+    }
+
+    private void expireRecoveredGames() {
+        if (recoveredGames.isEmpty() || System.nanoTime() - recoveredAt < recoveryWindowNanos) {
+            return;
+        }
+        for (String id : recoveredGames.keySet()) {
+            if (recoveredGames.remove(id) != null) {
+                journal.detach(id);
+            }
+        }
+    }
+
+    private String gameKey(HttpSession session) {
+        return store != null || journal != null ? PlayerIdInterceptor.playerId(session) : session.getId();
+    }
+
+    private static boolean timedOut(HttpSession session) {
+        int maxInactiveSeconds = session.getMaxInactiveInterval();
+        return maxInactiveSeconds > 0
+                && System.currentTimeMillis() - session.getLastAccessedTime() >= maxInactiveSeconds * 1000L;
+    }
+
+    private BlackjackGame newGame(HttpSession session) {
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        if (journal != null) {
+            journal.attach(gameKey(session), game);
+        }
+        return game;
+    }
+
+    private BlackjackGame newGame(int balance) {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(shuffleRandomFactory), shoePool, balance);
+        game.enableHistory();
         return game;
     }
 }
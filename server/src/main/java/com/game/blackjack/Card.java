@@ -1,19 +1,98 @@
 package com.game.blackjack;
 
-public class Card {
-    private String value;
-    private String suit;
+public final class Card {
+
+    static final int RANK_COUNT = 13;
+    static final int SUIT_COUNT = 4;
+    public static final int CODE_COUNT = RANK_COUNT * SUIT_COUNT;
+    static final int ACE_RANK = 12;
+    public static final int POINT_VALUES = 10;
+
+    private static final String[] RANKS = { "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K", "A" };
+    private static final String[] SUITS = { "Hearts", "Diamonds", "Clubs", "Spades" };
+    private static final byte[] POINTS = new byte[CODE_COUNT];
+    private static final byte[] HARD_POINTS = new byte[CODE_COUNT];
+    private static final Card[] CANONICAL = new Card[CODE_COUNT];
+
+    static {
+        for (int code = 0; code < CODE_COUNT; code++) {
+            int rank = rank(code);
+            POINTS[code] = (byte) (rank == ACE_RANK ? 11 : Math.min(rank + 2, 10));
+            HARD_POINTS[code] = (byte) (rank == ACE_RANK ? 1 : POINTS[code]);
+            CANONICAL[code] = new Card((byte) code);
+        }
+    }
+
+    private final byte code;
 
     public Card(String value, String suit) {
-        this.value = value;
-        this.suit = suit;
+        this((byte) encode(indexOf(RANKS, value, "value"), indexOf(SUITS, suit, "suit")));
+    }
+
+    private Card(byte code) {
+        this.code = code;
+    }
+
+    public static Card of(int code) {
+        return CANONICAL[code];
+    }
+
+    public static int encode(int rank, int suit) {
+        return rank << 2 | suit;
+    }
+
+    public static int rank(int code) {
+        return code >> 2;
+    }
+
+    public static int suit(int code) {
+        return code & 3;
+    }
+
+    public static int points(int code) {
+        return POINTS[code];
+    }
+
+    public static int hardPoints(int code) {
+        return HARD_POINTS[code];
+    }
+
+    public static boolean isAce(int code) {
+        return rank(code) == ACE_RANK;
+    }
+
+    public static int pointIndex(int code) {
+        return isAce(code) ? 0 : POINTS[code] - 1;
+    }
+
+    public int getCode() {
+        return code;
     }
 
     public String getValue() {
-        return value;
+        return RANKS[rank(code)];
     }
 
     public String getSuit() {
-        return suit;
+        return SUITS[suit(code)];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Card card && card.code == code;
+    }
+
+    @Override
+    public int hashCode() {
+        return code;
+    }
+
+    private static int indexOf(String[] names, String name, String field) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown card " + field + ": " + name);
     }
-}
\ No newline at end of file
+}
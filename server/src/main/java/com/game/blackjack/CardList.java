@@ -0,0 +1,117 @@
+package com.game.blackjack;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+final class CardList extends AbstractList<Card> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private byte[] codes = new byte[INITIAL_CAPACITY];
+    private int size;
+    private int hardTotal;
+    private int aceCount;
+
+    static CardList of(List<Card> cards) {
+        if (cards instanceof CardList cardList) {
+            return cardList;
+        }
+        CardList copy = new CardList();
+        copy.addAll(cards);
+        return copy;
+    }
+
+    int value() {
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
+
+    boolean isSoft() {
+        return aceCount > 0 && hardTotal + 10 <= 21;
+    }
+
+    boolean isBlackjack() {
+        return size == 2 && value() == 21;
+    }
+
+    boolean isBusted() {
+        return hardTotal > 21;
+    }
+
+    int codeAt(int index) {
+        Objects.checkIndex(index, size);
+        return codes[index];
+    }
+
+    void addCode(int code) {
+        ensureCapacity(size + 1);
+        codes[size++] = (byte) code;
+        count(code, 1);
+        modCount++;
+    }
+
+    @Override
+    public Card get(int index) {
+        return Card.of(codeAt(index));
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        int code = card.getCode();
+        Card previous = get(index);
+        count(previous.getCode(), -1);
+        codes[index] = (byte) code;
+        count(code, 1);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        Objects.checkIndex(index, size + 1);
+        int code = card.getCode();
+        ensureCapacity(size + 1);
+        System.arraycopy(codes, index, codes, index + 1, size - index);
+        codes[index] = (byte) code;
+        size++;
+        count(code, 1);
+        modCount++;
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card removed = get(index);
+        System.arraycopy(codes, index + 1, codes, index, size - index - 1);
+        size--;
+        count(removed.getCode(), -1);
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        hardTotal = 0;
+        aceCount = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void count(int code, int direction) {
+        hardTotal += direction * Card.hardPoints(code);
+        if (Card.isAce(code)) {
+            aceCount += direction;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(capacity, codes.length * 2));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.game.blackjack;
+
+public class ConcurrentRequestException extends RuntimeException {
+
+    public ConcurrentRequestException() {
+        this("Another request for this game is already in progress");
+    }
+
+    public ConcurrentRequestException(String message) {
+        super(message);
+    }
+}
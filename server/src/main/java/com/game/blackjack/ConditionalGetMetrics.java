@@ -0,0 +1,36 @@
+package com.game.blackjack;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class ConditionalGetMetrics implements MeterBinder {
+
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder modified = new LongAdder();
+
+    public void record(boolean hit) {
+        (hit ? notModified : modified).increment();
+    }
+
+    public double getHitRatio() {
+        long hits = notModified.sum();
+        long total = hits + modified.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("blackjack.conditional.requests", notModified, LongAdder::sum)
+            .tag("result", "not-modified")
+            .register(registry);
+        FunctionCounter.builder("blackjack.conditional.requests", modified, LongAdder::sum)
+            .tag("result", "modified")
+            .register(registry);
+        Gauge.builder("blackjack.conditional.hit.ratio", this, ConditionalGetMetrics::getHitRatio)
+            .register(registry);
+    }
+}
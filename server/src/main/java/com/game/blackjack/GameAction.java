@@ -0,0 +1,15 @@
+package com.game.blackjack;
+
+public enum GameAction {
+    NEW_GAME,
+    DECKS,
+    RULES,
+    BET,
+    DEAL,
+    HIT,
+    STAND,
+    DOUBLE_DOWN,
+    SPLIT,
+    INSURANCE,
+    FORFEIT
+}
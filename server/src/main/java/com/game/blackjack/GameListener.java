@@ -0,0 +1,6 @@
+package com.game.blackjack;
+
+public interface GameListener {
+
+    void onAction(BlackjackGame game, GameAction action, int amount, byte[] drawn, int drawnCount);
+}
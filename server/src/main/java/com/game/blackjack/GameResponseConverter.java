@@ -0,0 +1,359 @@
+package com.game.blackjack;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.NonNull;
+
+import com.game.blackjack.dto.CardResponse;
+import com.game.blackjack.dto.GameJson;
+import com.game.blackjack.dto.GameResponse;
+import com.game.blackjack.dto.HandResponse;
+import com.game.blackjack.dto.StateResponse;
+
+public class GameResponseConverter extends AbstractHttpMessageConverter<StateResponse> {
+
+    private static final byte[] PLAYER_HANDS = ascii("{\"playerHands\":");
+    private static final byte[] CARDS = ascii("{\"cards\":");
+    private static final byte[] BET = ascii(",\"bet\":");
+    private static final byte[] IS_TURN = ascii(",\"isTurn\":");
+    private static final byte[] IS_STANDING = ascii(",\"isStanding\":");
+    private static final byte[] IS_BUSTED = ascii(",\"isBusted\":");
+    private static final byte[] HAS_DOUBLED_DOWN = ascii(",\"hasDoubledDown\":");
+    private static final byte[] OUTCOME = ascii(",\"outcome\":");
+    private static final byte[] DEALER_HAND = ascii(",\"dealerHand\":");
+    private static final byte[] GAME_OVER = ascii(",\"gameOver\":");
+    private static final byte[] BALANCE = ascii(",\"balance\":");
+    private static final byte[] CURRENT_BET = ascii(",\"currentBet\":");
+    private static final byte[] BETTING_OPEN = ascii(",\"bettingOpen\":");
+    private static final byte[] DECK_SIZE = ascii(",\"deckSize\":");
+    private static final byte[] DEALER_HITS_ON_SOFT_17 = ascii(",\"dealerHitsOnSoft17\":");
+    private static final byte[] NUMBER_OF_DECKS = ascii(",\"numberOfDecks\":");
+    private static final byte[] INSURANCE_BET = ascii(",\"insuranceBet\":");
+    private static final byte[] INSURANCE_OFFERED = ascii(",\"insuranceOffered\":");
+    private static final byte[] INSURANCE_RESOLVED = ascii(",\"insuranceResolved\":");
+    private static final byte[] INSURANCE_OUTCOME = ascii(",\"insuranceOutcome\":");
+    private static final byte[] MAX_INSURANCE_BET = ascii(",\"maxInsuranceBet\":");
+    private static final byte[] REVISION = ascii(",\"revision\":");
+    private static final byte[] VALUE = ascii("{\"value\":");
+    private static final byte[] SUIT = ascii(",\"suit\":");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte[][] CARD_BYTES = new byte[Card.CODE_COUNT][];
+    private static final Map<String, byte[]> OUTCOME_BYTES = new HashMap<>();
+
+    static {
+        for (int code = 0; code < Card.CODE_COUNT; code++) {
+            CardResponse card = CardResponse.from(Card.of(code));
+            CARD_BYTES[code] = ascii("{\"value\":\"" + card.value() + "\",\"suit\":\"" + card.suit() + "\"}");
+        }
+        for (String outcome : new String[] { "WIN", "LOSS", "TIE", "DECLINED" }) {
+            OUTCOME_BYTES.put(outcome, ascii("\"" + outcome + "\""));
+        }
+    }
+
+    public GameResponseConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return GameResponse.class == clazz || GameJson.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected StateResponse readInternal(
+            @NonNull Class<? extends StateResponse> clazz,
+            @NonNull HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("GameResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull StateResponse response, @NonNull HttpOutputMessage outputMessage)
+            throws IOException {
+        if (response instanceof GameJson json) {
+            outputMessage.getBody().write(json.json());
+        } else {
+            write((GameResponse) response, outputMessage.getBody());
+        }
+    }
+
+    public static GameJson encode(BlackjackGame game) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_CAPACITY);
+        try {
+            write(game, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new GameJson(out.toByteArray(), game.getRevision());
+    }
+
+    static void write(BlackjackGame game, OutputStream out) throws IOException {
+        out.write(PLAYER_HANDS);
+        List<Hand> hands = game.getPlayerHands();
+        out.write('[');
+        for (int i = 0; i < hands.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeHand(hands.get(i), out);
+        }
+        out.write(']');
+        out.write(DEALER_HAND);
+        writeGameCards(game.getDealerHand(), out);
+        out.write(GAME_OVER);
+        writeBoolean(game.isGameOver(), out);
+        out.write(BALANCE);
+        writeNumber(game.getBalance(), out);
+        out.write(CURRENT_BET);
+        writeNumber(game.getCurrentBet(), out);
+        out.write(BETTING_OPEN);
+        writeBoolean(game.isBettingOpen(), out);
+        out.write(DECK_SIZE);
+        writeNumber(game.getDeckSize(), out);
+        out.write(DEALER_HITS_ON_SOFT_17);
+        writeBoolean(game.isDealerHitsOnSoft17(), out);
+        out.write(NUMBER_OF_DECKS);
+        writeNumber(game.getNumberOfDecks(), out);
+        out.write(HAS_DOUBLED_DOWN);
+        writeBoolean(game.hasDoubledDown(), out);
+        out.write(INSURANCE_BET);
+        writeNumber(game.getInsuranceBet(), out);
+        out.write(INSURANCE_OFFERED);
+        writeBoolean(game.isInsuranceOffered(), out);
+        out.write(INSURANCE_RESOLVED);
+        writeBoolean(game.isInsuranceResolved(), out);
+        out.write(INSURANCE_OUTCOME);
+        writeOutcome(game.getInsuranceOutcome(), out);
+        out.write(MAX_INSURANCE_BET);
+        writeNumber(game.getMaxInsuranceBet(), out);
+        out.write(REVISION);
+        writeNumber(game.getRevision(), out);
+        out.write('}');
+    }
+
+    static void write(GameResponse response, OutputStream out) throws IOException {
+        out.write(PLAYER_HANDS);
+        writeHands(response.playerHands(), out);
+        out.write(DEALER_HAND);
+        writeCards(response.dealerHand(), out);
+        out.write(GAME_OVER);
+        writeBoolean(response.gameOver(), out);
+        out.write(BALANCE);
+        writeNumber(response.balance(), out);
+        out.write(CURRENT_BET);
+        writeNumber(response.currentBet(), out);
+        out.write(BETTING_OPEN);
+        writeBoolean(response.bettingOpen(), out);
+        out.write(DECK_SIZE);
+        writeNumber(response.deckSize(), out);
+        out.write(DEALER_HITS_ON_SOFT_17);
+        writeBoolean(response.dealerHitsOnSoft17(), out);
+        out.write(NUMBER_OF_DECKS);
+        writeNumber(response.numberOfDecks(), out);
+        out.write(HAS_DOUBLED_DOWN);
+        writeBoolean(response.doubledDown(), out);
+        out.write(INSURANCE_BET);
+        writeNumber(response.insuranceBet(), out);
+        out.write(INSURANCE_OFFERED);
+        writeBoolean(response.insuranceOffered(), out);
+        out.write(INSURANCE_RESOLVED);
+        writeBoolean(response.insuranceResolved(), out);
+        out.write(INSURANCE_OUTCOME);
+        writeOutcome(response.insuranceOutcome(), out);
+        out.write(MAX_INSURANCE_BET);
+        writeNumber(response.maxInsuranceBet(), out);
+        out.write(REVISION);
+        writeNumber(response.revision(), out);
+        out.write('}');
+    }
+
+    private static void writeHands(List<HandResponse> hands, OutputStream out) throws IOException {
+        if (hands == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write('[');
+        for (int i = 0; i < hands.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeHand(hands.get(i), out);
+        }
+        out.write(']');
+    }
+
+    private static void writeHand(HandResponse hand, OutputStream out) throws IOException {
+        if (hand == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write(CARDS);
+        writeCards(hand.cards(), out);
+        out.write(BET);
+        writeNumber(hand.bet(), out);
+        out.write(IS_TURN);
+        writeBoolean(hand.turn(), out);
+        out.write(IS_STANDING);
+        writeBoolean(hand.standing(), out);
+        out.write(IS_BUSTED);
+        writeBoolean(hand.busted(), out);
+        out.write(HAS_DOUBLED_DOWN);
+        writeBoolean(hand.doubledDown(), out);
+        out.write(OUTCOME);
+        writeOutcome(hand.outcome(), out);
+        out.write('}');
+    }
+
+    private static void writeHand(Hand hand, OutputStream out) throws IOException {
+        out.write(CARDS);
+        writeGameCards(hand.getCards(), out);
+        out.write(BET);
+        writeNumber(hand.getBet(), out);
+        out.write(IS_TURN);
+        writeBoolean(hand.isTurn(), out);
+        out.write(IS_STANDING);
+        writeBoolean(hand.isStanding(), out);
+        out.write(IS_BUSTED);
+        writeBoolean(hand.isBusted(), out);
+        out.write(HAS_DOUBLED_DOWN);
+        writeBoolean(hand.hasDoubledDown(), out);
+        out.write(OUTCOME);
+        writeOutcome(hand.getOutcome(), out);
+        out.write('}');
+    }
+
+    private static void writeGameCards(List<Card> cards, OutputStream out) throws IOException {
+        out.write('[');
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(CARD_BYTES[cards.get(i).getCode()]);
+        }
+        out.write(']');
+    }
+
+    private static void writeCards(List<CardResponse> cards, OutputStream out) throws IOException {
+        if (cards == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write('[');
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            CardResponse card = cards.get(i);
+            int code = card != null ? CardResponse.codeOf(card) : -1;
+            if (card == null) {
+                out.write(NULL);
+            } else if (code >= 0) {
+                out.write(CARD_BYTES[code]);
+            } else {
+                out.write(VALUE);
+                writeString(card.value(), out);
+                out.write(SUIT);
+                writeString(card.suit(), out);
+                out.write('}');
+            }
+        }
+        out.write(']');
+    }
+
+    private static void writeOutcome(String outcome, OutputStream out) throws IOException {
+        byte[] cached = outcome != null ? OUTCOME_BYTES.get(outcome) : NULL;
+        if (cached != null) {
+            out.write(cached);
+        } else {
+            writeString(outcome, out);
+        }
+    }
+
+    private static void writeBoolean(boolean value, OutputStream out) throws IOException {
+        out.write(value ? TRUE : FALSE);
+    }
+
+    private static void writeNumber(long value, OutputStream out) throws IOException {
+        if (value < 0) {
+            out.write('-');
+        } else {
+            value = -value;
+        }
+        long divisor = 1;
+        while (value / divisor <= -10) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            out.write((int) ('0' - value / divisor));
+            value %= divisor;
+            divisor /= 10;
+        }
+    }
+
+    private static void writeString(String value, OutputStream out) throws IOException {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c >= 0x20 && c < 0x80) {
+                out.write(c);
+            } else if (c < 0x20) {
+                writeControl(c, out);
+            } else {
+                int codePoint = value.codePointAt(i);
+                i += Character.charCount(codePoint) - 1;
+                out.write(new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        out.write('"');
+    }
+
+    private static void writeControl(char c, OutputStream out) throws IOException {
+        out.write('\\');
+        switch (c) {
+            case '\b' -> out.write('b');
+            case '\t' -> out.write('t');
+            case '\n' -> out.write('n');
+            case '\f' -> out.write('f');
+            case '\r' -> out.write('r');
+            default -> {
+                out.write('u');
+                out.write('0');
+                out.write('0');
+                out.write(HEX[c >> 4]);
+                out.write(HEX[c & 0xF]);
+            }
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
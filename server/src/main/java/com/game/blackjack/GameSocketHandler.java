@@ -0,0 +1,307 @@
+package com.game.blackjack;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.game.blackjack.dto.GameResponse;
+import com.game.blackjack.dto.SocketMessage;
+import com.game.blackjack.store.GameStoreException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+public class GameSocketHandler extends TextWebSocketHandler
+        implements HandshakeInterceptor, HttpSessionListener, MeterBinder, AutoCloseable {
+
+    static final String HTTP_SESSION_KEY = "blackjackHttpSession";
+    static final String REMOTE_ADDRESS_KEY = "blackjackRemoteAddress";
+    static final String RATE_LIMIT_MESSAGE = "Too many requests, please try again later.";
+
+    private static final int SEND_TIME_LIMIT_MILLIS = 5000;
+    private static final int BUFFER_SIZE_LIMIT = 64 * 1024;
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final BlackjackSessionService sessionService;
+    private final GameUpdates updates;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApiRateLimitInterceptor rateLimiter;
+    private final Executor sender;
+    private final ConcurrentMap<String, Connection> connections = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Connection>> sessionConnections = new ConcurrentHashMap<>();
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public GameSocketHandler(
+            BlackjackSessionService sessionService,
+            GameUpdates updates,
+            ObjectMapper objectMapper,
+            Validator validator,
+            ApiRateLimitInterceptor rateLimiter,
+            Executor sender) {
+        this.sessionService = sessionService;
+        this.updates = updates;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.rateLimiter = rateLimiter;
+        this.sender = sender;
+    }
+
+    @Override
+    public boolean beforeHandshake(
+            @NonNull ServerHttpRequest request,
+            @NonNull ServerHttpResponse response,
+            @NonNull WebSocketHandler handler,
+            @NonNull Map<String, Object> attributes) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return true;
+        }
+        String remoteAddress = servletRequest.getServletRequest().getRemoteAddr();
+        if (!rateLimiter.tryAcquire(remoteAddress)) {
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return false;
+        }
+        attributes.put(HTTP_SESSION_KEY, servletRequest.getServletRequest().getSession());
+        if (remoteAddress != null) {
+            attributes.put(REMOTE_ADDRESS_KEY, remoteAddress);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(
+            @NonNull ServerHttpRequest request,
+            @NonNull ServerHttpResponse response,
+            @NonNull WebSocketHandler handler,
+            Exception exception) {
+    }
+
+    @Override
+    public void afterConnectionEstablished(@NonNull WebSocketSession socket) throws IOException {
+        if (!(socket.getAttributes().get(HTTP_SESSION_KEY) instanceof HttpSession session)) {
+            socket.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        Connection connection = new Connection(session, (String) socket.getAttributes().get(REMOTE_ADDRESS_KEY),
+                new ConcurrentWebSocketSessionDecorator(socket, SEND_TIME_LIMIT_MILLIS, BUFFER_SIZE_LIMIT));
+        connections.put(socket.getId(), connection);
+        sessionConnections.computeIfAbsent(session.getId(), id -> ConcurrentHashMap.newKeySet()).add(connection);
+        sessionService.withGame(session, game -> {
+            updates.subscribe(session.getId(), connection);
+            connection.accept(SocketMessage.state(GameResponse.from(game)));
+            return null;
+        });
+    }
+
+    @Override
+    protected void handleTextMessage(@NonNull WebSocketSession socket, @NonNull TextMessage message) {
+        Connection connection = connections.get(socket.getId());
+        if (connection == null) {
+            return;
+        }
+        if (!rateLimiter.tryAcquire(connection.remoteAddress)) {
+            reject(connection, null, RATE_LIMIT_MESSAGE);
+            return;
+        }
+        ActionRequest action;
+        try {
+            action = objectMapper.readValue(message.getPayload(), ActionRequest.class);
+        } catch (JsonProcessingException e) {
+            reject(connection, null, "Invalid message");
+            return;
+        }
+        String name = action.getType() != null ? action.getType().getName() : null;
+        String violation = validator.validate(action).stream()
+            .map(ConstraintViolation::getMessage)
+            .findFirst()
+            .orElse(null);
+        if (violation != null) {
+            reject(connection, name, violation);
+            return;
+        }
+        try {
+            sessionService.withGame(connection.session, game -> {
+                BlackjackController.apply(game, action);
+                return null;
+            });
+            applied.increment();
+            connection.keepAlive();
+        } catch (IllegalArgumentException | IllegalStateException | ConcurrentRequestException e) {
+            reject(connection, name, e.getMessage());
+        } catch (GameStoreException e) {
+            reject(connection, name, "Game state is temporarily unavailable");
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession socket, @NonNull CloseStatus status) {
+        Connection connection = connections.get(socket.getId());
+        if (connection != null) {
+            remove(connection);
+            connection.keepAlive();
+        }
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        Set<Connection> targets = sessionConnections.get(event.getSession().getId());
+        if (targets != null) {
+            for (Connection connection : targets) {
+                connection.close();
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("blackjack.push.connections", this, GameSocketHandler::getConnectionCount)
+            .register(registry);
+        FunctionCounter.builder("blackjack.push.actions", applied, LongAdder::sum)
+            .tag("result", "applied")
+            .register(registry);
+        FunctionCounter.builder("blackjack.push.actions", rejected, LongAdder::sum)
+            .tag("result", "rejected")
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void reject(Connection connection, String action, String error) {
+        rejected.increment();
+        connection.accept(SocketMessage.error(action, error));
+    }
+
+    private void remove(Connection connection) {
+        if (connections.remove(connection.socket.getId(), connection)) {
+            sessionConnections.computeIfPresent(connection.session.getId(), (id, current) -> {
+                current.remove(connection);
+                return current.isEmpty() ? null : current;
+            });
+            updates.unsubscribe(connection.session.getId(), connection);
+        }
+    }
+
+    private final class Connection implements Consumer<SocketMessage> {
+
+        private final HttpSession session;
+        private final String remoteAddress;
+        private final WebSocketSession socket;
+        private final int timeoutSeconds;
+        private final BlockingQueue<SocketMessage> outbox = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean sendScheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        Connection(HttpSession session, String remoteAddress, WebSocketSession socket) {
+            this.session = session;
+            this.remoteAddress = remoteAddress;
+            this.socket = socket;
+            this.timeoutSeconds = session.getMaxInactiveInterval();
+        }
+
+        @Override
+        public void accept(SocketMessage message) {
+            if (!outbox.offer(message)) {
+                overflowed = true;
+            }
+            scheduleSend();
+        }
+
+        private void scheduleSend() {
+            if (sendScheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::sendQueued);
+                } catch (RejectedExecutionException e) {
+                    sendScheduled.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void sendQueued() {
+            if (overflowed) {
+                close();
+                return;
+            }
+            SocketMessage message;
+            while ((message = outbox.poll()) != null) {
+                send(message);
+            }
+            sendScheduled.set(false);
+            if (!outbox.isEmpty()) {
+                scheduleSend();
+            }
+        }
+
+        private void send(SocketMessage message) {
+            try {
+                socket.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+            } catch (IOException | SessionLimitExceededException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        void keepAlive() {
+            if (timeoutSeconds <= 0) {
+                return;
+            }
+            try {
+                long idleSeconds = (System.currentTimeMillis() - session.getLastAccessedTime()) / 1000;
+                session.setMaxInactiveInterval((int) Math.min(Integer.MAX_VALUE, idleSeconds + timeoutSeconds));
+            } catch (IllegalStateException e) {
+                close();
+            }
+        }
+
+        void close() {
+            try {
+                socket.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                remove(this);
+            }
+        }
+    }
+}
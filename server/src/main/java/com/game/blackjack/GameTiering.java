@@ -0,0 +1,243 @@
+package com.game.blackjack;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+import com.game.blackjack.store.GameCodec;
+import com.game.blackjack.store.GameStore;
+import com.game.blackjack.store.GameStoreException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+
+public class GameTiering implements HttpSessionListener, MeterBinder, AutoCloseable {
+
+    private final long idleMillis;
+    private final GameStore spillStore;
+    private final ExecutorService sweeper;
+    private final Clock clock;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger coldCount = new AtomicInteger();
+    private final AtomicInteger spilledCount = new AtomicInteger();
+    private final LongAdder compactions = new LongAdder();
+    private final LongAdder rehydrations = new LongAdder();
+    private final LongAdder rehydrationNanos = new LongAdder();
+    private volatile boolean closed;
+
+    public GameTiering(Duration idleAfter, GameStore spillStore, ExecutorService sweeper) {
+        this(idleAfter, spillStore, sweeper, Clock.systemUTC());
+    }
+
+    GameTiering(Duration idleAfter, GameStore spillStore, ExecutorService sweeper, Clock clock) {
+        if (idleAfter.toMillis() <= 0) {
+            throw new IllegalArgumentException("Idle threshold must be at least one millisecond");
+        }
+        this.idleMillis = idleAfter.toMillis();
+        this.spillStore = spillStore;
+        this.sweeper = sweeper;
+        this.clock = clock;
+        sweeper.execute(this::sweepLoop);
+    }
+
+    BlackjackGame get(String id, IntFunction<BlackjackGame> factory) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastAccess = clock.millis();
+        if (entry.game == null) {
+            long start = System.nanoTime();
+            entry.game = rehydrate(id, entry, factory);
+            rehydrationNanos.add(System.nanoTime() - start);
+            rehydrations.increment();
+            if (entry.game == null) {
+                entries.remove(id, entry);
+            }
+        }
+        return entry.game;
+    }
+
+    void put(String id, BlackjackGame game, ReentrantLock lock) {
+        Entry entry = new Entry(lock, game, clock.millis());
+        Entry previous = entries.put(id, entry);
+        if (previous != null) {
+            discard(id, previous);
+        }
+    }
+
+    public int compactIdle() {
+        long now = clock.millis();
+        int compacted = 0;
+        for (Map.Entry<String, Entry> tracked : entries.entrySet()) {
+            Entry entry = tracked.getValue();
+            if (entry.game == null || now - entry.lastAccess < idleMillis || !entry.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (entry.game != null && now - entry.lastAccess >= idleMillis
+                        && entries.get(tracked.getKey()) == entry) {
+                    compact(tracked.getKey(), entry);
+                    compacted++;
+                }
+            } finally {
+                entry.lock.unlock();
+            }
+        }
+        compactions.add(compacted);
+        return compacted;
+    }
+
+    public int getHotCount() {
+        return entries.size() - coldCount.get();
+    }
+
+    public int getColdCount() {
+        return coldCount.get() - spilledCount.get();
+    }
+
+    public int getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        Entry entry = entries.remove(event.getSession().getId());
+        if (entry != null) {
+            discard(event.getSession().getId(), entry);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("blackjack.sessions.games", this, GameTiering::getHotCount)
+            .tag("tier", "hot")
+            .register(registry);
+        Gauge.builder("blackjack.sessions.games", this, GameTiering::getColdCount)
+            .tag("tier", "cold")
+            .register(registry);
+        Gauge.builder("blackjack.sessions.games", this, GameTiering::getSpilledCount)
+            .tag("tier", "spilled")
+            .register(registry);
+        FunctionCounter.builder("blackjack.sessions.compactions", compactions, LongAdder::sum)
+            .register(registry);
+        FunctionTimer.builder("blackjack.sessions.rehydrate", this,
+                tiering -> tiering.rehydrations.sum(),
+                tiering -> tiering.rehydrationNanos.sum(),
+                TimeUnit.NANOSECONDS)
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        sweeper.shutdownNow();
+        if (spillStore instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Cannot close spill store", e);
+            }
+        }
+    }
+
+    private void compact(String id, Entry entry) {
+        byte[] state = GameCodec.encode(entry.game);
+        entry.listener = entry.game.getListener();
+        if (spillStore != null) {
+            try {
+                spillStore.save(id, state);
+                entry.spilled = true;
+                spilledCount.incrementAndGet();
+                state = null;
+            } catch (GameStoreException e) {
+                entry.spilled = false;
+            }
+        }
+        entry.state = state;
+        entry.game = null;
+        coldCount.incrementAndGet();
+    }
+
+    private BlackjackGame rehydrate(String id, Entry entry, IntFunction<BlackjackGame> factory) {
+        byte[] state = entry.spilled ? spillStore.load(id) : entry.state;
+        coldCount.decrementAndGet();
+        if (entry.spilled) {
+            spilledCount.decrementAndGet();
+            spillStore.delete(id);
+        }
+        entry.state = null;
+        entry.spilled = false;
+        if (state == null) {
+            return null;
+        }
+        BlackjackGame game = factory.apply(BlackjackGame.DEFAULT_BALANCE);
+        try {
+            GameCodec.decode(state, game);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        game.setListener(entry.listener);
+        entry.listener = null;
+        return game;
+    }
+
+    private void discard(String id, Entry entry) {
+        entry.lock.lock();
+        try {
+            if (entry.game == null) {
+                coldCount.decrementAndGet();
+            }
+            if (entry.spilled) {
+                spilledCount.decrementAndGet();
+                spillStore.delete(id);
+            }
+            entry.game = null;
+            entry.state = null;
+            entry.spilled = false;
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    private void sweepLoop() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, idleMillis / 2));
+        while (!closed && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(intervalNanos);
+            if (!closed) {
+                compactIdle();
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final ReentrantLock lock;
+        private volatile BlackjackGame game;
+        private volatile long lastAccess;
+        private byte[] state;
+        private boolean spilled;
+        private GameListener listener;
+
+        Entry(ReentrantLock lock, BlackjackGame game, long lastAccess) {
+            this.lock = lock;
+            this.game = game;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.game.blackjack;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+
+import com.game.blackjack.dto.CardResponse;
+import com.game.blackjack.dto.GameDelta;
+import com.game.blackjack.dto.SocketMessage;
+import com.game.blackjack.dto.StateResponse;
+
+public class GameUpdates {
+
+    private static final int INITIAL_DEALER_CARDS = 2;
+
+    private final ConcurrentMap<String, Set<Consumer<SocketMessage>>> subscribers = new ConcurrentHashMap<>();
+
+    public void subscribe(String id, Consumer<SocketMessage> subscriber) {
+        subscribers.compute(id, (key, current) -> {
+            Set<Consumer<SocketMessage>> updated = current != null ? current : new CopyOnWriteArraySet<>();
+            updated.add(subscriber);
+            return updated;
+        });
+    }
+
+    public void unsubscribe(String id, Consumer<SocketMessage> subscriber) {
+        subscribers.computeIfPresent(id, (key, current) -> {
+            current.remove(subscriber);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    void publish(String id, BlackjackGame game, Long since) {
+        Set<Consumer<SocketMessage>> targets = subscribers.get(id);
+        if (targets == null || since != null && since == game.getRevision()) {
+            return;
+        }
+        StateResponse state = StateResponse.from(game, since);
+        List<Card> dealerHand = game.getDealerHand();
+        int firstDrawn = dealerHand.size() - drawnDealerCards(state, dealerHand, since);
+        for (int i = Math.max(firstDrawn, INITIAL_DEALER_CARDS); i < dealerHand.size(); i++) {
+            SocketMessage card = SocketMessage.dealerCard(CardResponse.from(dealerHand.get(i)));
+            for (Consumer<SocketMessage> target : targets) {
+                target.accept(card);
+            }
+        }
+        SocketMessage message = SocketMessage.state(state);
+        for (Consumer<SocketMessage> target : targets) {
+            target.accept(message);
+        }
+    }
+
+    private static int drawnDealerCards(StateResponse state, List<Card> dealerHand, Long since) {
+        if (state instanceof GameDelta delta) {
+            return delta.dealerCards() != null ? delta.dealerCards().size() : 0;
+        }
+        return since != null ? dealerHand.size() : 0;
+    }
+}
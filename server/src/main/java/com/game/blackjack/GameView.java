@@ -0,0 +1,67 @@
+package com.game.blackjack;
+
+import java.util.List;
+
+public record GameView(
+    long revision,
+    List<Card> dealerHand,
+    List<HandView> playerHands,
+    boolean gameOver,
+    int balance,
+    int currentBet,
+    boolean bettingOpen,
+    int deckSize,
+    boolean dealerHitsOnSoft17,
+    int numberOfDecks,
+    boolean doubledDown,
+    int insuranceBet,
+    boolean insuranceOffered,
+    boolean insuranceResolved,
+    String insuranceOutcome,
+    int maxInsuranceBet
+) {
+
+    public static GameView of(BlackjackGame game) {
+        return new GameView(
+            game.getRevision(),
+            List.copyOf(game.getDealerHand()),
+            game.getPlayerHands().stream().map(HandView::of).toList(),
+            game.isGameOver(),
+            game.getBalance(),
+            game.getCurrentBet(),
+            game.isBettingOpen(),
+            game.getDeckSize(),
+            game.isDealerHitsOnSoft17(),
+            game.getNumberOfDecks(),
+            game.hasDoubledDown(),
+            game.getInsuranceBet(),
+            game.isInsuranceOffered(),
+            game.isInsuranceResolved(),
+            game.getInsuranceOutcome(),
+            game.getMaxInsuranceBet()
+        );
+    }
+
+    public record HandView(
+        List<Card> cards,
+        int bet,
+        boolean turn,
+        boolean standing,
+        boolean busted,
+        boolean doubledDown,
+        String outcome
+    ) {
+
+        static HandView of(Hand hand) {
+            return new HandView(
+                List.copyOf(hand.getCards()),
+                hand.getBet(),
+                hand.isTurn(),
+                hand.isStanding(),
+                hand.isBusted(),
+                hand.hasDoubledDown(),
+                hand.getOutcome()
+            );
+        }
+    }
+}
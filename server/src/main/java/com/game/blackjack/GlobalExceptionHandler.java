@@ -1,5 +1,6 @@
 package com.game.blackjack;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.game.blackjack.dto.ErrorResponse;
+import com.game.blackjack.store.GameStoreException;
 
 import jakarta.validation.ConstraintViolationException;
 
@@ -51,6 +53,18 @@ public class GlobalExceptionHandler {
             .body(new ErrorResponse(ex.getMessage()));
     }
 
+    @ExceptionHandler(GameStoreException.class)
+    public ResponseEntity<ErrorResponse> handleGameStore(GameStoreException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(new ErrorResponse("Game state is temporarily unavailable"));
+    }
+
+    @ExceptionHandler(ConcurrentRequestException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentRequest(ConcurrentRequestException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(new ErrorResponse(ex.getMessage()));
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ErrorResponse> handleIllegalState(IllegalStateException ex) {
         return ResponseEntity.badRequest()
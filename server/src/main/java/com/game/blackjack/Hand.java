@@ -1,11 +1,10 @@
 package com.game.blackjack;
 
-import java.util.ArrayList;
 import java.util.List;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class Hand {
-    private List<Card> cards;
+    private final CardList cards;
     private int bet;
     private boolean isTurn;
     private boolean isStanding;
@@ -14,7 +13,7 @@ public class Hand {
     private String outcome;
 
     public Hand(int initialBet) {
-        this.cards = new ArrayList<>();
+        this.cards = new CardList();
         this.bet = initialBet;
         this.isTurn = false;
         this.isStanding = false;
@@ -30,6 +29,18 @@ public class Hand {
         return cards;
     }
 
+    public int value() {
+        return cards.value();
+    }
+
+    public boolean isSoft() {
+        return cards.isSoft();
+    }
+
+    public boolean isBlackjack() {
+        return cards.isBlackjack();
+    }
+
     public int getBet() {
         return bet;
     }
@@ -58,7 +69,7 @@ public class Hand {
 
     @JsonProperty("isBusted")
     public boolean isBusted() {
-        return isBusted;
+        return isBusted || cards.isBusted();
     }
 
     public void setBusted(boolean busted) {
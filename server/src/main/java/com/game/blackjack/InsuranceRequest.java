@@ -5,8 +5,14 @@ import jakarta.validation.constraints.Min;
 
 public class InsuranceRequest {
 
-    @Min(value = 0, message = "Insurance amount cannot be negative")
-    @Max(value = 50000, message = "Insurance amount too high")
+    static final int MIN_AMOUNT = 0;
+    static final int MAX_AMOUNT = 50000;
+    static final String REQUIRED_MESSAGE = "Insurance amount is required";
+    static final String MIN_MESSAGE = "Insurance amount cannot be negative";
+    static final String MAX_MESSAGE = "Insurance amount too high";
+
+    @Min(value = MIN_AMOUNT, message = MIN_MESSAGE)
+    @Max(value = MAX_AMOUNT, message = MAX_MESSAGE)
     private Integer amount;
 
     public InsuranceRequest() {
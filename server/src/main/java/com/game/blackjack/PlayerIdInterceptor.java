@@ -0,0 +1,96 @@
+package com.game.blackjack;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+public class PlayerIdInterceptor implements HandlerInterceptor {
+
+    static final String COOKIE_NAME = "blackjack_player";
+    static final String SESSION_PLAYER_ID_KEY = "blackjackPlayerId";
+
+    private static final Pattern PLAYER_ID = Pattern.compile("[0-9a-f]{32}");
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Duration maxAge;
+    private final boolean secure;
+    private final String sameSite;
+
+    public PlayerIdInterceptor(Duration maxAge, boolean secure, String sameSite) {
+        if (maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("Player cookie max age must be positive");
+        }
+        this.maxAge = maxAge;
+        this.secure = secure;
+        this.sameSite = sameSite;
+    }
+
+    @Override
+    public boolean preHandle(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+        HttpSession session = request.getSession();
+        String presented = presentedPlayerId(request);
+        String playerId;
+        synchronized (WebUtils.getSessionMutex(session)) {
+            playerId = (String) session.getAttribute(SESSION_PLAYER_ID_KEY);
+            if (playerId == null) {
+                playerId = presented != null ? presented : newPlayerId();
+                session.setAttribute(SESSION_PLAYER_ID_KEY, playerId);
+            }
+        }
+        if (!playerId.equals(presented)) {
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, playerId)
+                .path("/")
+                .maxAge(maxAge)
+                .httpOnly(true)
+                .secure(secure || request.isSecure())
+                .sameSite(sameSite)
+                .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+        return true;
+    }
+
+    static String playerId(HttpSession session) {
+        synchronized (WebUtils.getSessionMutex(session)) {
+            String playerId = (String) session.getAttribute(SESSION_PLAYER_ID_KEY);
+            if (playerId == null) {
+                playerId = newPlayerId();
+                session.setAttribute(SESSION_PLAYER_ID_KEY, playerId);
+            }
+            return playerId;
+        }
+    }
+
+    static boolean isValid(String playerId) {
+        return playerId != null && PLAYER_ID.matcher(playerId).matches();
+    }
+
+    private static String presentedPlayerId(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+        return cookie != null && isValid(cookie.getValue()) ? cookie.getValue() : null;
+    }
+
+    private static String newPlayerId() {
+        byte[] bytes = new byte[16];
+        RANDOM.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,29 @@
+package com.game.blackjack;
+
+import java.util.random.RandomGenerator;
+
+final class RandomShuffleEngine implements ShuffleEngine {
+
+    private final RandomGenerator random;
+    private final long seed;
+
+    RandomShuffleEngine(RandomGenerator random, long seed) {
+        this.random = random;
+        this.seed = seed;
+    }
+
+    @Override
+    public void shuffle(byte[] cards, int length) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,145 @@
+package com.game.blackjack;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+final class Shoe {
+
+    static final int CUT_CARD_RESERVE = 20;
+
+    private byte[] cards = new byte[0];
+    private int size;
+    private int cursor;
+    private long seed;
+
+    Shoe() {
+    }
+
+    Shoe(int numberOfDecks, ShuffleEngine shuffleEngine) {
+        refill(numberOfDecks, shuffleEngine);
+    }
+
+    void refill(int numberOfDecks, ShuffleEngine shuffleEngine) {
+        fill(numberOfDecks);
+        reshuffle(shuffleEngine);
+    }
+
+    void fill(int numberOfDecks) {
+        int total = numberOfDecks * Card.CODE_COUNT;
+        if (total > cards.length) {
+            cards = new byte[total];
+        }
+        for (int i = 0; i < total; i++) {
+            cards[i] = (byte) (i % Card.CODE_COUNT);
+        }
+        size = total;
+        cursor = 0;
+    }
+
+    int deal() {
+        if (cursor == size) {
+            throw new IllegalStateException("Shoe is empty");
+        }
+        return cards[cursor++];
+    }
+
+    int remaining() {
+        return size - cursor;
+    }
+
+    void countRemaining(int[] pointCounts) {
+        for (int i = cursor; i < size; i++) {
+            pointCounts[Card.pointIndex(cards[i])]++;
+        }
+    }
+
+    boolean isPastCutCard() {
+        return remaining() < CUT_CARD_RESERVE;
+    }
+
+    void reshuffle(ShuffleEngine shuffleEngine) {
+        cursor = 0;
+        seed = shuffleEngine.getSeed();
+        shuffleEngine.shuffle(cards, size);
+    }
+
+    void reshuffleDiscards(int numberOfDecks, int[] liveCounts, ShuffleEngine shuffleEngine) {
+        if (!hasDiscards(liveCounts)) {
+            fill(numberOfDecks);
+        }
+        int discards = 0;
+        int live = size;
+        byte[] held = new byte[size];
+        for (int i = 0; i < size; i++) {
+            byte code = cards[i];
+            if (liveCounts[code] > 0) {
+                liveCounts[code]--;
+                held[--live] = code;
+            } else {
+                cards[discards++] = code;
+            }
+        }
+        seed = shuffleEngine.getSeed();
+        shuffleEngine.shuffle(cards, discards);
+        System.arraycopy(cards, 0, cards, size - discards, discards);
+        System.arraycopy(held, live, cards, 0, size - live);
+        cursor = size - discards;
+    }
+
+    private boolean hasDiscards(int[] liveCounts) {
+        int[] unmatched = liveCounts.clone();
+        for (int i = 0; i < size; i++) {
+            if (unmatched[cards[i]]-- == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    boolean skip(byte[] codes, int count) {
+        if (count > remaining() || !Arrays.equals(cards, cursor, cursor + count, codes, 0, count)) {
+            return false;
+        }
+        cursor += count;
+        return true;
+    }
+
+    void writeRemaining(ByteBuffer buffer) {
+        buffer.putShort((short) remaining()).put(cards, cursor, remaining());
+    }
+
+    void readRemaining(ByteBuffer buffer) {
+        int count = buffer.getShort() & 0xFFFF;
+        if (count > cards.length) {
+            cards = new byte[count];
+        }
+        buffer.get(cards, 0, count);
+        size = count;
+        cursor = 0;
+    }
+
+    void replace(byte[] codes, int count) {
+        if (count > cards.length) {
+            cards = new byte[count];
+        }
+        System.arraycopy(codes, 0, cards, 0, count);
+        size = count;
+        cursor = 0;
+    }
+
+    void replace(List<Card> replacement) {
+        if (replacement.size() > cards.length) {
+            cards = new byte[replacement.size()];
+        }
+        size = replacement.size();
+        cursor = 0;
+        for (int i = 0; i < size; i++) {
+            cards[i] = (byte) replacement.get(i).getCode();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.game.blackjack;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class ShoePool implements MeterBinder, AutoCloseable {
+
+    static final int MAX_DECKS = 8;
+
+    private final int capacity;
+    private final Executor executor;
+    private final RandomGeneratorFactory<RandomGenerator> shuffleRandomFactory;
+    private final BlockingQueue<Shoe>[] ready;
+    private final BlockingQueue<Shoe> spent;
+    private final AtomicIntegerArray requested = new AtomicIntegerArray(MAX_DECKS + 1);
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refills = new LongAdder();
+    private final LongAdder refillNanos = new LongAdder();
+
+    public ShoePool(int capacity, Executor executor) {
+        this(capacity, executor, ShuffleEngine.DEFAULT_ALGORITHM);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ShoePool(int capacity, Executor executor, String shuffleAlgorithm) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Shoe pool capacity must not be negative");
+        }
+        this.capacity = capacity;
+        this.executor = executor;
+        this.shuffleRandomFactory = RandomGeneratorFactory.of(shuffleAlgorithm);
+        this.ready = new BlockingQueue[MAX_DECKS + 1];
+        for (int decks = 1; decks <= MAX_DECKS; decks++) {
+            ready[decks] = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        }
+        this.spent = new ArrayBlockingQueue<>(Math.max(1, capacity));
+    }
+
+    public void warmUp(int numberOfDecks) {
+        if (capacity > 0) {
+            requested.set(numberOfDecks, 1);
+            scheduleRefill();
+        }
+    }
+
+    Shoe exchange(int numberOfDecks, Shoe spentShoe) {
+        if (capacity == 0 || numberOfDecks < 1 || numberOfDecks > MAX_DECKS) {
+            return null;
+        }
+        requested.set(numberOfDecks, 1);
+        Shoe shoe = ready[numberOfDecks].poll();
+        if (shoe == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+            if (spentShoe != null) {
+                spent.offer(spentShoe);
+            }
+        }
+        scheduleRefill();
+        return shoe;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getRefills() {
+        return refills.sum();
+    }
+
+    public int getReadyCount(int numberOfDecks) {
+        return ready[numberOfDecks].size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("blackjack.shoe.pool.requests", hits, LongAdder::sum)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("blackjack.shoe.pool.requests", misses, LongAdder::sum)
+            .tag("result", "miss")
+            .register(registry);
+        FunctionTimer.builder("blackjack.shoe.pool.refill", this,
+                pool -> pool.refills.sum(),
+                pool -> pool.refillNanos.sum(),
+                TimeUnit.NANOSECONDS)
+            .register(registry);
+        for (int decks = 1; decks <= MAX_DECKS; decks++) {
+            int deckCount = decks;
+            Gauge.builder("blackjack.shoe.pool.ready", this, pool -> pool.getReadyCount(deckCount))
+                .tag("decks", Integer.toString(deckCount))
+                .register(registry);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void scheduleRefill() {
+        if (refillScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::refill);
+            } catch (RejectedExecutionException e) {
+                refillScheduled.set(false);
+            }
+        }
+    }
+
+    private void refill() {
+        try {
+            for (int decks = 1; decks <= MAX_DECKS; decks++) {
+                if (requested.get(decks) == 0) {
+                    continue;
+                }
+                while (ready[decks].remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                    long start = System.nanoTime();
+                    Shoe shoe = spent.poll();
+                    if (shoe == null) {
+                        shoe = new Shoe();
+                    }
+                    shoe.refill(decks, ShuffleEngine.create(shuffleRandomFactory));
+                    refillNanos.add(System.nanoTime() - start);
+                    refills.increment();
+                    if (!ready[decks].offer(shoe)) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            refillScheduled.set(false);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.game.blackjack;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+public interface ShuffleEngine {
+
+    String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    void shuffle(byte[] cards, int length);
+
+    long getSeed();
+
+    static ShuffleEngine create(RandomGeneratorFactory<? extends RandomGenerator> factory) {
+        return create(factory, ThreadLocalRandom.current().nextLong());
+    }
+
+    static ShuffleEngine create(RandomGeneratorFactory<? extends RandomGenerator> factory, long seed) {
+        return new RandomShuffleEngine(factory.create(seed), seed);
+    }
+
+    static ShuffleEngine create(String algorithm) {
+        return create(RandomGeneratorFactory.of(algorithm));
+    }
+
+    static ShuffleEngine create(String algorithm, long seed) {
+        return create(RandomGeneratorFactory.of(algorithm), seed);
+    }
+}
@@ -0,0 +1,69 @@
+package com.game.blackjack;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validator;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableWebSocket
+@ConditionalOnProperty(name = "app.push.enabled", havingValue = "true", matchIfMissing = true)
+public class WebSocketConfig {
+
+    private static final String SEND_THREAD_NAME = "socket-send";
+
+    @Value("${app.cors.allowed-origins:http://localhost:3000}")
+    private String allowedOriginsConfig;
+
+    @Bean
+    public static GameUpdates gameUpdates() {
+        return new GameUpdates();
+    }
+
+    @Bean
+    public GameSocketHandler gameSocketHandler(
+            BlackjackSessionService sessionService,
+            GameUpdates gameUpdates,
+            ObjectMapper objectMapper,
+            Validator validator,
+            ApiRateLimitInterceptor apiRateLimitInterceptor,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return new GameSocketHandler(sessionService, gameUpdates, objectMapper, validator, apiRateLimitInterceptor,
+                sendExecutor(virtualThreads));
+    }
+
+    @Bean
+    public WebSocketConfigurer gameSocketConfigurer(GameSocketHandler gameSocketHandler) {
+        return registry -> registry.addHandler(gameSocketHandler, "/api/blackjack/ws")
+            .addInterceptors(gameSocketHandler)
+            .setAllowedOrigins(getAllowedOrigins());
+    }
+
+    static ExecutorService sendExecutor(boolean virtualThreads) {
+        if (virtualThreads) {
+            return BlackjackApplication.backgroundExecutor(SEND_THREAD_NAME, true);
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, SEND_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private String[] getAllowedOrigins() {
+        return Arrays.stream(allowedOriginsConfig.split(","))
+            .map(String::trim)
+            .filter(origin -> !origin.isEmpty())
+            .toArray(String[]::new);
+    }
+}
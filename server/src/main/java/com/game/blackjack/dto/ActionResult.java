@@ -0,0 +1,4 @@
+package com.game.blackjack.dto;
+
+public record ActionResult(String action, boolean applied, String error) {
+}
@@ -0,0 +1,6 @@
+package com.game.blackjack.dto;
+
+import java.util.List;
+
+public record ActionsResponse(List<ActionResult> results, StateResponse state) {
+}
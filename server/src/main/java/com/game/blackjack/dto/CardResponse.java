@@ -4,7 +4,41 @@ import com.game.blackjack.Card;
 
 public record CardResponse(String value, String suit) {
 
+    private static final CardResponse[] CANONICAL = new CardResponse[Card.CODE_COUNT];
+
+    static {
+        for (int code = 0; code < Card.CODE_COUNT; code++) {
+            Card card = Card.of(code);
+            CANONICAL[code] = new CardResponse(card.getValue(), card.getSuit());
+        }
+    }
+
     public static CardResponse from(Card card) {
-        return new CardResponse(card.getValue(), card.getSuit());
+        return CANONICAL[card.getCode()];
+    }
+
+    public static int codeOf(CardResponse card) {
+        String value = card.value();
+        String suit = card.suit();
+        if (value == null || value.isEmpty() || suit == null || suit.isEmpty()) {
+            return -1;
+        }
+        int rank = switch (value.charAt(0)) {
+            case '1' -> 8;
+            case 'J' -> 9;
+            case 'Q' -> 10;
+            case 'K' -> 11;
+            case 'A' -> 12;
+            default -> value.charAt(0) - '2';
+        };
+        int suitIndex = switch (suit.charAt(0)) {
+            case 'H' -> 0;
+            case 'D' -> 1;
+            case 'C' -> 2;
+            case 'S' -> 3;
+            default -> -1;
+        };
+        int code = Card.encode(rank, suitIndex);
+        return code >= 0 && code < Card.CODE_COUNT && CANONICAL[code] == card ? code : -1;
     }
 }
@@ -0,0 +1,133 @@
+package com.game.blackjack.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.game.blackjack.Card;
+import com.game.blackjack.GameView;
+import com.game.blackjack.GameView.HandView;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GameDelta(
+    long revision,
+    long baseRevision,
+    List<CardResponse> dealerCards,
+    List<HandDelta> playerHands,
+    Boolean gameOver,
+    Integer balance,
+    Integer currentBet,
+    Boolean bettingOpen,
+    Integer deckSize,
+    Boolean dealerHitsOnSoft17,
+    Integer numberOfDecks,
+    @JsonProperty("hasDoubledDown") Boolean doubledDown,
+    Integer insuranceBet,
+    Boolean insuranceOffered,
+    Boolean insuranceResolved,
+    String insuranceOutcome,
+    Integer maxInsuranceBet
+) implements StateResponse {
+
+    public static GameDelta between(GameView base, GameView current) {
+        if (current.playerHands().size() < base.playerHands().size()
+                || !startsWith(current.dealerHand(), base.dealerHand())
+                || cleared(base.insuranceOutcome(), current.insuranceOutcome())) {
+            return null;
+        }
+        List<HandDelta> hands = new ArrayList<>();
+        for (int i = 0; i < current.playerHands().size(); i++) {
+            HandView hand = current.playerHands().get(i);
+            HandDelta delta = i < base.playerHands().size()
+                    ? HandDelta.between(i, base.playerHands().get(i), hand)
+                    : HandDelta.of(i, hand);
+            if (delta == HandDelta.CLEARED) {
+                return null;
+            }
+            if (delta != null) {
+                hands.add(delta);
+            }
+        }
+        List<Card> dealerCards = current.dealerHand().subList(base.dealerHand().size(), current.dealerHand().size());
+        return new GameDelta(
+            current.revision(),
+            base.revision(),
+            dealerCards.isEmpty() ? null : responses(dealerCards),
+            hands.isEmpty() ? null : hands,
+            changed(base.gameOver(), current.gameOver()),
+            changed(base.balance(), current.balance()),
+            changed(base.currentBet(), current.currentBet()),
+            changed(base.bettingOpen(), current.bettingOpen()),
+            changed(base.deckSize(), current.deckSize()),
+            changed(base.dealerHitsOnSoft17(), current.dealerHitsOnSoft17()),
+            changed(base.numberOfDecks(), current.numberOfDecks()),
+            changed(base.doubledDown(), current.doubledDown()),
+            changed(base.insuranceBet(), current.insuranceBet()),
+            changed(base.insuranceOffered(), current.insuranceOffered()),
+            changed(base.insuranceResolved(), current.insuranceResolved()),
+            changed(base.insuranceOutcome(), current.insuranceOutcome()),
+            changed(base.maxInsuranceBet(), current.maxInsuranceBet())
+        );
+    }
+
+    private static <T> T changed(T base, T current) {
+        return Objects.equals(base, current) ? null : current;
+    }
+
+    private static boolean cleared(Object base, Object current) {
+        return base != null && current == null;
+    }
+
+    private static boolean startsWith(List<Card> cards, List<Card> prefix) {
+        return cards.size() >= prefix.size() && cards.subList(0, prefix.size()).equals(prefix);
+    }
+
+    private static List<CardResponse> responses(List<Card> cards) {
+        return cards.stream().map(CardResponse::from).toList();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record HandDelta(
+        int index,
+        List<CardResponse> cards,
+        List<CardResponse> addedCards,
+        Integer bet,
+        @JsonProperty("isTurn") Boolean turn,
+        @JsonProperty("isStanding") Boolean standing,
+        @JsonProperty("isBusted") Boolean busted,
+        @JsonProperty("hasDoubledDown") Boolean doubledDown,
+        String outcome
+    ) {
+
+        private static final HandDelta CLEARED = new HandDelta(-1, null, null, null, null, null, null, null, null);
+
+        static HandDelta of(int index, HandView hand) {
+            return new HandDelta(index, responses(hand.cards()), null, hand.bet(), hand.turn(), hand.standing(),
+                    hand.busted(), hand.doubledDown(), hand.outcome());
+        }
+
+        static HandDelta between(int index, HandView base, HandView current) {
+            if (cleared(base.outcome(), current.outcome())) {
+                return CLEARED;
+            }
+            if (base.equals(current)) {
+                return null;
+            }
+            boolean appended = startsWith(current.cards(), base.cards());
+            List<Card> added = appended ? current.cards().subList(base.cards().size(), current.cards().size()) : null;
+            return new HandDelta(
+                index,
+                appended ? null : responses(current.cards()),
+                added == null || added.isEmpty() ? null : responses(added),
+                changed(base.bet(), current.bet()),
+                changed(base.turn(), current.turn()),
+                changed(base.standing(), current.standing()),
+                changed(base.busted(), current.busted()),
+                changed(base.doubledDown(), current.doubledDown()),
+                changed(base.outcome(), current.outcome())
+            );
+        }
+    }
+}
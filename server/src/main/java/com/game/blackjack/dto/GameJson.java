@@ -0,0 +1,4 @@
+package com.game.blackjack.dto;
+
+public record GameJson(byte[] json, long revision) implements StateResponse {
+}
@@ -3,8 +3,14 @@ package com.game.blackjack.dto;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.game.blackjack.BlackjackGame;
 
+@JsonPropertyOrder({
+    "playerHands", "dealerHand", "gameOver", "balance", "currentBet", "bettingOpen", "deckSize",
+    "dealerHitsOnSoft17", "numberOfDecks", "hasDoubledDown", "insuranceBet", "insuranceOffered",
+    "insuranceResolved", "insuranceOutcome", "maxInsuranceBet", "revision"
+})
 public record GameResponse(
     List<HandResponse> playerHands,
     List<CardResponse> dealerHand,
@@ -20,8 +26,9 @@ public record GameResponse(
     boolean insuranceOffered,
     boolean insuranceResolved,
     String insuranceOutcome,
-    int maxInsuranceBet
-) {
+    int maxInsuranceBet,
+    long revision
+) implements StateResponse {
 
     public static GameResponse from(BlackjackGame game) {
         return new GameResponse(
@@ -39,7 +46,8 @@ public record GameResponse(
             game.isInsuranceOffered(),
             game.isInsuranceResolved(),
             game.getInsuranceOutcome(),
-            game.getMaxInsuranceBet()
+            game.getMaxInsuranceBet(),
+            game.getRevision()
         );
     }
 }
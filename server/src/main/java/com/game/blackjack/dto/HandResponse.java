@@ -3,8 +3,12 @@ package com.game.blackjack.dto;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.game.blackjack.Hand;
 
+@JsonPropertyOrder({
+    "cards", "bet", "isTurn", "isStanding", "isBusted", "hasDoubledDown", "outcome"
+})
 public record HandResponse(
     List<CardResponse> cards,
     int bet,
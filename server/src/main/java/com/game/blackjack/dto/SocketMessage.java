@@ -0,0 +1,19 @@
+package com.game.blackjack.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SocketMessage(String type, String action, StateResponse state, CardResponse card, String error) {
+
+    public static SocketMessage state(StateResponse state) {
+        return new SocketMessage("state", null, state, null, null);
+    }
+
+    public static SocketMessage dealerCard(CardResponse card) {
+        return new SocketMessage("dealerCard", null, null, card, null);
+    }
+
+    public static SocketMessage error(String action, String error) {
+        return new SocketMessage("error", action, null, null, error);
+    }
+}
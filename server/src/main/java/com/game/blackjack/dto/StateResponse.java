@@ -0,0 +1,19 @@
+package com.game.blackjack.dto;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.GameView;
+
+public interface StateResponse {
+
+    long revision();
+
+    static StateResponse from(BlackjackGame game, Long since) {
+        GameDelta delta = delta(game, since);
+        return delta != null ? delta : GameResponse.from(game);
+    }
+
+    static GameDelta delta(BlackjackGame game, Long since) {
+        GameView base = since != null ? game.viewAt(since) : null;
+        return base != null ? GameDelta.between(base, GameView.of(game)) : null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.game.blackjack.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import com.game.blackjack.GameAction;
+
+final class JournalReader {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final GameAction[] ACTIONS = GameAction.values();
+
+    interface Visitor {
+
+        void stream(int stream, String key);
+
+        void event(int stream, long position, GameAction action, int amount, byte[] cards, int cardCount);
+    }
+
+    private JournalReader() {
+    }
+
+    static Path segmentPath(Path directory, long index) {
+        return directory.resolve(String.format(Locale.ROOT, "%s%016d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    static long segmentIndex(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    static long position(long segment, int offset) {
+        return segment << 32 | offset;
+    }
+
+    static long segment(long position) {
+        return position >>> 32;
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+
+    static void read(List<Path> segments, long from, Visitor visitor) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] cards = new byte[RoundJournal.MAX_CARDS];
+        for (Path segment : segments) {
+            long index = segmentIndex(segment);
+            if (index < segment(from)) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (index == segment(from)) {
+                    buffer.position((int) Math.min(from & 0xFFFFFFFFL, buffer.limit()));
+                }
+                readSegment(index, buffer, crc, cards, visitor);
+            }
+        }
+    }
+
+    private static void readSegment(long index, ByteBuffer buffer, CRC32C crc, byte[] cards, Visitor visitor) {
+        while (buffer.remaining() >= RoundJournal.RECORD_HEADER) {
+            int position = buffer.position();
+            int payload = buffer.getInt(position);
+            if (payload <= 0 || payload > buffer.remaining() - RoundJournal.RECORD_HEADER) {
+                return;
+            }
+            crc.reset();
+            crc.update(buffer.slice(position + RoundJournal.RECORD_HEADER, payload));
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                return;
+            }
+            int end = position + RoundJournal.RECORD_HEADER + payload;
+            buffer.position(position + RoundJournal.RECORD_HEADER);
+            byte type = buffer.get();
+            int stream = buffer.getInt();
+            if (type == RoundJournal.STREAM_RECORD) {
+                byte[] key = new byte[buffer.getShort()];
+                buffer.get(key);
+                visitor.stream(stream, new String(key, StandardCharsets.UTF_8));
+            } else if (type == RoundJournal.EVENT_RECORD) {
+                GameAction action = ACTIONS[buffer.get()];
+                int amount = buffer.getInt();
+                int cardCount = buffer.get() & 0xFF;
+                buffer.get(cards, 0, cardCount);
+                visitor.event(stream, position(index, end), action, amount, cards, cardCount);
+            }
+            buffer.position(end);
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package com.game.blackjack.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32C;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.GameAction;
+import com.game.blackjack.GameListener;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+public class RoundJournal implements MeterBinder, AutoCloseable {
+
+    static final int RECORD_HEADER = 8;
+    static final byte STREAM_RECORD = 1;
+    static final byte EVENT_RECORD = 2;
+    static final int MIN_SEGMENT_BYTES = 4096;
+    static final int MAX_CARDS = 255;
+    static final int MAX_TAIL_BYTES = 1024;
+
+    private static final byte[] NO_CARDS = new byte[0];
+    private static final int EVENT_PAYLOAD = 11;
+    private static final int TAIL_EVENT = 6;
+    private static final GameAction[] ACTIONS = GameAction.values();
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long flushIntervalNanos;
+    private final long snapshotIntervalNanos;
+    private final ExecutorService flusher;
+    private final ExecutorService snapshotter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final CRC32C crc = new CRC32C();
+    private final Map<String, Integer> streams = new ConcurrentHashMap<>();
+    private final Map<Integer, StreamListener> listeners = new ConcurrentHashMap<>();
+    private final LongAdder appends = new LongAdder();
+    private final LongAdder appendNanos = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushNanos = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+    private final LongAdder snapshotNanos = new LongAdder();
+    private final LongAdder snapshotFailures = new LongAdder();
+
+    private int nextStreamId;
+    private long nextSegment;
+    private FileChannel channel;
+    private volatile MappedByteBuffer segment;
+    private volatile long written;
+    private volatile long flushed;
+    private volatile boolean recovered;
+    private volatile boolean closed;
+
+    public RoundJournal(Path directory, int segmentBytes, Duration flushInterval, Duration snapshotInterval,
+            ExecutorService flusher, ExecutorService snapshotter) {
+        if (segmentBytes < MIN_SEGMENT_BYTES) {
+            throw new IllegalArgumentException("Journal segments must be at least " + MIN_SEGMENT_BYTES + " bytes");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.flushIntervalNanos = Math.max(1, flushInterval.toNanos());
+        this.snapshotIntervalNanos = Math.max(0, snapshotInterval.toNanos());
+        this.flusher = flusher;
+        this.snapshotter = snapshotter;
+        flusher.execute(this::flushLoop);
+        if (snapshotIntervalNanos > 0) {
+            snapshotter.execute(this::snapshotLoop);
+        }
+    }
+
+    public Map<String, BlackjackGame> recover(IntFunction<BlackjackGame> gameFactory) {
+        lock.lock();
+        try {
+            if (recovered) {
+                throw new IllegalStateException("Journal has already been recovered");
+            }
+            Files.createDirectories(directory);
+            Map<Integer, String> keys = new HashMap<>();
+            Map<Integer, BlackjackGame> games = new TreeMap<>();
+            Map<Integer, Long> applied = new HashMap<>();
+            long from = SnapshotFile.readLatest(directory, (stream, key, lastPosition, snapshot, tail) -> {
+                keys.put(stream, key);
+                nextStreamId = Math.max(nextStreamId, stream + 1);
+                if (!snapshot.hasRemaining()) {
+                    return;
+                }
+                BlackjackGame game = gameFactory.apply(0);
+                try {
+                    game.readSnapshot(snapshot);
+                    replayTail(game, tail);
+                    games.put(stream, game);
+                    applied.put(stream, lastPosition);
+                } catch (RuntimeException e) {
+                    applied.put(stream, lastPosition);
+                }
+            });
+            List<Path> segments = JournalReader.segments(directory);
+            JournalReader.read(segments, Math.max(0, from), new JournalReader.Visitor() {
+                @Override
+                public void stream(int stream, String key) {
+                    keys.put(stream, key);
+                    nextStreamId = Math.max(nextStreamId, stream + 1);
+                }
+
+                @Override
+                public void event(int stream, long position, GameAction action, int amount, byte[] cards,
+                        int cardCount) {
+                    if (position <= applied.getOrDefault(stream, -1L)) {
+                        return;
+                    }
+                    if (action == GameAction.NEW_GAME) {
+                        games.put(stream, gameFactory.apply(amount));
+                        return;
+                    }
+                    BlackjackGame game = games.get(stream);
+                    if (game == null) {
+                        return;
+                    }
+                    try {
+                        game.replay(action, amount, cards, cardCount);
+                    } catch (RuntimeException e) {
+                        games.remove(stream);
+                    }
+                }
+            });
+            nextSegment = Math.max(
+                    segments.isEmpty() ? 0 : JournalReader.segmentIndex(segments.get(segments.size() - 1)) + 1,
+                    from < 0 ? 0 : JournalReader.segment(from) + 1);
+            long recoveredPosition = JournalReader.position(nextSegment, 0);
+
+            Map<String, BlackjackGame> recoveredGames = new HashMap<>();
+            games.forEach((stream, game) -> {
+                String key = keys.get(stream);
+                if (key != null) {
+                    game.finishReplay();
+                    StreamListener listener = new StreamListener(stream);
+                    listener.restore(game, recoveredPosition);
+                    listeners.put(stream, listener);
+                    game.setListener(listener);
+                    Integer replaced = streams.put(key, stream);
+                    if (replaced != null) {
+                        listeners.remove(replaced);
+                    }
+                    recoveredGames.put(key, game);
+                }
+            });
+            recovered = true;
+            return recoveredGames;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void attach(String key, BlackjackGame game) {
+        int stream = register(key);
+        StreamListener listener = new StreamListener(stream);
+        listeners.put(stream, listener);
+        game.setListener(listener);
+        listener.start(game);
+    }
+
+    public void detach(String key) {
+        Integer stream = streams.remove(key);
+        if (stream != null) {
+            StreamListener listener = listeners.remove(stream);
+            if (listener != null) {
+                listener.detach();
+            }
+        }
+    }
+
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            long start = System.nanoTime();
+            long position;
+            lock.lock();
+            try {
+                if (!recovered) {
+                    throw new IllegalStateException("Journal must be recovered before it is snapshotted");
+                }
+                position = position();
+            } finally {
+                lock.unlock();
+            }
+            try (SnapshotFile.Writer writer = new SnapshotFile.Writer(directory, position)) {
+                for (Map.Entry<String, Integer> entry : streams.entrySet()) {
+                    StreamListener listener = listeners.get(entry.getValue());
+                    if (listener != null) {
+                        listener.writeTo(writer, entry.getKey());
+                    }
+                }
+                writer.commit();
+            }
+            for (Path old : SnapshotFile.snapshots(directory)) {
+                if (SnapshotFile.position(old) < position) {
+                    Files.deleteIfExists(old);
+                }
+            }
+            for (Path old : JournalReader.segments(directory)) {
+                if (JournalReader.segmentIndex(old) < JournalReader.segment(position)) {
+                    Files.deleteIfExists(old);
+                }
+            }
+            snapshots.increment();
+            snapshotNanos.add(System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    long append(int stream, GameAction action, int amount, byte[] cards, int cardCount) {
+        if (cardCount > MAX_CARDS) {
+            throw new IllegalArgumentException("Too many cards for one journal event: " + cardCount);
+        }
+        long start = System.nanoTime();
+        int payload = EVENT_PAYLOAD + cardCount;
+        long end;
+        lock.lock();
+        try {
+            MappedByteBuffer buffer = reserve(payload);
+            int position = buffer.position();
+            buffer.position(position + RECORD_HEADER);
+            buffer.put(EVENT_RECORD)
+                .putInt(stream)
+                .put((byte) action.ordinal())
+                .putInt(amount)
+                .put((byte) cardCount)
+                .put(cards, 0, cardCount);
+            seal(buffer, position, payload);
+            end = position();
+        } finally {
+            lock.unlock();
+        }
+        appends.increment();
+        appendNanos.add(System.nanoTime() - start);
+        return end;
+    }
+
+    void flush() {
+        long target = written;
+        MappedByteBuffer current = segment;
+        if (current == null || target == flushed) {
+            return;
+        }
+        long start = System.nanoTime();
+        current.force();
+        flushed = target;
+        flushes.increment();
+        flushNanos.add(System.nanoTime() - start);
+    }
+
+    long writtenBytes() {
+        return written;
+    }
+
+    long flushedBytes() {
+        return flushed;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("blackjack.journal.append", this,
+                journal -> journal.appends.sum(),
+                journal -> journal.appendNanos.sum(),
+                TimeUnit.NANOSECONDS)
+            .register(registry);
+        FunctionTimer.builder("blackjack.journal.flush", this,
+                journal -> journal.flushes.sum(),
+                journal -> journal.flushNanos.sum(),
+                TimeUnit.NANOSECONDS)
+            .register(registry);
+        FunctionCounter.builder("blackjack.journal.bytes", this, RoundJournal::writtenBytes)
+            .register(registry);
+        FunctionTimer.builder("blackjack.journal.snapshot", this,
+                journal -> journal.snapshots.sum(),
+                journal -> journal.snapshotNanos.sum(),
+                TimeUnit.NANOSECONDS)
+            .register(registry);
+        FunctionCounter.builder("blackjack.journal.snapshot.failures", snapshotFailures, LongAdder::sum)
+            .register(registry);
+        Gauge.builder("blackjack.journal.streams", streams, Map::size)
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flusher.shutdownNow();
+        snapshotter.shutdownNow();
+        if (recovered && snapshotIntervalNanos > 0) {
+            snapshot();
+        }
+        lock.lock();
+        try {
+            if (segment != null) {
+                segment.force();
+                flushed = written;
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int register(String key) {
+        Integer known = streams.get(key);
+        if (known != null) {
+            return known;
+        }
+        lock.lock();
+        try {
+            known = streams.get(key);
+            if (known != null) {
+                return known;
+            }
+            int stream = nextStreamId++;
+            byte[] name = key.getBytes(StandardCharsets.UTF_8);
+            int payload = 1 + 4 + 2 + name.length;
+            MappedByteBuffer buffer = reserve(payload);
+            int position = buffer.position();
+            buffer.position(position + RECORD_HEADER);
+            buffer.put(STREAM_RECORD).putInt(stream).putShort((short) name.length).put(name);
+            seal(buffer, position, payload);
+            streams.put(key, stream);
+            return stream;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private MappedByteBuffer reserve(int payload) {
+        if (!recovered) {
+            throw new IllegalStateException("Journal must be recovered before it is written");
+        }
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        int size = RECORD_HEADER + payload;
+        if (size > segmentBytes - 4) {
+            throw new IllegalArgumentException("Journal record of " + size + " bytes does not fit a segment");
+        }
+        MappedByteBuffer buffer = segment;
+        if (buffer == null || buffer.remaining() < size + 4) {
+            buffer = roll();
+        }
+        return buffer;
+    }
+
+    private void seal(MappedByteBuffer buffer, int position, int payload) {
+        crc.reset();
+        crc.update(buffer.slice(position + RECORD_HEADER, payload));
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, payload);
+        written += RECORD_HEADER + payload;
+    }
+
+    private long position() {
+        MappedByteBuffer current = segment;
+        return current == null
+                ? JournalReader.position(nextSegment, 0)
+                : JournalReader.position(nextSegment - 1, current.position());
+    }
+
+    private MappedByteBuffer roll() {
+        try {
+            if (segment != null) {
+                segment.force();
+                channel.close();
+            }
+            Path file = JournalReader.segmentPath(directory, nextSegment++);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushLoop() {
+        while (!closed && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(flushIntervalNanos);
+            flush();
+        }
+    }
+
+    private void snapshotLoop() {
+        while (!closed && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(snapshotIntervalNanos);
+            if (!closed && recovered) {
+                try {
+                    snapshot();
+                } catch (RuntimeException e) {
+                    snapshotFailures.increment();
+                }
+            }
+        }
+    }
+
+    private static void replayTail(BlackjackGame game, ByteBuffer tail) {
+        byte[] cards = new byte[MAX_CARDS];
+        while (tail.hasRemaining()) {
+            GameAction action = ACTIONS[tail.get()];
+            int amount = tail.getInt();
+            int cardCount = tail.get() & 0xFF;
+            tail.get(cards, 0, cardCount);
+            game.replay(action, amount, cards, cardCount);
+        }
+    }
+
+    private final class StreamListener implements GameListener {
+
+        private final int stream;
+        private byte[] snapshot = NO_CARDS;
+        private int snapshotLength;
+        private byte[] tail = NO_CARDS;
+        private int tailLength;
+        private long lastPosition = -1;
+        private boolean detached;
+
+        StreamListener(int stream) {
+            this.stream = stream;
+        }
+
+        synchronized void start(BlackjackGame game) {
+            lastPosition = append(stream, GameAction.NEW_GAME, game.getBalance(), NO_CARDS, 0);
+            capture(game);
+        }
+
+        synchronized void restore(BlackjackGame game, long position) {
+            lastPosition = position;
+            capture(game);
+        }
+
+        @Override
+        public synchronized void onAction(BlackjackGame game, GameAction action, int amount, byte[] drawn,
+                int drawnCount) {
+            if (detached) {
+                return;
+            }
+            lastPosition = append(stream, action, amount, drawn, drawnCount);
+            int length = tailLength + TAIL_EVENT + drawnCount;
+            if (length > MAX_TAIL_BYTES || action == GameAction.DECKS) {
+                capture(game);
+                return;
+            }
+            if (length > tail.length) {
+                tail = Arrays.copyOf(tail, Math.min(MAX_TAIL_BYTES, Math.max(length, tail.length * 2)));
+            }
+            ByteBuffer.wrap(tail, tailLength, length - tailLength)
+                .put((byte) action.ordinal())
+                .putInt(amount)
+                .put((byte) drawnCount)
+                .put(drawn, 0, drawnCount);
+            tailLength = length;
+        }
+
+        synchronized void detach() {
+            detached = true;
+            snapshot = NO_CARDS;
+            snapshotLength = 0;
+            tail = NO_CARDS;
+            tailLength = 0;
+        }
+
+        synchronized void writeTo(SnapshotFile.Writer writer, String key) throws IOException {
+            if (detached) {
+                return;
+            }
+            writer.stream(stream, key, lastPosition, snapshot, snapshotLength, tail, tailLength);
+        }
+
+        private void capture(BlackjackGame game) {
+            int size = game.snapshotSize();
+            if (size > snapshot.length) {
+                snapshot = new byte[size];
+            }
+            game.writeSnapshot(ByteBuffer.wrap(snapshot));
+            snapshotLength = size;
+            tailLength = 0;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.game.blackjack.journal;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+final class SnapshotFile {
+
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".bin";
+    private static final String TEMPORARY = "snapshot.tmp";
+    private static final int MAGIC = 0x424A534E;
+    private static final int HEADER = 12;
+    private static final int END_OF_STREAMS = -1;
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    interface Visitor {
+
+        void stream(int stream, String key, long lastPosition, ByteBuffer snapshot, ByteBuffer tail);
+    }
+
+    private SnapshotFile() {
+    }
+
+    static Path path(Path directory, long position) {
+        return directory.resolve(String.format(Locale.ROOT, "%s%016x%s", PREFIX, position, SUFFIX));
+    }
+
+    static long position(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseUnsignedLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()), 16);
+    }
+
+    static List<Path> snapshots(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                })
+                .sorted()
+                .toList();
+        }
+    }
+
+    static long readLatest(Path directory, Visitor visitor) throws IOException {
+        List<Path> snapshots = snapshots(directory);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try (FileChannel channel = FileChannel.open(snapshots.get(i), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (isValid(buffer)) {
+                    return read(buffer, visitor);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isValid(ByteBuffer buffer) {
+        int length = buffer.limit() - 4;
+        if (length < HEADER + 4 || buffer.getInt(0) != MAGIC) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, length));
+        return (int) crc.getValue() == buffer.getInt(length);
+    }
+
+    private static long read(ByteBuffer buffer, Visitor visitor) {
+        long position = buffer.getLong(4);
+        buffer.position(HEADER);
+        int stream;
+        while ((stream = buffer.getInt()) != END_OF_STREAMS) {
+            byte[] key = new byte[buffer.getShort()];
+            buffer.get(key);
+            long lastPosition = buffer.getLong();
+            ByteBuffer snapshot = next(buffer);
+            ByteBuffer tail = next(buffer);
+            visitor.stream(stream, new String(key, StandardCharsets.UTF_8), lastPosition, snapshot, tail);
+        }
+        return position;
+    }
+
+    private static ByteBuffer next(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        ByteBuffer slice = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    static final class Writer implements Closeable {
+
+        private final Path directory;
+        private final Path temporary;
+        private final long position;
+        private final FileOutputStream file;
+        private final CRC32C crc = new CRC32C();
+        private final DataOutputStream out;
+        private boolean committed;
+
+        Writer(Path directory, long position) throws IOException {
+            this.directory = directory;
+            this.temporary = directory.resolve(TEMPORARY);
+            this.position = position;
+            this.file = new FileOutputStream(temporary.toFile());
+            this.out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file, BUFFER_BYTES), crc));
+            out.writeInt(MAGIC);
+            out.writeLong(position);
+        }
+
+        void stream(int stream, String key, long lastPosition, byte[] snapshot, int snapshotLength, byte[] tail,
+                int tailLength) throws IOException {
+            byte[] name = key.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(stream);
+            out.writeShort(name.length);
+            out.write(name);
+            out.writeLong(lastPosition);
+            out.writeInt(snapshotLength);
+            out.write(snapshot, 0, snapshotLength);
+            out.writeInt(tailLength);
+            out.write(tail, 0, tailLength);
+        }
+
+        Path commit() throws IOException {
+            out.writeInt(END_OF_STREAMS);
+            out.flush();
+            file.write(ByteBuffer.allocate(4).putInt(0, (int) crc.getValue()).array());
+            file.getFD().sync();
+            file.close();
+            committed = true;
+            return Files.move(temporary, path(directory, position), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                file.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+}
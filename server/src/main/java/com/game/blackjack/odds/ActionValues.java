@@ -0,0 +1,10 @@
+package com.game.blackjack.odds;
+
+public record ActionValues(
+    double stand,
+    double hit,
+    Double doubleDown,
+    Double split,
+    Double insurance
+) {
+}
@@ -0,0 +1,39 @@
+package com.game.blackjack.odds;
+
+public record DealerOutcomes(
+    double total17,
+    double total18,
+    double total19,
+    double total20,
+    double total21,
+    double blackjack,
+    double bust
+) {
+
+    static DealerOutcomes of(double[] probabilities) {
+        return new DealerOutcomes(
+            probabilities[0],
+            probabilities[1],
+            probabilities[2],
+            probabilities[3],
+            probabilities[4],
+            probabilities[5],
+            probabilities[6]
+        );
+    }
+
+    public double[] standValues(boolean blackjackRuledOut) {
+        double scale = !blackjackRuledOut ? 1 : blackjack < 1 ? 1 / (1 - blackjack) : 0;
+        double[] finals = { total17, total18, total19, total20, total21 + (blackjackRuledOut ? 0 : blackjack) };
+        double[] values = new double[22];
+        for (int total = 0; total < values.length; total++) {
+            double value = bust;
+            for (int dealerTotal = 17; dealerTotal <= 21; dealerTotal++) {
+                double probability = finals[dealerTotal - 17];
+                value += total > dealerTotal ? probability : total < dealerTotal ? -probability : 0;
+            }
+            values[total] = value * scale;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,148 @@
+package com.game.blackjack.odds;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+
+public class DealerProbabilityCalculator {
+
+    static final int OUTCOMES = 7;
+    static final int BLACKJACK = 5;
+    static final int BUST = 6;
+
+    private static final int TEN_INDEX = Card.POINT_VALUES - 1;
+    private static final int SMALL_BITS = 6;
+    private static final int TEN_BITS = 8;
+    private static final double[][] CERTAIN = new double[OUTCOMES][OUTCOMES];
+
+    static {
+        for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+            CERTAIN[outcome][outcome] = 1;
+        }
+    }
+
+    private final Map<CacheKey, double[]> cache;
+
+    public DealerProbabilityCalculator(int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("Dealer odds cache size must be positive");
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, double[]> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public DealerOutcomes outcomes(BlackjackGame game) {
+        Card upcard = game.getDealerUpcard();
+        if (upcard == null || game.isGameOver()) {
+            throw new IllegalStateException("No active round to compute dealer odds for");
+        }
+        return outcomes(Card.pointIndex(upcard.getCode()), game.getUnseenPointCounts(), game.isDealerHitsOnSoft17());
+    }
+
+    public DealerOutcomes outcomes(int upcardIndex, int[] unseen, boolean dealerHitsOnSoft17) {
+        return DealerOutcomes.of(distribution(upcardIndex, unseen, dealerHitsOnSoft17));
+    }
+
+    double[] distribution(int upcardIndex, int[] unseen, boolean dealerHitsOnSoft17) {
+        if (upcardIndex < 0 || upcardIndex >= Card.POINT_VALUES) {
+            throw new IllegalArgumentException("Unknown upcard index: " + upcardIndex);
+        }
+        long composition = pack(unseen);
+        CacheKey key = new CacheKey(composition, upcardIndex, dealerHitsOnSoft17);
+        double[] cached;
+        synchronized (cache) {
+            cached = cache.get(key);
+        }
+        if (cached != null) {
+            return cached;
+        }
+
+        int[] counts = unseen.clone();
+        int remaining = 0;
+        for (int count : counts) {
+            remaining += count;
+        }
+        DealerWalk walk = new DealerWalk(counts, dealerHitsOnSoft17);
+        double[] result = walk.play(composition, remaining, hardPoints(upcardIndex), upcardIndex == 0, 1);
+        synchronized (cache) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    static long pack(int[] counts) {
+        if (counts.length != Card.POINT_VALUES) {
+            throw new IllegalArgumentException("Composition must have " + Card.POINT_VALUES + " point counts");
+        }
+        long packed = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int limit = i == TEN_INDEX ? (1 << TEN_BITS) - 1 : (1 << SMALL_BITS) - 1;
+            if (counts[i] < 0 || counts[i] > limit) {
+                throw new IllegalArgumentException("Composition count out of range: " + counts[i]);
+            }
+            packed += counts[i] * unit(i);
+        }
+        return packed;
+    }
+
+    static long unit(int index) {
+        return 1L << (index * SMALL_BITS);
+    }
+
+    static int hardPoints(int index) {
+        return index + 1;
+    }
+
+    private record CacheKey(long composition, int upcardIndex, boolean dealerHitsOnSoft17) {
+    }
+
+    private static final class DealerWalk {
+
+        private final int[] counts;
+        private final boolean dealerHitsOnSoft17;
+        private final Map<Long, double[]> memo = new HashMap<>();
+
+        DealerWalk(int[] counts, boolean dealerHitsOnSoft17) {
+            this.counts = counts;
+            this.dealerHitsOnSoft17 = dealerHitsOnSoft17;
+        }
+
+        double[] play(long composition, int remaining, int hard, boolean hasAce, int cards) {
+            if (hard > 21) {
+                return CERTAIN[BUST];
+            }
+            boolean soft = hasAce && hard + 10 <= 21;
+            int total = soft ? hard + 10 : hard;
+            if (cards >= 2 && (total > 17 || total == 17 && !(soft && dealerHitsOnSoft17))) {
+                return CERTAIN[cards == 2 && total == 21 ? BLACKJACK : total - 17];
+            }
+            double[] known = memo.get(composition);
+            if (known != null) {
+                return known;
+            }
+
+            double[] result = new double[OUTCOMES];
+            for (int i = 0; i < Card.POINT_VALUES; i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                double probability = (double) counts[i] / remaining;
+                counts[i]--;
+                double[] next = play(composition - unit(i), remaining - 1, hard + hardPoints(i), hasAce || i == 0, cards + 1);
+                counts[i]++;
+                for (int outcome = 0; outcome < OUTCOMES; outcome++) {
+                    result[outcome] += probability * next[outcome];
+                }
+            }
+            memo.put(composition, result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.game.blackjack.odds;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+import com.game.blackjack.Hand;
+
+public class ExpectedValueCalculator {
+
+    private static final int ACE = 0;
+    private static final int TEN = Card.POINT_VALUES - 1;
+    private static final int RESPLIT_ITERATIONS = 32;
+
+    private final DealerProbabilityCalculator dealerProbabilityCalculator;
+    private final ForkJoinPool pool;
+
+    public ExpectedValueCalculator(DealerProbabilityCalculator dealerProbabilityCalculator, ForkJoinPool pool) {
+        this.dealerProbabilityCalculator = dealerProbabilityCalculator;
+        this.pool = pool;
+    }
+
+    public ActionValues values(BlackjackGame game) {
+        Hand hand = game.getCurrentHand();
+        Card upcard = game.getDealerUpcard();
+        if (game.isGameOver() || hand == null || upcard == null) {
+            throw new IllegalStateException("No active round to compute expected values for");
+        }
+        int upcardIndex = Card.pointIndex(upcard.getCode());
+        int[] unseen = game.getUnseenPointCounts();
+        double[] stand = dealerProbabilityCalculator
+                .outcomes(upcardIndex, unseen, game.isDealerHitsOnSoft17())
+                .standValues(upcardIndex == ACE);
+
+        List<Card> cards = hand.getCards();
+        int hard = 0;
+        boolean ace = false;
+        for (Card card : cards) {
+            hard += Card.hardPoints(card.getCode());
+            ace |= Card.isAce(card.getCode());
+        }
+
+        List<ForkJoinTask<Double>> splitHands = game.canSplit()
+                ? forkSplitHands(Card.pointIndex(cards.get(0).getCode()), unseen, stand)
+                : null;
+
+        PlayerWalk walk = new PlayerWalk(unseen, stand);
+        double standValue = walk.standValue(hard, ace);
+        double hitValue = walk.hit(hard, ace);
+        Double doubleValue = game.canDoubleDown() ? walk.doubled(hard, ace) : null;
+        Double splitValue = splitHands != null
+                ? split(Card.pointIndex(cards.get(0).getCode()), unseen, splitHands)
+                : null;
+        Double insuranceValue = game.isInsuranceResolved() ? null : insurance(unseen);
+        return new ActionValues(standValue, hitValue, doubleValue, splitValue, insuranceValue);
+    }
+
+    static double insurance(int[] unseen) {
+        int remaining = 0;
+        for (int count : unseen) {
+            remaining += count;
+        }
+        return remaining == 0 ? 0 : 3.0 * unseen[TEN] / remaining - 1;
+    }
+
+    private List<ForkJoinTask<Double>> forkSplitHands(int pair, int[] unseen, double[] stand) {
+        List<ForkJoinTask<Double>> hands = new ArrayList<>(Card.POINT_VALUES);
+        for (int i = 0; i < Card.POINT_VALUES; i++) {
+            if (unseen[i] == 0) {
+                hands.add(null);
+                continue;
+            }
+            int drawn = i;
+            int[] composition = unseen.clone();
+            composition[drawn]--;
+            hands.add(pool.submit(() -> new PlayerWalk(composition, stand).best(
+                    DealerProbabilityCalculator.hardPoints(pair) + DealerProbabilityCalculator.hardPoints(drawn),
+                    pair == ACE || drawn == ACE)));
+        }
+        return hands;
+    }
+
+    private static double split(int pair, int[] unseen, List<ForkJoinTask<Double>> hands) {
+        int remaining = 0;
+        for (int count : unseen) {
+            remaining += count;
+        }
+        double[] played = new double[Card.POINT_VALUES];
+        for (int i = 0; i < played.length; i++) {
+            ForkJoinTask<Double> hand = hands.get(i);
+            played[i] = hand == null ? 0 : hand.join();
+        }
+        double perHand = 0;
+        for (int iteration = 0; iteration < RESPLIT_ITERATIONS; iteration++) {
+            double value = 0;
+            for (int i = 0; i < played.length; i++) {
+                double best = i == pair && iteration > 0 ? Math.max(played[i], 2 * perHand) : played[i];
+                value += (double) unseen[i] / remaining * best;
+            }
+            perHand = value;
+        }
+        return 2 * perHand;
+    }
+
+    private static final class PlayerWalk {
+
+        private final int[] counts;
+        private final double[] stand;
+        private final Map<Long, Double> memo = new HashMap<>();
+        private long composition;
+        private int remaining;
+
+        PlayerWalk(int[] unseen, double[] stand) {
+            this.counts = unseen.clone();
+            this.stand = stand;
+            this.composition = DealerProbabilityCalculator.pack(counts);
+            for (int count : counts) {
+                remaining += count;
+            }
+        }
+
+        double best(int hard, boolean ace) {
+            return Math.max(standValue(hard, ace), Math.max(hit(hard, ace), doubled(hard, ace)));
+        }
+
+        double standValue(int hard, boolean ace) {
+            return stand[ace && hard + 10 <= 21 ? hard + 10 : hard];
+        }
+
+        double doubled(int hard, boolean ace) {
+            if (remaining == 0) {
+                return 2 * standValue(hard, ace);
+            }
+            double value = 0;
+            for (int i = 0; i < Card.POINT_VALUES; i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                int next = hard + DealerProbabilityCalculator.hardPoints(i);
+                double outcome = next > 21 ? -1 : standValue(next, ace || i == ACE);
+                value += 2.0 * counts[i] / remaining * outcome;
+            }
+            return value;
+        }
+
+        double hit(int hard, boolean ace) {
+            if (remaining == 0) {
+                return standValue(hard, ace);
+            }
+            Double known = memo.get(composition);
+            if (known != null) {
+                return known;
+            }
+            double value = 0;
+            for (int i = 0; i < Card.POINT_VALUES; i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                double probability = (double) counts[i] / remaining;
+                int next = hard + DealerProbabilityCalculator.hardPoints(i);
+                if (next > 21) {
+                    value -= probability;
+                    continue;
+                }
+                boolean nextAce = ace || i == ACE;
+                draw(i);
+                value += probability * Math.max(standValue(next, nextAce), hit(next, nextAce));
+                undraw(i);
+            }
+            memo.put(composition, value);
+            return value;
+        }
+
+        private void draw(int index) {
+            counts[index]--;
+            remaining--;
+            composition -= DealerProbabilityCalculator.unit(index);
+        }
+
+        private void undraw(int index) {
+            counts[index]++;
+            remaining++;
+            composition += DealerProbabilityCalculator.unit(index);
+        }
+    }
+}
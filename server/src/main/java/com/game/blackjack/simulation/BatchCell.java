@@ -0,0 +1,9 @@
+package com.game.blackjack.simulation;
+
+public record BatchCell(
+    int decks,
+    boolean dealerHitsOnSoft17,
+    InsurancePolicy insurance,
+    String strategy
+) {
+}
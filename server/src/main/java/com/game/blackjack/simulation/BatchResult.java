@@ -0,0 +1,7 @@
+package com.game.blackjack.simulation;
+
+public record BatchResult(
+    BatchCell cell,
+    SimulationResult result
+) {
+}
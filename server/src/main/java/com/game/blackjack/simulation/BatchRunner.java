@@ -0,0 +1,65 @@
+package com.game.blackjack.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+public class BatchRunner {
+
+    private static final String HEADER =
+            "decks,dealer_hits_soft17,insurance,strategy,rounds,ev,std_dev,ci95_low,ci95_high,risk_of_ruin";
+
+    private final ForkJoinPool pool;
+    private final MonteCarloSimulator simulator;
+
+    public BatchRunner(ForkJoinPool pool, String shuffleAlgorithm) {
+        this.pool = pool;
+        this.simulator = new MonteCarloSimulator(pool, shuffleAlgorithm);
+    }
+
+    public List<BatchResult> run(RuleMatrix matrix, long rounds, int bet, long seed) {
+        List<BatchCell> cells = matrix.cells();
+        List<SimulationConfig> configs = new ArrayList<>(cells.size());
+        for (BatchCell cell : cells) {
+            configs.add(new SimulationConfig(cell.decks(), cell.dealerHitsOnSoft17(), rounds, bet, seed));
+        }
+        return pool.invoke(new RecursiveTask<List<BatchResult>>() {
+            @Override
+            protected List<BatchResult> compute() {
+                List<ForkJoinTask<RoundStats>> tasks = new ArrayList<>(cells.size());
+                for (int i = 0; i < cells.size(); i++) {
+                    tasks.add(simulator.task(configs.get(i), matrix.strategy(cells.get(i))));
+                }
+                invokeAll(tasks);
+                List<BatchResult> results = new ArrayList<>(cells.size());
+                for (int i = 0; i < cells.size(); i++) {
+                    results.add(new BatchResult(cells.get(i), tasks.get(i).join().toResult()));
+                }
+                return results;
+            }
+        });
+    }
+
+    public static String table(List<BatchResult> results) {
+        StringBuilder table = new StringBuilder(HEADER).append('\n');
+        for (BatchResult batchResult : results) {
+            BatchCell cell = batchResult.cell();
+            SimulationResult result = batchResult.result();
+            table.append(String.format(Locale.ROOT, "%d,%b,%s,%s,%d,%.6f,%.6f,%.6f,%.6f,%.6f\n",
+                    cell.decks(),
+                    cell.dealerHitsOnSoft17(),
+                    cell.insurance(),
+                    cell.strategy(),
+                    result.rounds(),
+                    result.expectedValue(),
+                    result.standardDeviation(),
+                    result.confidenceLow(),
+                    result.confidenceHigh(),
+                    result.riskOfRuin()));
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.game.blackjack.simulation;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+import com.game.blackjack.Hand;
+
+public class HitBelowStrategy implements PlayerStrategy {
+
+    private final int standOn;
+
+    public HitBelowStrategy(int standOn) {
+        this.standOn = standOn;
+    }
+
+    @Override
+    public PlayerAction decide(BlackjackGame game, Hand hand, Card dealerUpcard) {
+        return hand.value() < standOn ? PlayerAction.HIT : PlayerAction.STAND;
+    }
+}
@@ -0,0 +1,29 @@
+package com.game.blackjack.simulation;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+import com.game.blackjack.Hand;
+
+public enum InsurancePolicy {
+    NEVER,
+    ALWAYS,
+    STRATEGY;
+
+    public PlayerStrategy apply(PlayerStrategy strategy) {
+        if (this == STRATEGY) {
+            return strategy;
+        }
+        boolean takeInsurance = this == ALWAYS;
+        return new PlayerStrategy() {
+            @Override
+            public PlayerAction decide(BlackjackGame game, Hand hand, Card dealerUpcard) {
+                return strategy.decide(game, hand, dealerUpcard);
+            }
+
+            @Override
+            public boolean takeInsurance(BlackjackGame game) {
+                return takeInsurance;
+            }
+        };
+    }
+}
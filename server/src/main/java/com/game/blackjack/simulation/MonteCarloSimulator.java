@@ -0,0 +1,131 @@
+package com.game.blackjack.simulation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Hand;
+
+public class MonteCarloSimulator {
+
+    static final int CHUNK_ROUNDS = 1 << 16;
+
+    private static final int SIMULATION_BALANCE = Integer.MAX_VALUE / 2;
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Worker> workers;
+
+    public MonteCarloSimulator(ForkJoinPool pool, String shuffleAlgorithm) {
+        RandomGeneratorFactory<RandomGenerator> shuffleRandomFactory = RandomGeneratorFactory.of(shuffleAlgorithm);
+        this.pool = pool;
+        this.workers = ThreadLocal.withInitial(() -> new Worker(new ReseedableShuffleEngine(shuffleRandomFactory)));
+    }
+
+    public SimulationResult run(SimulationConfig config, PlayerStrategy strategy) {
+        return pool.invoke(task(config, strategy)).toResult();
+    }
+
+    ForkJoinTask<RoundStats> task(SimulationConfig config, PlayerStrategy strategy) {
+        long chunks = (config.rounds() + config.chunkRounds() - 1) / config.chunkRounds();
+        return new SimulationTask(config, strategy, 0, chunks);
+    }
+
+    public static int playRound(BlackjackGame game, PlayerStrategy strategy, int bet) {
+        int before = game.getBalance();
+        game.placeBet(bet);
+        game.dealInitialCards();
+        if (!game.isInsuranceResolved()) {
+            game.resolveInsurance(strategy.takeInsurance(game) ? game.getMaxInsuranceBet() : 0);
+        }
+        while (!game.isGameOver()) {
+            Hand hand = game.getCurrentHand();
+            switch (strategy.decide(game, hand, game.getDealerUpcard())) {
+                case STAND -> game.stand();
+                case DOUBLE -> {
+                    if (game.canDoubleDown()) {
+                        game.doubleDown();
+                    } else {
+                        game.hitPlayer();
+                    }
+                }
+                case SPLIT -> {
+                    if (game.canSplit()) {
+                        game.split();
+                    } else {
+                        game.hitPlayer();
+                    }
+                }
+                case HIT -> game.hitPlayer();
+            }
+        }
+        return game.getBalance() - before;
+    }
+
+    BlackjackGame chunkGame(SimulationConfig config, long chunk) {
+        return workers.get().game(config, config.seed() + chunk * SEED_STRIDE);
+    }
+
+    private RoundStats playChunk(SimulationConfig config, PlayerStrategy strategy, long chunk) {
+        long count = Math.min(config.chunkRounds(), config.rounds() - chunk * config.chunkRounds());
+        BlackjackGame game = chunkGame(config, chunk);
+        RoundStats stats = new RoundStats(config);
+        for (long round = 0; round < count; round++) {
+            if (game.needsReshuffle()) {
+                game.initializeDeck(config.decks());
+            }
+            stats.add(playRound(game, strategy, config.bet()));
+        }
+        return stats;
+    }
+
+    private static final class Worker {
+
+        private final ReseedableShuffleEngine engine;
+        private BlackjackGame game;
+
+        Worker(ReseedableShuffleEngine engine) {
+            this.engine = engine;
+        }
+
+        BlackjackGame game(SimulationConfig config, long seed) {
+            if (game == null || game.getBalance() < SIMULATION_BALANCE / 2) {
+                game = new BlackjackGame(engine, null, SIMULATION_BALANCE);
+            }
+            engine.reseed(seed);
+            game.resetDeck(config.decks());
+            game.setDealerHitsOnSoft17(config.dealerHitsOnSoft17());
+            return game;
+        }
+    }
+
+    private final class SimulationTask extends RecursiveTask<RoundStats> {
+
+        private final SimulationConfig config;
+        private final PlayerStrategy strategy;
+        private final long fromChunk;
+        private final long toChunk;
+
+        SimulationTask(SimulationConfig config, PlayerStrategy strategy, long fromChunk, long toChunk) {
+            this.config = config;
+            this.strategy = strategy;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected RoundStats compute() {
+            if (toChunk - fromChunk == 1) {
+                return playChunk(config, strategy, fromChunk);
+            }
+            long middle = (fromChunk + toChunk) >>> 1;
+            SimulationTask left = new SimulationTask(config, strategy, fromChunk, middle);
+            left.fork();
+            RoundStats right = new SimulationTask(config, strategy, middle, toChunk).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.game.blackjack.simulation;
+
+public enum PlayerAction {
+    HIT,
+    STAND,
+    DOUBLE,
+    SPLIT
+}
@@ -0,0 +1,14 @@
+package com.game.blackjack.simulation;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+import com.game.blackjack.Hand;
+
+public interface PlayerStrategy {
+
+    PlayerAction decide(BlackjackGame game, Hand hand, Card dealerUpcard);
+
+    default boolean takeInsurance(BlackjackGame game) {
+        return false;
+    }
+}
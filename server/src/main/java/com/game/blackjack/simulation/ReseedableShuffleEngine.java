@@ -0,0 +1,38 @@
+package com.game.blackjack.simulation;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import com.game.blackjack.ShuffleEngine;
+
+final class ReseedableShuffleEngine implements ShuffleEngine {
+
+    private final RandomGeneratorFactory<RandomGenerator> factory;
+    private RandomGenerator random;
+    private long seed;
+
+    ReseedableShuffleEngine(RandomGeneratorFactory<RandomGenerator> factory) {
+        this.factory = factory;
+        reseed(0);
+    }
+
+    void reseed(long seed) {
+        this.seed = seed;
+        this.random = factory.create(seed);
+    }
+
+    @Override
+    public void shuffle(byte[] cards, int length) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+}
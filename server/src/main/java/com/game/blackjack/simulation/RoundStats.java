@@ -0,0 +1,67 @@
+package com.game.blackjack.simulation;
+
+final class RoundStats {
+
+    private final int bankroll;
+    private final int sessionRounds;
+    private final int bet;
+    private long rounds;
+    private long net;
+    private long netSquares;
+    private long sessions;
+    private long ruinedSessions;
+    private long sessionBalance;
+    private int sessionPlayed;
+    private boolean sessionRuined;
+
+    RoundStats(SimulationConfig config) {
+        this.bankroll = config.bankroll();
+        this.sessionRounds = config.sessionRounds();
+        this.bet = config.bet();
+        this.sessionBalance = bankroll;
+    }
+
+    void add(int roundNet) {
+        rounds++;
+        net += roundNet;
+        netSquares += (long) roundNet * roundNet;
+
+        if (!sessionRuined) {
+            sessionBalance += roundNet;
+            sessionRuined = sessionBalance < bet;
+        }
+        if (++sessionPlayed == sessionRounds) {
+            endSession();
+        }
+    }
+
+    RoundStats merge(RoundStats other) {
+        rounds += other.rounds;
+        net += other.net;
+        netSquares += other.netSquares;
+        sessions += other.sessions;
+        ruinedSessions += other.ruinedSessions;
+        return this;
+    }
+
+    long rounds() {
+        return rounds;
+    }
+
+    SimulationResult toResult() {
+        double mean = (double) net / rounds;
+        double variance = Math.max(0, (double) netSquares / rounds - mean * mean);
+        double riskOfRuin = sessions == 0 ? 0 : (double) ruinedSessions / sessions;
+        return new SimulationResult(rounds, mean / bet, variance / ((double) bet * bet), riskOfRuin);
+    }
+
+    private void endSession() {
+        sessions++;
+        if (sessionRuined) {
+            ruinedSessions++;
+        }
+        sessionBalance = bankroll;
+        sessionPlayed = 0;
+        sessionRuined = false;
+    }
+}
@@ -0,0 +1,43 @@
+package com.game.blackjack.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record RuleMatrix(
+    List<Integer> decks,
+    List<Boolean> dealerHitsOnSoft17,
+    List<InsurancePolicy> insurance,
+    Map<String, PlayerStrategy> strategies
+) {
+
+    public RuleMatrix {
+        if (decks.isEmpty() || dealerHitsOnSoft17.isEmpty() || insurance.isEmpty() || strategies.isEmpty()) {
+            throw new IllegalArgumentException("Every rule matrix dimension needs at least one value");
+        }
+        decks = List.copyOf(decks);
+        dealerHitsOnSoft17 = List.copyOf(dealerHitsOnSoft17);
+        insurance = List.copyOf(insurance);
+        strategies = Collections.unmodifiableMap(new LinkedHashMap<>(strategies));
+    }
+
+    public List<BatchCell> cells() {
+        List<BatchCell> cells = new ArrayList<>(decks.size() * dealerHitsOnSoft17.size() * insurance.size() * strategies.size());
+        for (int deckCount : decks) {
+            for (boolean hitsSoft17 : dealerHitsOnSoft17) {
+                for (InsurancePolicy policy : insurance) {
+                    for (String strategy : strategies.keySet()) {
+                        cells.add(new BatchCell(deckCount, hitsSoft17, policy, strategy));
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    PlayerStrategy strategy(BatchCell cell) {
+        return cell.insurance().apply(strategies.get(cell.strategy()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.game.blackjack.simulation;
+
+import com.game.blackjack.BlackjackGame;
+
+public record SimulationConfig(
+    int decks,
+    boolean dealerHitsOnSoft17,
+    long rounds,
+    int bet,
+    long seed,
+    int bankroll,
+    int sessionRounds
+) {
+
+    static final int DEFAULT_SESSION_ROUNDS = 1000;
+
+    public SimulationConfig {
+        if (decks < 1 || decks > 8) {
+            throw new IllegalArgumentException("Deck count must be between 1 and 8");
+        }
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Round count must be positive");
+        }
+        if (bet < 2) {
+            throw new IllegalArgumentException("Bet must be at least 2 so insurance can be placed");
+        }
+        if (bankroll < bet) {
+            throw new IllegalArgumentException("Bankroll must cover at least one bet");
+        }
+        if (sessionRounds < 1 || sessionRounds > MonteCarloSimulator.CHUNK_ROUNDS) {
+            throw new IllegalArgumentException(
+                    "Session length must be between 1 and " + MonteCarloSimulator.CHUNK_ROUNDS + " rounds");
+        }
+    }
+
+    public SimulationConfig(int decks, boolean dealerHitsOnSoft17, long rounds, int bet, long seed) {
+        this(decks, dealerHitsOnSoft17, rounds, bet, seed, BlackjackGame.DEFAULT_BALANCE, DEFAULT_SESSION_ROUNDS);
+    }
+
+    int chunkRounds() {
+        return MonteCarloSimulator.CHUNK_ROUNDS / sessionRounds * sessionRounds;
+    }
+}
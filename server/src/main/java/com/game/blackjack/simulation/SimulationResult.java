@@ -0,0 +1,31 @@
+package com.game.blackjack.simulation;
+
+public record SimulationResult(
+    long rounds,
+    double expectedValue,
+    double variance,
+    double riskOfRuin
+) {
+
+    private static final double Z_95 = 1.959963984540054;
+
+    public double houseEdge() {
+        return -expectedValue;
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(variance);
+    }
+
+    public double standardError() {
+        return Math.sqrt(variance / rounds);
+    }
+
+    public double confidenceLow() {
+        return expectedValue - Z_95 * standardError();
+    }
+
+    public double confidenceHigh() {
+        return expectedValue + Z_95 * standardError();
+    }
+}
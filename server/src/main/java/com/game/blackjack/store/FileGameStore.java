@@ -0,0 +1,218 @@
+package com.game.blackjack.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+public class FileGameStore implements GameStore, AutoCloseable {
+
+    private static final String SUFFIX = ".bin";
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final String TEMPORARY_PREFIX = "game-";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private static final long STALE_MILLIS = 10_000;
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final ExecutorService sweeper;
+    private final Clock clock;
+    private final AtomicLong sweepFailures = new AtomicLong();
+    private volatile boolean closed;
+
+    public FileGameStore(Path directory, Duration ttl, ExecutorService sweeper) {
+        this(directory, ttl, sweeper, Clock.systemUTC());
+    }
+
+    FileGameStore(Path directory, Duration ttl, ExecutorService sweeper, Clock clock) {
+        if (ttl.toMillis() <= 0) {
+            throw new IllegalArgumentException("Game store TTL must be at least one millisecond");
+        }
+        this.directory = directory;
+        this.ttlMillis = ttl.toMillis();
+        this.sweeper = sweeper;
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new GameStoreException("Cannot create game store directory " + directory, e);
+        }
+        sweeper.execute(this::sweepLoop);
+    }
+
+    @Override
+    public byte[] load(String id) {
+        Path file = file(id);
+        try {
+            long now = clock.millis();
+            if (now - Files.getLastModifiedTime(file).toMillis() >= ttlMillis) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            byte[] state = Files.readAllBytes(file);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+            return state;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new GameStoreException("Cannot read game state", e);
+        }
+    }
+
+    @Override
+    public void save(String id, byte[] state) {
+        write(file(id), state);
+    }
+
+    @Override
+    public boolean replace(String id, byte[] expected, byte[] state) {
+        Path file = file(id);
+        Path lock = file.resolveSibling(file.getFileName() + LOCK_SUFFIX);
+        try {
+            if (!tryLock(lock)) {
+                return false;
+            }
+        } catch (IOException e) {
+            throw new GameStoreException("Cannot lock game state", e);
+        }
+        try {
+            if (!Arrays.equals(current(file), expected)) {
+                return false;
+            }
+            write(file, state);
+            return true;
+        } catch (IOException e) {
+            throw new GameStoreException("Cannot read game state", e);
+        } finally {
+            deleteQuietly(lock);
+        }
+    }
+
+    @Override
+    public void delete(String id) {
+        try {
+            Files.deleteIfExists(file(id));
+        } catch (IOException e) {
+            throw new GameStoreException("Cannot delete game state", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        sweeper.shutdownNow();
+    }
+
+    long getSweepFailures() {
+        return sweepFailures.get();
+    }
+
+    void sweepExpired() {
+        long now = clock.millis();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                long maxAge = maxAge(file.getFileName().toString());
+                if (maxAge >= 0 && lastModified(file) <= now - maxAge) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            sweepFailures.incrementAndGet();
+        }
+    }
+
+    private long maxAge(String name) {
+        if (name.endsWith(SUFFIX)) {
+            return ttlMillis;
+        }
+        if (name.endsWith(LOCK_SUFFIX) || name.startsWith(TEMPORARY_PREFIX) && name.endsWith(TEMPORARY_SUFFIX)) {
+            return STALE_MILLIS;
+        }
+        return -1;
+    }
+
+    private void sweepLoop() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, ttlMillis / 2));
+        while (!closed && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(intervalNanos);
+            if (!closed) {
+                sweepExpired();
+            }
+        }
+    }
+
+    private void write(Path file, byte[] state) {
+        Path temporary = null;
+        try {
+            temporary = Files.createTempFile(directory, TEMPORARY_PREFIX, TEMPORARY_SUFFIX);
+            Files.write(temporary, state);
+            Files.setLastModifiedTime(temporary, FileTime.fromMillis(clock.millis()));
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(temporary);
+            throw new GameStoreException("Cannot write game state", e);
+        }
+    }
+
+    private byte[] current(Path file) throws IOException {
+        try {
+            if (clock.millis() - Files.getLastModifiedTime(file).toMillis() >= ttlMillis) {
+                return null;
+            }
+            return Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private boolean tryLock(Path lock) throws IOException {
+        try {
+            Files.createFile(lock);
+        } catch (FileAlreadyExistsException e) {
+            if (clock.millis() - lastModified(lock) < STALE_MILLIS) {
+                return false;
+            }
+            Files.deleteIfExists(lock);
+            try {
+                Files.createFile(lock);
+            } catch (FileAlreadyExistsException raced) {
+                return false;
+            }
+        }
+        Files.setLastModifiedTime(lock, FileTime.fromMillis(clock.millis()));
+        return true;
+    }
+
+    private Path file(String id) {
+        String name = Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(name + SUFFIX);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file != null) {
+            file.toFile().delete();
+        }
+    }
+
+    private static long lastModified(Path file) throws IOException {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (NoSuchFileException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
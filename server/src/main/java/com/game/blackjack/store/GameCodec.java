@@ -0,0 +1,46 @@
+package com.game.blackjack.store;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.ShoePool;
+import com.game.blackjack.ShuffleEngine;
+
+public final class GameCodec {
+
+    private GameCodec() {
+    }
+
+    public static byte[] encode(BlackjackGame game) {
+        byte[] state = new byte[game.snapshotSize()];
+        game.writeSnapshot(ByteBuffer.wrap(state));
+        return state;
+    }
+
+    public static void decode(byte[] state, BlackjackGame game) {
+        decode(state, buffer -> {
+            game.readSnapshot(buffer);
+            return game;
+        });
+    }
+
+    public static BlackjackGame decode(byte[] state, ShuffleEngine shuffleEngine, ShoePool shoePool) {
+        return decode(state, buffer -> BlackjackGame.fromSnapshot(buffer, shuffleEngine, shoePool));
+    }
+
+    private static BlackjackGame decode(byte[] state, Function<ByteBuffer, BlackjackGame> reader) {
+        ByteBuffer buffer = ByteBuffer.wrap(state);
+        BlackjackGame game;
+        try {
+            game = reader.apply(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated game state", e);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected trailing bytes in game state");
+        }
+        return game;
+    }
+}
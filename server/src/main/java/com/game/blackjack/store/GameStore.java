@@ -0,0 +1,12 @@
+package com.game.blackjack.store;
+
+public interface GameStore {
+
+    byte[] load(String id);
+
+    void save(String id, byte[] state);
+
+    boolean replace(String id, byte[] expected, byte[] state);
+
+    void delete(String id);
+}
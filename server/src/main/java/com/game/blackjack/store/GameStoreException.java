@@ -0,0 +1,8 @@
+package com.game.blackjack.store;
+
+public class GameStoreException extends RuntimeException {
+
+    public GameStoreException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,92 @@
+package com.game.blackjack.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InMemoryGameStore implements GameStore {
+
+    private static final int CLEANUP_INTERVAL = 1024;
+
+    private final long ttlMillis;
+    private final Clock clock;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong saves = new AtomicLong();
+    private final AtomicLong nextCleanup = new AtomicLong(CLEANUP_INTERVAL);
+
+    public InMemoryGameStore(Duration ttl) {
+        this(ttl, Clock.systemUTC());
+    }
+
+    InMemoryGameStore(Duration ttl, Clock clock) {
+        if (ttl.toMillis() <= 0) {
+            throw new IllegalArgumentException("Game store TTL must be at least one millisecond");
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public byte[] load(String id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        long now = clock.millis();
+        if (now >= entry.expiresAt()) {
+            entries.remove(id, entry);
+            return null;
+        }
+        entries.replace(id, entry, new Entry(entry.state(), now + ttlMillis));
+        return entry.state();
+    }
+
+    @Override
+    public void save(String id, byte[] state) {
+        long now = clock.millis();
+        entries.put(id, new Entry(state, now + ttlMillis));
+        if (cleanupDue()) {
+            entries.values().removeIf(entry -> now >= entry.expiresAt());
+        }
+    }
+
+    @Override
+    public boolean replace(String id, byte[] expected, byte[] state) {
+        long now = clock.millis();
+        boolean[] replaced = new boolean[1];
+        entries.compute(id, (key, entry) -> {
+            byte[] current = entry == null || now >= entry.expiresAt() ? null : entry.state();
+            if (!Arrays.equals(current, expected)) {
+                return entry;
+            }
+            replaced[0] = true;
+            return new Entry(state, now + ttlMillis);
+        });
+        if (replaced[0] && cleanupDue()) {
+            entries.values().removeIf(entry -> now >= entry.expiresAt());
+        }
+        return replaced[0];
+    }
+
+    @Override
+    public void delete(String id) {
+        entries.remove(id);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private boolean cleanupDue() {
+        long count = saves.incrementAndGet();
+        long cleanupAt = nextCleanup.get();
+        return count >= cleanupAt
+                && nextCleanup.compareAndSet(cleanupAt, count + Math.max(CLEANUP_INTERVAL, entries.size()));
+    }
+
+    private record Entry(byte[] state, long expiresAt) {
+    }
+}
@@ -0,0 +1,235 @@
+package com.game.blackjack.store;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class OffHeapGameStore implements GameStore {
+
+    static final int CHUNK_BYTES = 1 << 20;
+    static final int SLOT_ALIGNMENT = 64;
+    static final int MAX_SLOT_BYTES = 4096;
+
+    private static final int CLEANUP_INTERVAL = 1024;
+    private static final int EXPIRES_AT = 0;
+    private static final int LENGTH = 8;
+    private static final int SLOT_HEADER = 10;
+    private static final int SLOT_BITS = 24;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+
+    private final long ttlMillis;
+    private final long maxBytes;
+    private final Clock clock;
+    private final ConcurrentMap<String, Integer> handles = new ConcurrentHashMap<>();
+    private final SlotClass[] slotClasses = new SlotClass[MAX_SLOT_BYTES / SLOT_ALIGNMENT];
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final AtomicLong saves = new AtomicLong();
+    private final AtomicLong nextCleanup = new AtomicLong(CLEANUP_INTERVAL);
+
+    public OffHeapGameStore(Duration ttl, long maxBytes) {
+        this(ttl, maxBytes, Clock.systemUTC());
+    }
+
+    OffHeapGameStore(Duration ttl, long maxBytes, Clock clock) {
+        if (ttl.toMillis() <= 0) {
+            throw new IllegalArgumentException("Game store TTL must be at least one millisecond");
+        }
+        if (maxBytes < CHUNK_BYTES) {
+            throw new IllegalArgumentException("Off-heap game store needs at least " + CHUNK_BYTES + " bytes");
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.maxBytes = maxBytes;
+        this.clock = clock;
+        for (int i = 0; i < slotClasses.length; i++) {
+            slotClasses[i] = new SlotClass((i + 1) * SLOT_ALIGNMENT);
+        }
+    }
+
+    @Override
+    public byte[] load(String id) {
+        byte[][] state = new byte[1][];
+        long now = clock.millis();
+        handles.computeIfPresent(id, (key, handle) -> {
+            SlotClass slotClass = slotClass(handle);
+            ByteBuffer chunk = slotClass.chunk(handle);
+            int offset = slotClass.offset(handle);
+            if (now >= chunk.getLong(offset + EXPIRES_AT)) {
+                slotClass.release(handle);
+                return null;
+            }
+            chunk.putLong(offset + EXPIRES_AT, now + ttlMillis);
+            state[0] = new byte[chunk.getShort(offset + LENGTH)];
+            chunk.get(offset + SLOT_HEADER, state[0]);
+            return handle;
+        });
+        return state[0];
+    }
+
+    @Override
+    public void save(String id, byte[] state) {
+        int classIndex = classIndex(state);
+        long now = clock.millis();
+        handles.compute(id, (key, handle) -> write(handle, classIndex, state, now));
+        if (cleanupDue()) {
+            removeExpired(now);
+        }
+    }
+
+    @Override
+    public boolean replace(String id, byte[] expected, byte[] state) {
+        int classIndex = classIndex(state);
+        long now = clock.millis();
+        boolean[] replaced = new boolean[1];
+        handles.compute(id, (key, handle) -> {
+            if (!holds(handle, expected, now)) {
+                return handle;
+            }
+            replaced[0] = true;
+            return write(handle, classIndex, state, now);
+        });
+        if (replaced[0] && cleanupDue()) {
+            removeExpired(now);
+        }
+        return replaced[0];
+    }
+
+    @Override
+    public void delete(String id) {
+        handles.computeIfPresent(id, (key, handle) -> {
+            slotClass(handle).release(handle);
+            return null;
+        });
+    }
+
+    int size() {
+        return handles.size();
+    }
+
+    long reservedBytes() {
+        return reservedBytes.get();
+    }
+
+    private static int classIndex(byte[] state) {
+        if (state.length > MAX_SLOT_BYTES - SLOT_HEADER) {
+            throw new IllegalArgumentException(
+                    "Game state does not fit in an off-heap slot: " + state.length + " bytes");
+        }
+        return (SLOT_HEADER + state.length - 1) / SLOT_ALIGNMENT;
+    }
+
+    private Integer write(Integer handle, int classIndex, byte[] state, long now) {
+        Integer target = handle;
+        if (handle == null || handle >>> SLOT_BITS != classIndex) {
+            target = classIndex << SLOT_BITS | slotClasses[classIndex].allocate();
+            if (handle != null) {
+                slotClass(handle).release(handle);
+            }
+        }
+        SlotClass slotClass = slotClasses[classIndex];
+        ByteBuffer chunk = slotClass.chunk(target);
+        int offset = slotClass.offset(target);
+        chunk.putLong(offset + EXPIRES_AT, now + ttlMillis);
+        chunk.putShort(offset + LENGTH, (short) state.length);
+        chunk.put(offset + SLOT_HEADER, state);
+        return target;
+    }
+
+    private boolean holds(Integer handle, byte[] expected, long now) {
+        if (handle == null || now >= expiresAt(handle)) {
+            return expected == null;
+        }
+        if (expected == null) {
+            return false;
+        }
+        SlotClass slotClass = slotClass(handle);
+        ByteBuffer chunk = slotClass.chunk(handle);
+        int offset = slotClass.offset(handle);
+        return chunk.getShort(offset + LENGTH) == expected.length
+                && chunk.slice(offset + SLOT_HEADER, expected.length).equals(ByteBuffer.wrap(expected));
+    }
+
+    private boolean cleanupDue() {
+        long count = saves.incrementAndGet();
+        long cleanupAt = nextCleanup.get();
+        return count >= cleanupAt
+                && nextCleanup.compareAndSet(cleanupAt, count + Math.max(CLEANUP_INTERVAL, handles.size()));
+    }
+
+    private void removeExpired(long now) {
+        for (Map.Entry<String, Integer> entry : handles.entrySet()) {
+            if (now < expiresAt(entry.getValue())) {
+                continue;
+            }
+            handles.computeIfPresent(entry.getKey(), (key, handle) -> {
+                if (now < expiresAt(handle)) {
+                    return handle;
+                }
+                slotClass(handle).release(handle);
+                return null;
+            });
+        }
+    }
+
+    private long expiresAt(int handle) {
+        SlotClass slotClass = slotClass(handle);
+        return slotClass.chunk(handle).getLong(slotClass.offset(handle) + EXPIRES_AT);
+    }
+
+    private SlotClass slotClass(int handle) {
+        return slotClasses[handle >>> SLOT_BITS];
+    }
+
+    private final class SlotClass {
+
+        private final int slotBytes;
+        private final int slotsPerChunk;
+        private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+        private int[] free = new int[16];
+        private int freeCount;
+        private int allocated;
+
+        SlotClass(int slotBytes) {
+            this.slotBytes = slotBytes;
+            this.slotsPerChunk = CHUNK_BYTES / slotBytes;
+        }
+
+        synchronized int allocate() {
+            if (freeCount > 0) {
+                return free[--freeCount];
+            }
+            if (allocated == chunks.length * slotsPerChunk) {
+                if (allocated + slotsPerChunk > SLOT_MASK) {
+                    throw new GameStoreException("Off-heap game store is full", null);
+                }
+                if (reservedBytes.addAndGet(CHUNK_BYTES) > maxBytes) {
+                    reservedBytes.addAndGet(-CHUNK_BYTES);
+                    throw new GameStoreException("Off-heap game store is full", null);
+                }
+                ByteBuffer[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+                grown[chunks.length] = ByteBuffer.allocateDirect(CHUNK_BYTES);
+                chunks = grown;
+            }
+            return allocated++;
+        }
+
+        synchronized void release(int handle) {
+            if (freeCount == free.length) {
+                free = Arrays.copyOf(free, free.length * 2);
+            }
+            free[freeCount++] = handle & SLOT_MASK;
+        }
+
+        ByteBuffer chunk(int handle) {
+            return chunks[(handle & SLOT_MASK) / slotsPerChunk];
+        }
+
+        int offset(int handle) {
+            return (handle & SLOT_MASK) % slotsPerChunk * slotBytes;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.game.blackjack.store;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+public class RedisGameStore implements GameStore, AutoCloseable {
+
+    private static final String KEY_PREFIX = "blackjack:game:";
+    private static final byte[] AUTH = ascii("AUTH");
+    private static final byte[] GETEX = ascii("GETEX");
+    private static final byte[] SET = ascii("SET");
+    private static final byte[] DEL = ascii("DEL");
+    private static final byte[] EVAL = ascii("EVAL");
+    private static final byte[] PX = ascii("PX");
+    private static final byte[] NX = ascii("NX");
+    private static final byte[] ONE_KEY = ascii("1");
+    private static final byte[] REPLACE_SCRIPT = ascii("if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0");
+    private static final byte[] CRLF = ascii("\r\n");
+
+    private final String host;
+    private final int port;
+    private final String password;
+    private final int timeoutMillis;
+    private final byte[] ttlMillis;
+    private final BlockingQueue<Connection> idle;
+    private volatile boolean closed;
+
+    public RedisGameStore(String host, int port, String password, int poolSize, Duration ttl, Duration timeout) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("Redis pool size must be positive");
+        }
+        if (ttl.toMillis() <= 0) {
+            throw new IllegalArgumentException("Game store TTL must be at least one millisecond");
+        }
+        this.host = host;
+        this.port = port;
+        this.password = password == null || password.isEmpty() ? null : password;
+        this.timeoutMillis = (int) timeout.toMillis();
+        this.ttlMillis = ascii(Long.toString(ttl.toMillis()));
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    @Override
+    public byte[] load(String id) {
+        return (byte[]) execute(GETEX, key(id), PX, ttlMillis);
+    }
+
+    @Override
+    public void save(String id, byte[] state) {
+        execute(SET, key(id), state, PX, ttlMillis);
+    }
+
+    @Override
+    public boolean replace(String id, byte[] expected, byte[] state) {
+        if (expected == null) {
+            return execute(SET, key(id), state, PX, ttlMillis, NX) != null;
+        }
+        return Long.valueOf(1).equals(execute(EVAL, REPLACE_SCRIPT, ONE_KEY, key(id), expected, state, ttlMillis));
+    }
+
+    @Override
+    public void delete(String id) {
+        execute(DEL, key(id));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Connection connection;
+        while ((connection = idle.poll()) != null) {
+            connection.close();
+        }
+    }
+
+    private Object execute(byte[]... arguments) {
+        if (closed) {
+            throw new IllegalStateException("Redis game store is closed");
+        }
+        Connection connection = idle.poll();
+        Object reply;
+        try {
+            if (connection == null) {
+                connection = connect();
+            }
+            reply = connection.call(arguments);
+        } catch (IOException | RuntimeException e) {
+            if (connection != null) {
+                connection.close();
+            }
+            throw new GameStoreException("Redis command failed", e);
+        }
+        if (closed || !idle.offer(connection)) {
+            connection.close();
+        }
+        if (reply instanceof ErrorReply error) {
+            throw new GameStoreException("Redis returned an error: " + error.message(), null);
+        }
+        return reply;
+    }
+
+    private Connection connect() throws IOException {
+        Connection connection = new Connection(host, port, timeoutMillis);
+        if (password != null) {
+            Object reply;
+            try {
+                reply = connection.call(new byte[][] { AUTH, password.getBytes(StandardCharsets.UTF_8) });
+            } catch (IOException | RuntimeException e) {
+                connection.close();
+                throw e;
+            }
+            if (reply instanceof ErrorReply error) {
+                connection.close();
+                throw new IOException("Redis authentication failed: " + error.message());
+            }
+        }
+        return connection;
+    }
+
+    private static byte[] key(String id) {
+        return (KEY_PREFIX + id).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record ErrorReply(String message) {
+    }
+
+    private static final class Connection implements Closeable {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+
+        Connection(String host, int port, int timeoutMillis) throws IOException {
+            socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+                socket.setSoTimeout(timeoutMillis);
+                socket.setTcpNoDelay(true);
+                in = new BufferedInputStream(socket.getInputStream());
+                out = new BufferedOutputStream(socket.getOutputStream());
+            } catch (IOException | RuntimeException e) {
+                socket.close();
+                throw e;
+            }
+        }
+
+        Object call(byte[][] arguments) throws IOException {
+            out.write('*');
+            writeNumber(arguments.length);
+            for (byte[] argument : arguments) {
+                out.write('$');
+                writeNumber(argument.length);
+                out.write(argument);
+                out.write(CRLF);
+            }
+            out.flush();
+            return readReply();
+        }
+
+        @Override
+        public void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                return;
+            }
+        }
+
+        private void writeNumber(int value) throws IOException {
+            out.write(ascii(Integer.toString(value)));
+            out.write(CRLF);
+        }
+
+        private Object readReply() throws IOException {
+            int type = in.read();
+            switch (type) {
+                case '+':
+                    return readLine();
+                case '-':
+                    return new ErrorReply(readLine());
+                case ':':
+                    return Long.parseLong(readLine());
+                case '$':
+                    int length = Integer.parseInt(readLine());
+                    if (length < 0) {
+                        return null;
+                    }
+                    byte[] data = in.readNBytes(length);
+                    if (data.length < length || in.read() != '\r' || in.read() != '\n') {
+                        throw new EOFException("Truncated Redis bulk reply");
+                    }
+                    return data;
+                case -1:
+                    throw new EOFException("Redis closed the connection");
+                default:
+                    throw new IOException("Unsupported Redis reply type: " + (char) type);
+            }
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int next;
+            while ((next = in.read()) != '\r') {
+                if (next < 0) {
+                    throw new EOFException("Truncated Redis reply");
+                }
+                line.append((char) next);
+            }
+            if (in.read() != '\n') {
+                throw new IOException("Malformed Redis reply line");
+            }
+            return line.toString();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.game.blackjack.strategy;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+import com.game.blackjack.Hand;
+import com.game.blackjack.odds.DealerProbabilityCalculator;
+import com.game.blackjack.simulation.PlayerAction;
+import com.game.blackjack.simulation.PlayerStrategy;
+
+public class BasicStrategy implements PlayerStrategy {
+
+    static final int MAX_DECKS = 8;
+
+    private final DealerProbabilityCalculator dealerProbabilityCalculator;
+    private final AtomicReferenceArray<StrategyTable> tables = new AtomicReferenceArray<>(2 * MAX_DECKS);
+
+    public BasicStrategy(DealerProbabilityCalculator dealerProbabilityCalculator) {
+        this.dealerProbabilityCalculator = dealerProbabilityCalculator;
+    }
+
+    public Hint hint(BlackjackGame game) {
+        Hand hand = game.getCurrentHand();
+        Card upcard = game.getDealerUpcard();
+        if (game.isGameOver() || hand == null || upcard == null) {
+            throw new IllegalStateException("No active round to give a hint for");
+        }
+        StrategyTable table = table(game.getNumberOfDecks(), game.isDealerHitsOnSoft17());
+        return new Hint(
+            table.action(hand, Card.pointIndex(upcard.getCode()), game.canDoubleDown(), game.canSplit()),
+            !game.isInsuranceResolved() && table.takeInsurance()
+        );
+    }
+
+    @Override
+    public PlayerAction decide(BlackjackGame game, Hand hand, Card dealerUpcard) {
+        return table(game.getNumberOfDecks(), game.isDealerHitsOnSoft17())
+                .action(hand, Card.pointIndex(dealerUpcard.getCode()), game.canDoubleDown(), game.canSplit());
+    }
+
+    @Override
+    public boolean takeInsurance(BlackjackGame game) {
+        return table(game.getNumberOfDecks(), game.isDealerHitsOnSoft17()).takeInsurance();
+    }
+
+    StrategyTable table(int decks, boolean dealerHitsOnSoft17) {
+        if (decks < 1 || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("Unsupported number of decks: " + decks);
+        }
+        int slot = (decks - 1) << 1 | (dealerHitsOnSoft17 ? 1 : 0);
+        StrategyTable table = tables.get(slot);
+        if (table == null) {
+            tables.compareAndSet(slot, null,
+                    StrategyTableGenerator.generate(decks, dealerHitsOnSoft17, dealerProbabilityCalculator));
+            table = tables.get(slot);
+        }
+        return table;
+    }
+}
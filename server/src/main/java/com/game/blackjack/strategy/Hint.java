@@ -0,0 +1,9 @@
+package com.game.blackjack.strategy;
+
+import com.game.blackjack.simulation.PlayerAction;
+
+public record Hint(
+    PlayerAction action,
+    boolean takeInsurance
+) {
+}
@@ -0,0 +1,62 @@
+package com.game.blackjack.strategy;
+
+import java.util.List;
+
+import com.game.blackjack.Card;
+import com.game.blackjack.Hand;
+import com.game.blackjack.simulation.PlayerAction;
+
+final class StrategyTable {
+
+    static final int MIN_HARD = 4;
+    static final int MIN_SOFT = 12;
+    static final int HARD_ROWS = 21 - MIN_HARD + 1;
+    static final int SOFT_ROWS = 21 - MIN_SOFT + 1;
+    static final int TOTAL_ROWS = HARD_ROWS + SOFT_ROWS;
+
+    static final int TWO_CARDS = 0;
+    static final int MORE_CARDS = TOTAL_ROWS * Card.POINT_VALUES;
+    static final int PAIRS = 2 * MORE_CARDS;
+    static final int SIZE = PAIRS + Card.POINT_VALUES * Card.POINT_VALUES;
+
+    private static final PlayerAction[] ACTIONS = PlayerAction.values();
+
+    private final byte[] actions;
+    private final boolean takeInsurance;
+
+    StrategyTable(byte[] actions, boolean takeInsurance) {
+        if (actions.length != SIZE) {
+            throw new IllegalArgumentException("Strategy table must have " + SIZE + " cells");
+        }
+        this.actions = actions;
+        this.takeInsurance = takeInsurance;
+    }
+
+    static int totalCell(int section, int total, boolean soft, int upcardIndex) {
+        int row = soft ? HARD_ROWS + total - MIN_SOFT : Math.max(total, MIN_HARD) - MIN_HARD;
+        return section + row * Card.POINT_VALUES + upcardIndex;
+    }
+
+    static int pairCell(int pairIndex, int upcardIndex) {
+        return PAIRS + pairIndex * Card.POINT_VALUES + upcardIndex;
+    }
+
+    PlayerAction action(Hand hand, int upcardIndex, boolean canDouble, boolean canSplit) {
+        List<Card> cards = hand.getCards();
+        if (canSplit && cards.size() == 2) {
+            int pairIndex = Card.pointIndex(cards.get(0).getCode());
+            if (pairIndex == Card.pointIndex(cards.get(1).getCode())) {
+                PlayerAction pairAction = ACTIONS[actions[pairCell(pairIndex, upcardIndex)]];
+                if (pairAction == PlayerAction.SPLIT) {
+                    return pairAction;
+                }
+            }
+        }
+        int section = canDouble && cards.size() == 2 ? TWO_CARDS : MORE_CARDS;
+        return ACTIONS[actions[totalCell(section, hand.value(), hand.isSoft(), upcardIndex)]];
+    }
+
+    boolean takeInsurance() {
+        return takeInsurance;
+    }
+}
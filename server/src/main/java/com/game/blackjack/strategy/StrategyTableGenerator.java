@@ -0,0 +1,143 @@
+package com.game.blackjack.strategy;
+
+import com.game.blackjack.Card;
+import com.game.blackjack.odds.DealerOutcomes;
+import com.game.blackjack.odds.DealerProbabilityCalculator;
+import com.game.blackjack.simulation.PlayerAction;
+
+final class StrategyTableGenerator {
+
+    private static final int ACE = 0;
+    private static final int TEN = Card.POINT_VALUES - 1;
+    private static final int RESPLIT_ITERATIONS = 32;
+
+    private StrategyTableGenerator() {
+    }
+
+    static StrategyTable generate(int decks, boolean dealerHitsOnSoft17, DealerProbabilityCalculator calculator) {
+        byte[] actions = new byte[StrategyTable.SIZE];
+        boolean takeInsurance = false;
+        for (int upcard = 0; upcard < Card.POINT_VALUES; upcard++) {
+            int[] composition = shoe(decks);
+            composition[upcard]--;
+            double[] draw = drawProbabilities(composition);
+            DealerOutcomes dealer = calculator.outcomes(upcard, composition, dealerHitsOnSoft17);
+            UpcardEvaluation evaluation = new UpcardEvaluation(draw, dealer.standValues(upcard == ACE));
+            evaluation.fill(actions, upcard);
+            if (upcard == ACE) {
+                takeInsurance = 3 * draw[TEN] > 1;
+            }
+        }
+        return new StrategyTable(actions, takeInsurance);
+    }
+
+    static int[] shoe(int decks) {
+        int[] counts = new int[Card.POINT_VALUES];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = (i == TEN ? 16 : 4) * decks;
+        }
+        return counts;
+    }
+
+    private static double[] drawProbabilities(int[] composition) {
+        int remaining = 0;
+        for (int count : composition) {
+            remaining += count;
+        }
+        double[] probabilities = new double[composition.length];
+        for (int i = 0; i < composition.length; i++) {
+            probabilities[i] = (double) composition[i] / remaining;
+        }
+        return probabilities;
+    }
+
+    private static int hardPoints(int index) {
+        return index + 1;
+    }
+
+    private static final class UpcardEvaluation {
+
+        private final double[] draw;
+        private final double[] stand;
+        private final double[][] hit = new double[22][2];
+        private final double[][] doubled = new double[22][2];
+
+        UpcardEvaluation(double[] draw, double[] stand) {
+            this.draw = draw;
+            this.stand = stand;
+            for (int hard = 21; hard >= 1; hard--) {
+                for (int ace = 0; ace < 2; ace++) {
+                    double hitValue = 0;
+                    double doubleValue = 0;
+                    for (int i = 0; i < draw.length; i++) {
+                        int next = hard + hardPoints(i);
+                        int nextAce = i == ACE ? 1 : ace;
+                        if (next > 21) {
+                            hitValue -= draw[i];
+                            doubleValue -= 2 * draw[i];
+                        } else {
+                            hitValue += draw[i] * Math.max(standValue(next, nextAce), hit[next][nextAce]);
+                            doubleValue += 2 * draw[i] * standValue(next, nextAce);
+                        }
+                    }
+                    hit[hard][ace] = hitValue;
+                    doubled[hard][ace] = doubleValue;
+                }
+            }
+        }
+
+        void fill(byte[] actions, int upcard) {
+            for (int total = StrategyTable.MIN_HARD; total <= 21; total++) {
+                setTotal(actions, upcard, total, false, total, 0);
+            }
+            for (int total = StrategyTable.MIN_SOFT; total <= 21; total++) {
+                setTotal(actions, upcard, total, true, total - 10, 1);
+            }
+            for (int pair = 0; pair < Card.POINT_VALUES; pair++) {
+                int hard = 2 * hardPoints(pair);
+                int ace = pair == ACE ? 1 : 0;
+                PlayerAction action = split(pair) > twoCardValue(hard, ace) ? PlayerAction.SPLIT : twoCardAction(hard, ace);
+                actions[StrategyTable.pairCell(pair, upcard)] = (byte) action.ordinal();
+            }
+        }
+
+        private void setTotal(byte[] actions, int upcard, int total, boolean soft, int hard, int ace) {
+            PlayerAction moreCards = hit[hard][ace] > standValue(hard, ace) ? PlayerAction.HIT : PlayerAction.STAND;
+            actions[StrategyTable.totalCell(StrategyTable.MORE_CARDS, total, soft, upcard)] = (byte) moreCards.ordinal();
+            actions[StrategyTable.totalCell(StrategyTable.TWO_CARDS, total, soft, upcard)] =
+                    (byte) twoCardAction(hard, ace).ordinal();
+        }
+
+        private PlayerAction twoCardAction(int hard, int ace) {
+            double standValue = standValue(hard, ace);
+            if (doubled[hard][ace] > hit[hard][ace] && doubled[hard][ace] > standValue) {
+                return PlayerAction.DOUBLE;
+            }
+            return hit[hard][ace] > standValue ? PlayerAction.HIT : PlayerAction.STAND;
+        }
+
+        private double twoCardValue(int hard, int ace) {
+            return Math.max(standValue(hard, ace), Math.max(hit[hard][ace], doubled[hard][ace]));
+        }
+
+        private double split(int pair) {
+            int start = hardPoints(pair);
+            int startAce = pair == ACE ? 1 : 0;
+            double perHand = 0;
+            for (int iteration = 0; iteration < RESPLIT_ITERATIONS; iteration++) {
+                double value = 0;
+                for (int i = 0; i < draw.length; i++) {
+                    double played = twoCardValue(start + hardPoints(i), i == ACE ? 1 : startAce);
+                    value += draw[i] * (i == pair && iteration > 0 ? Math.max(played, 2 * perHand) : played);
+                }
+                perHand = value;
+            }
+            return 2 * perHand;
+        }
+
+        private double standValue(int hard, int ace) {
+            int total = ace == 1 && hard + 10 <= 21 ? hard + 10 : hard;
+            return stand[total];
+        }
+    }
+}
@@ -112,6 +112,18 @@ class ApiRateLimitInterceptorTests {
         assertEquals(429, response.getStatus());
     }
 
+    @Test
+    void tryAcquireSharesTheClientWindowWithHttpRequests() throws Exception {
+        ApiRateLimitInterceptor interceptor =
+            new ApiRateLimitInterceptor(2, Duration.ofMinutes(1));
+
+        assertTrue(interceptor.tryAcquire("203.0.113.8"));
+        invoke(interceptor, "GET", "203.0.113.8");
+
+        assertFalse(interceptor.tryAcquire("203.0.113.8"));
+        assertTrue(interceptor.tryAcquire("203.0.113.9"));
+    }
+
     @Test
     void rejectsInvalidConfiguration() {
         assertThrows(
@@ -1,15 +1,27 @@
 package com.game.blackjack;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import com.game.blackjack.journal.RoundJournal;
+import com.game.blackjack.store.FileGameStore;
+import com.game.blackjack.store.RedisGameStore;
+
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 class BlackjackApplicationTests {
@@ -23,7 +35,9 @@ class BlackjackApplicationTests {
 		BlackjackApplication application = new BlackjackApplication();
 		ApiRateLimitInterceptor rateLimiter =
 			new ApiRateLimitInterceptor(120, Duration.ofMinutes(1));
-		assertNotNull(application.corsConfigurer(rateLimiter));
+		assertNotNull(application.corsConfigurer(rateLimiter, Optional.empty()));
+		PlayerIdInterceptor playerIds = application.playerIdInterceptor(60, true, "strict");
+		assertNotNull(application.corsConfigurer(rateLimiter, Optional.of(playerIds)));
 	}
 
 	@Test
@@ -32,6 +46,104 @@ class BlackjackApplicationTests {
 		assertNotNull(application.apiRateLimitInterceptor(120, 60));
 	}
 
+	@Test
+	void shoePool_producesConfiguredBean() {
+		BlackjackApplication application = new BlackjackApplication();
+		try (ShoePool shoePool = application.shoePool(2, ShuffleEngine.DEFAULT_ALGORITHM, false)) {
+			assertNotNull(shoePool);
+		}
+		try (ShoePool shoePool = application.shoePool(2, ShuffleEngine.DEFAULT_ALGORITHM, true)) {
+			assertNotNull(shoePool);
+		}
+	}
+
+	@Test
+	void dealerProbabilityCalculator_producesConfiguredBean() {
+		BlackjackApplication application = new BlackjackApplication();
+		assertNotNull(application.dealerProbabilityCalculator(16));
+	}
+
+	@Test
+	void expectedValueCalculator_producesBeanBackedByCalculator() {
+		BlackjackApplication application = new BlackjackApplication();
+		assertNotNull(application.expectedValueCalculator(application.dealerProbabilityCalculator(16)));
+	}
+
+	@Test
+	void basicStrategy_producesBeanBackedByCalculator() {
+		BlackjackApplication application = new BlackjackApplication();
+		assertNotNull(application.basicStrategy(application.dealerProbabilityCalculator(16)));
+	}
+
+	@Test
+	void conditionalGetMetrics_producesBean() {
+		BlackjackApplication application = new BlackjackApplication();
+		assertEquals(0.0, application.conditionalGetMetrics().getHitRatio());
+	}
+
+	@Test
+	void gameResponseConverter_producesBean() {
+		BlackjackApplication application = new BlackjackApplication();
+		assertNotNull(application.gameResponseConverter());
+	}
+
+	@Test
+	void roundJournal_producesRecoverableJournal(@TempDir Path directory) {
+		BlackjackApplication application = new BlackjackApplication();
+		try (RoundJournal journal = application.roundJournal(directory.toString(), 4096, 5, 1000, false)) {
+			assertTrue(journal.recover(balance -> new BlackjackGame()).isEmpty());
+		}
+	}
+
+	@Test
+	void gameStores_produceConfiguredBeans(@TempDir Path directory) {
+		BlackjackApplication application = new BlackjackApplication();
+		assertNotNull(application.inMemoryGameStore(60));
+		assertNotNull(application.offHeapGameStore(16, 60));
+		try (FileGameStore store = application.fileGameStore(directory.resolve("games").toString(), 60, false)) {
+			assertNotNull(store);
+		}
+		try (RedisGameStore store = application.redisGameStore("localhost", 6379, "", 2, 1000, 60)) {
+			assertNotNull(store);
+		}
+	}
+
+	@Test
+	void gameTiering_producesBeanWithOptionalSpillStore(@TempDir Path directory) {
+		BlackjackApplication application = new BlackjackApplication();
+		try (GameTiering tiering = application.gameTiering(300, "", Duration.ofMinutes(30), false)) {
+			assertNotNull(tiering);
+		}
+		try (GameTiering tiering = application.gameTiering(300, directory.toString(), Duration.ofMinutes(30), true)) {
+			assertNotNull(tiering);
+		}
+	}
+
+	@Test
+	void playerIdInterceptor_producesInterceptorBean() {
+		BlackjackApplication application = new BlackjackApplication();
+		assertNotNull(application.playerIdInterceptor(1800, false, "lax"));
+	}
+
+	@Test
+	void backgroundExecutor_honorsThreadMode() throws Exception {
+		ExecutorService platform = BlackjackApplication.backgroundExecutor("platform-worker", false);
+		ExecutorService virtual = BlackjackApplication.backgroundExecutor("virtual-worker", true);
+		try {
+			Thread platformThread = platform.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+			assertFalse(platformThread.isVirtual());
+			assertTrue(platformThread.isDaemon());
+			assertEquals("platform-worker", platformThread.getName());
+
+			Thread virtualThread = virtual.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+			assertTrue(virtualThread.isVirtual());
+			assertEquals("virtual-worker", virtualThread.getName());
+		} finally {
+			platform.shutdownNow();
+			virtual.shutdownNow();
+		}
+	}
+
 	@Test
 	void main_delegatesToSpringApplicationRun() {
 		try (MockedStatic<SpringApplication> mocked = Mockito.mockStatic(SpringApplication.class)) {
@@ -7,16 +7,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,6 +37,9 @@ class BlackjackControllerTests {
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private BlackjackSessionService sessionService;
+
         private MockHttpSession session;
 
         @BeforeEach
@@ -420,10 +428,298 @@ class BlackjackControllerTests {
                                 .andExpect(jsonPath("$.bettingOpen").value(false));
         }
 
+        @Test
+        void state_answersNotModifiedUntilGameChanges() throws Exception {
+                prepareGameForPlay(60);
+                String etag = mockMvc.perform(get("/api/blackjack/state").session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Cache-Control", "no-cache"))
+                                .andReturn().getResponse().getHeader("ETag");
+                assertEquals("\"" + getSessionGame().getRevision() + "\"", etag);
+
+                mockMvc.perform(get("/api/blackjack/state").header("If-None-Match", etag).session(session))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", etag))
+                                .andExpect(content().string(""));
+
+                mockMvc.perform(post("/api/blackjack/stand").session(session))
+                                .andExpect(status().isOk());
+
+                mockMvc.perform(get("/api/blackjack/state").header("If-None-Match", etag).session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.gameOver").value(true));
+        }
+
+        @Test
+        void gameOver_answersNotModifiedForCurrentRevision() throws Exception {
+                prepareGameForPlay(60);
+                String etag = "\"" + getSessionGame().getRevision() + "\"";
+
+                mockMvc.perform(get("/api/blackjack/gameover").header("If-None-Match", etag).session(session))
+                                .andExpect(status().isNotModified());
+
+                mockMvc.perform(get("/api/blackjack/gameover").header("If-None-Match", "\"0\"").session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", etag))
+                                .andExpect(content().string("false"));
+        }
+
+        @Test
+        void state_countsOnlyRequestsCarryingIfNoneMatch() {
+                ConditionalGetMetrics metrics = new ConditionalGetMetrics();
+                BlackjackController controller = new BlackjackController(sessionService, null, null, null, metrics);
+                String etag = "\"" + sessionService.withGame(session, BlackjackGame::getRevision) + "\"";
+
+                assertEquals(200, controller.getState(null, webRequest(null), session).getStatusCode().value());
+                assertEquals(0.0, metrics.getHitRatio());
+
+                assertNull(controller.getState(null, webRequest(etag), session));
+                assertEquals(1.0, metrics.getHitRatio());
+
+                assertEquals(200, controller.getState(null, webRequest("\"0\""), session).getStatusCode().value());
+                assertEquals(0.5, metrics.getHitRatio());
+        }
+
+        @Test
+        void cors_allowsIfNoneMatchAndExposesETag() throws Exception {
+                mockMvc.perform(options("/api/blackjack/state")
+                                .header("Origin", "http://localhost:3000")
+                                .header("Access-Control-Request-Method", "GET")
+                                .header("Access-Control-Request-Headers", "If-None-Match"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Access-Control-Allow-Headers", containsString("If-None-Match")));
+
+                mockMvc.perform(get("/api/blackjack/state").header("Origin", "http://localhost:3000").session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Access-Control-Expose-Headers", containsString("ETag")));
+        }
+
+        @Test
+        void odds_reportsDealerOutcomeProbabilities() throws Exception {
+                prepareGameForPlay(50);
+
+                mockMvc.perform(get("/api/blackjack/odds").session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total17").isNumber())
+                                .andExpect(jsonPath("$.blackjack").isNumber())
+                                .andExpect(jsonPath("$.bust").isNumber());
+        }
+
+        @Test
+        void odds_withoutActiveRound_returnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/blackjack/odds").session(session))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.error").value("No active round to compute dealer odds for"));
+        }
+
+        @Test
+        void hint_reportsBasicStrategyAction() throws Exception {
+                prepareGameForPlay(50);
+
+                mockMvc.perform(get("/api/blackjack/hint").session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.action").isString())
+                                .andExpect(jsonPath("$.takeInsurance").value(false));
+        }
+
+        @Test
+        void hint_withoutActiveRound_returnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/blackjack/hint").session(session))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.error").value("No active round to give a hint for"));
+        }
+
+        @Test
+        void ev_reportsExpectedValuePerAction() throws Exception {
+                prepareGameForPlay(50);
+
+                mockMvc.perform(get("/api/blackjack/ev").session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.stand").isNumber())
+                                .andExpect(jsonPath("$.hit").isNumber())
+                                .andExpect(jsonPath("$.doubleDown").isNumber());
+        }
+
+        @Test
+        void ev_withoutActiveRound_returnsBadRequest() throws Exception {
+                mockMvc.perform(get("/api/blackjack/ev").session(session))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.error").value("No active round to compute expected values for"));
+        }
+
+        @Test
+        void actions_playsWholeRoundInOneRequest() throws Exception {
+                mockMvc.perform(post("/api/blackjack/actions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("actions", List.of(
+                                                Map.of("type", "bet", "amount", 50),
+                                                Map.of("type", "start", "decks", 2, "dealerHitsOnSoft17", true),
+                                                Map.of("type", "stand")))))
+                                .session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.results", hasSize(3)))
+                                .andExpect(jsonPath("$.results[0].action").value("bet"))
+                                .andExpect(jsonPath("$.results[0].applied").value(true))
+                                .andExpect(jsonPath("$.results[1].applied").value(true))
+                                .andExpect(jsonPath("$.results[2].action").value("stand"))
+                                .andExpect(jsonPath("$.state.numberOfDecks").value(2))
+                                .andExpect(jsonPath("$.state.dealerHitsOnSoft17").value(true))
+                                .andExpect(jsonPath("$.state.currentBet").value(50))
+                                .andExpect(jsonPath("$.state.playerHands[0].cards", hasSize(2)));
+        }
+
+        @Test
+        void actions_stopsAtFirstRejectedAction() throws Exception {
+                mockMvc.perform(post("/api/blackjack/actions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("actions", List.of(
+                                                Map.of("type", "bet", "amount", 50),
+                                                Map.of("type", "insurance"),
+                                                Map.of("type", "start")))))
+                                .session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.results[0].applied").value(true))
+                                .andExpect(jsonPath("$.results[1].applied").value(false))
+                                .andExpect(jsonPath("$.results[1].error").value("Insurance amount is required"))
+                                .andExpect(jsonPath("$.results[2].applied").value(false))
+                                .andExpect(jsonPath("$.results[2].error").doesNotExist())
+                                .andExpect(jsonPath("$.state.bettingOpen").value(true))
+                                .andExpect(jsonPath("$.state.currentBet").value(50))
+                                .andExpect(jsonPath("$.state.dealerHand", hasSize(0)));
+        }
+
+        @Test
+        void actions_reportsEngineErrors() throws Exception {
+                prepareGameForPlay(50);
+                BlackjackGame game = getSessionGame();
+                game.getPlayerHands().get(0).getCards().clear();
+                game.getPlayerHands().get(0).getCards().addAll(Arrays.asList(
+                                new Card("10", "Hearts"),
+                                new Card("5", "Diamonds")));
+                setPrivateField(game, "insuranceResolved", true);
+
+                mockMvc.perform(post("/api/blackjack/actions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("actions", List.of(
+                                                Map.of("type", "split"),
+                                                Map.of("type", "hit")))))
+                                .session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.results[0].action").value("split"))
+                                .andExpect(jsonPath("$.results[0].error").exists())
+                                .andExpect(jsonPath("$.results[1].applied").value(false))
+                                .andExpect(jsonPath("$.state.playerHands[0].cards", hasSize(2)));
+        }
+
+        @Test
+        void actions_rejectsInvalidBatches() throws Exception {
+                mockMvc.perform(post("/api/blackjack/actions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"actions\":[]}")
+                                .session(session))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.error").value("At least one action is required"));
+
+                mockMvc.perform(post("/api/blackjack/actions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"actions\":[{\"type\":\"surrender\"}]}")
+                                .session(session))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.error").value("Invalid request body"));
+
+                mockMvc.perform(post("/api/blackjack/actions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("actions", List.of(
+                                                Map.of("type", "start", "decks", 9)))))
+                                .session(session))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.error").value("Cannot use more than 8 decks"));
+        }
+
+        @Test
+        void actions_appliesSingleEndpointAmountLimitsPerActionType() throws Exception {
+                mockMvc.perform(post("/api/blackjack/actions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("actions", List.of(
+                                                Map.of("type", "bet", "amount", 0),
+                                                Map.of("type", "start")))))
+                                .session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.results[0].applied").value(false))
+                                .andExpect(jsonPath("$.results[0].error").value("Bet must be at least $1"))
+                                .andExpect(jsonPath("$.results[1].applied").value(false))
+                                .andExpect(jsonPath("$.state.currentBet").value(0));
+
+                mockMvc.perform(post("/api/blackjack/actions")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("actions", List.of(
+                                                Map.of("type", "bet", "amount", 50),
+                                                Map.of("type", "start"),
+                                                Map.of("type", "insurance", "amount", 50001)))))
+                                .session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.results[0].applied").value(true))
+                                .andExpect(jsonPath("$.results[2].applied").value(false))
+                                .andExpect(jsonPath("$.results[2].error").value("Insurance amount too high"));
+        }
+
+        @Test
+        void hit_withKnownRevision_returnsDelta() throws Exception {
+                prepareGameForPlay(50);
+                BlackjackGame game = getSessionGame();
+                game.getPlayerHands().get(0).getCards().clear();
+                game.getPlayerHands().get(0).getCards().addAll(Arrays.asList(
+                                new Card("2", "Hearts"),
+                                new Card("3", "Diamonds")));
+                setPrivateField(game, "insuranceResolved", true);
+                long revision = game.getRevision();
+
+                mockMvc.perform(post("/api/blackjack/hit")
+                                .param("since", String.valueOf(revision))
+                                .session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.revision").value(revision + 1))
+                                .andExpect(jsonPath("$.baseRevision").value(revision))
+                                .andExpect(jsonPath("$.playerHands[0].index").value(0))
+                                .andExpect(jsonPath("$.playerHands[0].addedCards", hasSize(1)))
+                                .andExpect(jsonPath("$.playerHands[0].cards").doesNotExist())
+                                .andExpect(jsonPath("$.dealerCards").doesNotExist())
+                                .andExpect(jsonPath("$.balance").doesNotExist());
+
+                mockMvc.perform(get("/api/blackjack/state")
+                                .param("since", String.valueOf(revision + 1))
+                                .session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.baseRevision").value(revision + 1))
+                                .andExpect(jsonPath("$.playerHands").doesNotExist());
+        }
+
+        @Test
+        void state_withUnknownRevision_returnsFullState() throws Exception {
+                prepareGameForPlay(50);
+
+                mockMvc.perform(get("/api/blackjack/state")
+                                .param("since", "-1")
+                                .session(session))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.revision").value(getSessionGame().getRevision()))
+                                .andExpect(jsonPath("$.baseRevision").doesNotExist())
+                                .andExpect(jsonPath("$.playerHands[0].cards", hasSize(2)))
+                                .andExpect(jsonPath("$.dealerHand", hasSize(2)));
+        }
+
         private BlackjackGame getSessionGame() {
                 return (BlackjackGame) session.getAttribute("blackjackGame");
         }
 
+        private static ServletWebRequest webRequest(String ifNoneMatch) {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blackjack/state");
+                if (ifNoneMatch != null) {
+                        request.addHeader("If-None-Match", ifNoneMatch);
+                }
+                return new ServletWebRequest(request, new MockHttpServletResponse());
+        }
+
         private void placeBet(int amount) throws Exception {
                 mockMvc.perform(post("/api/blackjack/bet")
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -3,7 +3,9 @@ package com.game.blackjack;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -19,6 +21,26 @@ class BlackjackGameTests {
         assertEquals(104, game.getDeckSize());
     }
 
+    @Test
+    void drawCard_reshufflesOnlyDiscardsWhenShoeRunsOutMidRound() {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 7));
+        for (int round = 0; round < 300; round++) {
+            if (!game.isBettingOpen()) {
+                game.forfeitRound();
+            }
+            game.placeBet(1);
+            game.dealInitialCards();
+            while (!game.isGameOver() && game.getCurrentHand().value() < 17) {
+                game.hitPlayer();
+                assertNoDuplicateCards(game);
+            }
+            if (!game.isGameOver()) {
+                game.stand();
+            }
+            assertNoDuplicateCards(game);
+        }
+    }
+
     @Test
     void dealInitialCards_assignsHandsAndDeductsBet() {
         BlackjackGame game = new BlackjackGame();
@@ -532,6 +554,300 @@ class BlackjackGameTests {
         assertEquals("Insurance must be resolved before playing", exception.getMessage());
     }
 
+    @Test
+    void startingBalance_isConfigurable() {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM), null, 50);
+        assertEquals(50, game.getBalance());
+        assertNull(game.getDealerUpcard());
+    }
+
+    @Test
+    void canSplitAndDoubleDown_reflectCurrentHand() {
+        BlackjackGame game = new BlackjackGame();
+        game.placeBet(100);
+        game.replaceDeck(Arrays.asList(
+                new Card("8", "Hearts"),
+                new Card("5", "Clubs"),
+                new Card("8", "Spades"),
+                new Card("K", "Diamonds"),
+                new Card("2", "Clubs")
+        ));
+        assertFalse(game.canSplit());
+        assertFalse(game.canDoubleDown());
+        game.dealInitialCards();
+
+        assertEquals(new Card("K", "Diamonds"), game.getDealerUpcard());
+        assertTrue(game.canSplit());
+        assertTrue(game.canDoubleDown());
+
+        game.hitPlayer();
+        assertFalse(game.canSplit());
+        assertFalse(game.canDoubleDown());
+    }
+
+    @Test
+    void canSplitAndDoubleDown_requireBalanceForSecondBet() {
+        BlackjackGame game = new BlackjackGame();
+        game.placeBet(600);
+        game.replaceDeck(Arrays.asList(
+                new Card("K", "Hearts"),
+                new Card("5", "Clubs"),
+                new Card("Q", "Spades"),
+                new Card("9", "Diamonds")
+        ));
+        game.dealInitialCards();
+
+        assertFalse(game.canSplit());
+        assertFalse(game.canDoubleDown());
+    }
+
+    @Test
+    void getUnseenPointCounts_includesShoeAndHoleCardOnlyDuringRound() {
+        BlackjackGame game = new BlackjackGame();
+        game.placeBet(10);
+        game.replaceDeck(Arrays.asList(
+                new Card("9", "Hearts"),
+                new Card("7", "Clubs"),
+                new Card("8", "Spades"),
+                new Card("K", "Diamonds"),
+                new Card("5", "Clubs")
+        ));
+        game.dealInitialCards();
+
+        int[] expected = new int[Card.POINT_VALUES];
+        expected[Card.pointIndex(new Card("7", "Clubs").getCode())] = 1;
+        expected[Card.pointIndex(new Card("5", "Clubs").getCode())] = 1;
+        assertArrayEquals(expected, game.getUnseenPointCounts());
+
+        game.stand();
+        assertEquals(1, Arrays.stream(game.getUnseenPointCounts()).sum());
+    }
+
+    @Test
+    void listener_receivesOneEventPerActionWithDrawnCards() {
+        BlackjackGame game = new BlackjackGame();
+        List<String> events = new java.util.ArrayList<>();
+        game.setListener((source, action, amount, drawn, drawnCount) ->
+                events.add(action + ":" + amount + ":" + drawnCount));
+
+        game.placeBet(10);
+        game.replaceDeck(Arrays.asList(
+                new Card("9", "Hearts"),
+                new Card("7", "Clubs"),
+                new Card("8", "Spades"),
+                new Card("K", "Diamonds"),
+                new Card("5", "Clubs")
+        ));
+        game.dealInitialCards();
+        game.hitPlayer();
+
+        assertTrue(game.isGameOver());
+        assertEquals(List.of("BET:10:0", "DEAL:0:4", "HIT:0:1"), events);
+    }
+
+    @Test
+    void replay_rebuildsStateFromRecordedEvents() {
+        BlackjackGame original = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 8));
+        List<Object[]> events = new java.util.ArrayList<>();
+        original.setListener((source, action, amount, drawn, drawnCount) ->
+                events.add(new Object[] { action, amount, Arrays.copyOf(drawn, drawnCount) }));
+
+        original.initializeDeck(2);
+        original.setDealerHitsOnSoft17(true);
+        for (int round = 0; round < 40; round++) {
+            if (original.needsReshuffle()) {
+                original.initializeDeck(2);
+            }
+            original.placeBet(10);
+            original.dealInitialCards();
+            if (!original.isInsuranceResolved()) {
+                original.resolveInsurance(round % 2 == 0 ? 5 : 0);
+            }
+            while (!original.isGameOver()) {
+                Hand hand = original.getCurrentHand();
+                if (original.canSplit()) {
+                    original.split();
+                } else if (hand.value() <= 11 && original.canDoubleDown()) {
+                    original.doubleDown();
+                } else if (hand.value() < 17) {
+                    original.hitPlayer();
+                } else {
+                    original.stand();
+                }
+            }
+        }
+        original.placeBet(20);
+        original.dealInitialCards();
+
+        BlackjackGame replayed = new BlackjackGame();
+        for (Object[] event : events) {
+            byte[] cards = (byte[]) event[2];
+            replayed.replay((GameAction) event[0], (int) event[1], cards, cards.length);
+        }
+
+        assertEquals(original.getBalance(), replayed.getBalance());
+        assertEquals(original.getNumberOfDecks(), replayed.getNumberOfDecks());
+        assertTrue(replayed.isDealerHitsOnSoft17());
+        assertEquals(original.getDealerHand(), replayed.getDealerHand());
+        assertEquals(original.getPlayerHands().size(), replayed.getPlayerHands().size());
+        assertEquals(original.getCurrentHand().getCards(), replayed.getCurrentHand().getCards());
+        assertEquals(original.getCurrentBet(), replayed.getCurrentBet());
+        assertEquals(original.isInsuranceResolved(), replayed.isInsuranceResolved());
+        assertFalse(replayed.isGameOver());
+    }
+
+    @Test
+    void snapshot_roundTripsMidRoundState() {
+        BlackjackGame game = new BlackjackGame();
+        game.setDealerHitsOnSoft17(true);
+        game.placeBet(20);
+        game.replaceDeck(Arrays.asList(
+                new Card("8", "Hearts"),
+                new Card("7", "Clubs"),
+                new Card("8", "Spades"),
+                new Card("A", "Diamonds"),
+                new Card("3", "Clubs"),
+                new Card("K", "Hearts"),
+                new Card("2", "Spades"),
+                new Card("5", "Hearts")
+        ));
+        game.dealInitialCards();
+        game.resolveInsurance(10);
+        game.split();
+        game.hitPlayer();
+
+        ByteBuffer buffer = ByteBuffer.allocate(game.snapshotSize());
+        game.writeSnapshot(buffer);
+        assertFalse(buffer.hasRemaining());
+        BlackjackGame restored = new BlackjackGame();
+        restored.readSnapshot(buffer.flip());
+
+        assertEquals(game.getBalance(), restored.getBalance());
+        assertEquals(game.getCurrentBet(), restored.getCurrentBet());
+        assertEquals(game.getInsuranceBet(), restored.getInsuranceBet());
+        assertEquals("LOSS", restored.getInsuranceOutcome());
+        assertTrue(restored.isDealerHitsOnSoft17());
+        assertFalse(restored.isBettingOpen());
+        assertEquals(game.getDealerHand(), restored.getDealerHand());
+        assertEquals(2, restored.getPlayerHands().size());
+        assertEquals(game.getCurrentHand().getCards(), restored.getCurrentHand().getCards());
+        assertEquals(1, restored.getDeckSize());
+        assertEquals(game.getRevision(), restored.getRevision());
+        restored.stand();
+        restored.stand();
+        assertTrue(restored.isGameOver());
+    }
+
+    @Test
+    void readSnapshot_acceptsSnapshotsWithoutRevision() {
+        BlackjackGame game = new BlackjackGame();
+        game.placeBet(20);
+        game.dealInitialCards();
+        ByteBuffer buffer = ByteBuffer.allocate(game.snapshotSize());
+        game.writeSnapshot(buffer);
+        byte[] current = buffer.array();
+        byte[] legacy = new byte[current.length - Long.BYTES];
+        legacy[0] = 1;
+        System.arraycopy(current, 1 + Long.BYTES, legacy, 1, legacy.length - 1);
+
+        BlackjackGame restored = new BlackjackGame();
+        restored.readSnapshot(ByteBuffer.wrap(legacy));
+
+        assertEquals(0, restored.getRevision());
+        assertEquals(game.getBalance(), restored.getBalance());
+        assertEquals(game.getDealerHand(), restored.getDealerHand());
+        assertNull(restored.viewAt(game.getRevision()));
+    }
+
+    @Test
+    void revision_advancesOncePerCompletedAction() {
+        BlackjackGame game = new BlackjackGame();
+        long initial = game.getRevision();
+        game.placeBet(1000);
+        game.dealInitialCards();
+        assertEquals(initial + 2, game.getRevision());
+
+        assertThrows(IllegalArgumentException.class, game::doubleDown);
+        assertEquals(initial + 2, game.getRevision());
+
+        game.stand();
+        assertEquals(initial + 3, game.getRevision());
+    }
+
+    @Test
+    void viewAt_returnsRecentRevisions() {
+        BlackjackGame game = new BlackjackGame();
+        game.enableHistory();
+        game.placeBet(20);
+        long beforeDeal = game.getRevision();
+        game.dealInitialCards();
+
+        GameView before = game.viewAt(beforeDeal);
+        assertEquals(beforeDeal, before.revision());
+        assertTrue(before.playerHands().isEmpty());
+        assertTrue(before.bettingOpen());
+        assertEquals(2, game.viewAt(game.getRevision()).dealerHand().size());
+        assertNull(game.viewAt(game.getRevision() + 1));
+        assertNull(game.viewAt(-1));
+
+        for (int i = 0; i < 8; i++) {
+            game.setDealerHitsOnSoft17(i % 2 == 0);
+        }
+        assertNull(game.viewAt(beforeDeal));
+        assertNotNull(game.viewAt(game.getRevision() - 8));
+    }
+
+    @Test
+    void viewAt_rebuildsRecordedRevisionsExactly() {
+        BlackjackGame game = new BlackjackGame();
+        game.enableHistory();
+        game.replaceDeck(List.of(new Card("8", "Hearts"), new Card("6", "Clubs"), new Card("8", "Spades"),
+                new Card("A", "Diamonds"), new Card("3", "Hearts"), new Card("9", "Clubs"), new Card("K", "Spades"),
+                new Card("5", "Diamonds"), new Card("7", "Hearts")));
+        List<GameView> views = new ArrayList<>();
+
+        views.add(GameView.of(game));
+        game.placeBet(10);
+        views.add(GameView.of(game));
+        game.dealInitialCards();
+        views.add(GameView.of(game));
+        game.resolveInsurance(5);
+        views.add(GameView.of(game));
+        game.split();
+        views.add(GameView.of(game));
+        game.stand();
+        views.add(GameView.of(game));
+        game.stand();
+
+        for (GameView view : views) {
+            assertEquals(view, game.viewAt(view.revision()));
+        }
+        assertEquals("TIE", game.viewAt(game.getRevision()).playerHands().get(1).outcome());
+    }
+
+    @Test
+    void viewAt_onlyReturnsCurrentRevisionWithoutHistory() {
+        BlackjackGame game = new BlackjackGame();
+        game.placeBet(20);
+        long beforeDeal = game.getRevision();
+        game.dealInitialCards();
+
+        assertNull(game.viewAt(beforeDeal));
+        assertEquals(game.getRevision(), game.viewAt(game.getRevision()).revision());
+
+        game.enableHistory();
+        long beforeStand = game.getRevision();
+        game.stand();
+        assertEquals(2, game.viewAt(beforeStand).dealerHand().size());
+    }
+
+    @Test
+    void readSnapshot_rejectsUnknownVersion() {
+        BlackjackGame game = new BlackjackGame();
+
+        assertThrows(IllegalArgumentException.class, () -> game.readSnapshot(ByteBuffer.wrap(new byte[] { 9 })));
+    }
+
     private void setPrivateField(Object target, String name, Object value) throws Exception {
         Field field = BlackjackGame.class.getDeclaredField(name);
         field.setAccessible(true);
@@ -544,4 +860,12 @@ class BlackjackGameTests {
         return (boolean) method.invoke(game, hand);
     }
 
+
+    private static void assertNoDuplicateCards(BlackjackGame game) {
+        List<Card> cards = new ArrayList<>(game.getDealerHand());
+        for (Hand hand : game.getPlayerHands()) {
+            cards.addAll(hand.getCards());
+        }
+        assertEquals(cards.size(), cards.stream().map(Card::getCode).distinct().count());
+    }
 }
@@ -0,0 +1,515 @@
+package com.game.blackjack;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpSessionEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpSession;
+
+import com.game.blackjack.dto.GameDelta;
+import com.game.blackjack.dto.GameJson;
+import com.game.blackjack.dto.GameResponse;
+import com.game.blackjack.dto.HandResponse;
+import com.game.blackjack.dto.StateResponse;
+import com.game.blackjack.journal.RoundJournal;
+import com.game.blackjack.store.GameStore;
+import com.game.blackjack.store.GameStoreException;
+import com.game.blackjack.store.InMemoryGameStore;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlackjackSessionServiceTests {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 500;
+    private static final Duration SESSION_TIMEOUT = Duration.ofMinutes(30);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    void withGame_interleavedActionsKeepBalanceConsistent() throws Exception {
+        BlackjackSessionService service = newService(false);
+        MockHttpSession session = new MockHttpSession();
+        LongAdder deltas = new LongAdder();
+
+        runConcurrently((thread, call) -> {
+            deltas.add(service.withGame(session, game -> {
+                int before = game.getBalance();
+                switch ((thread + call) % 4) {
+                    case 0 -> {
+                        game.forfeitRound();
+                        if (game.isBettingOpen() && game.getBalance() >= 10) {
+                            game.placeBet(10);
+                        }
+                    }
+                    case 1 -> {
+                        if (game.isBettingOpen()) {
+                            game.dealInitialCards();
+                        }
+                    }
+                    case 2 -> game.hitPlayer();
+                    default -> {
+                        if (!game.isBettingOpen() && !game.isGameOver()) {
+                            game.stand();
+                        }
+                    }
+                }
+                assertConsistent(GameResponse.from(game));
+                return game.getBalance() - before;
+            }));
+        });
+
+        BlackjackGame game = service.getOrCreateGame(session);
+        assertEquals(1000 + deltas.sum(), game.getBalance());
+    }
+
+    @Test
+    void controller_interleavedCallsIncludingResetReturnConsistentState() throws Exception {
+        BlackjackSessionService service = newService(false);
+        BlackjackController controller = new BlackjackController(service, null, null, null,
+                new ConditionalGetMetrics());
+        MockHttpSession session = new MockHttpSession();
+        BetRequest bet = new BetRequest(10);
+
+        runConcurrently((thread, call) -> {
+            switch ((thread + call) % 6) {
+                case 0, 4 -> controller.placeBet(bet, session);
+                case 1 -> assertConsistent(decode(controller.startGame(1, false, null, session)));
+                case 2 -> assertConsistent(decode(controller.hit(null, session)));
+                case 3 -> assertConsistent(decode(controller.stand(null, session)));
+                default -> {
+                    GameResponse reset = decode(controller.reset(null, session));
+                    assertEquals(BlackjackGame.DEFAULT_BALANCE, reset.balance());
+                    assertEquals(0, reset.currentBet());
+                    assertTrue(reset.playerHands().isEmpty());
+                    assertTrue(reset.dealerHand().isEmpty());
+                    assertTrue(reset.bettingOpen());
+                }
+            }
+        });
+
+        assertConsistent(GameResponse.from(service.getOrCreateGame(session)));
+    }
+
+    @Test
+    void withGame_failFastRejectsConcurrentRequest() throws Exception {
+        BlackjackSessionService service = newService(true);
+        MockHttpSession session = new MockHttpSession();
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> first = executor.submit(() -> service.withGame(session, game -> {
+                holding.countDown();
+                awaitQuietly(release);
+                return game.getBalance();
+            }));
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ConcurrentRequestException.class,
+                    () -> service.withGame(session, BlackjackGame::getBalance));
+            assertThrows(ConcurrentRequestException.class,
+                    () -> service.resetGame(session, 1, false, game -> game));
+            assertEquals(1000, service.withGame(new MockHttpSession(), BlackjackGame::getBalance));
+
+            release.countDown();
+            assertEquals(1000, first.get(5, TimeUnit.SECONDS));
+            assertEquals(1000, service.withGame(session, BlackjackGame::getBalance));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void withGame_releasesLockWhenActionThrows() {
+        BlackjackSessionService service = newService(true);
+        MockHttpSession session = new MockHttpSession();
+
+        assertThrows(IllegalStateException.class, () -> service.withGame(session, game -> {
+            game.dealInitialCards();
+            game.placeBet(10);
+            return null;
+        }));
+        assertEquals(1000, service.withGame(session, BlackjackGame::getBalance));
+    }
+
+    @Test
+    void resetGame_replacesGameUnderLock() {
+        BlackjackSessionService service = newService(false);
+        MockHttpSession session = new MockHttpSession();
+        BlackjackGame original = service.getOrCreateGame(session);
+
+        BlackjackGame reset = service.resetGame(session, 3, true, game -> game);
+
+        assertNotSame(original, reset);
+        assertSame(reset, service.withGame(session, game -> game));
+        assertEquals(3, reset.getNumberOfDecks());
+        assertTrue(reset.isDealerHitsOnSoft17());
+    }
+
+    @Test
+    void getOrCreateGame_recoversJournaledGameForSamePlayerId() {
+        RoundJournal journal = newJournal();
+        BlackjackSessionService service = newService(journal, SESSION_TIMEOUT);
+        MockHttpSession session = playerSession("player-1");
+        service.resetGame(session, 4, true, game -> game);
+        int balance = service.withGame(session, game -> {
+            game.placeBet(25);
+            game.dealInitialCards();
+            return game.getBalance();
+        });
+        journal.close();
+
+        RoundJournal reopened = newJournal();
+        BlackjackSessionService restarted = newService(reopened, SESSION_TIMEOUT);
+        try {
+            BlackjackGame recovered = restarted.getOrCreateGame(playerSession("player-1"));
+            assertEquals(balance, recovered.getBalance());
+            assertEquals(4, recovered.getNumberOfDecks());
+            assertTrue(recovered.isDealerHitsOnSoft17());
+            assertFalse(recovered.isBettingOpen());
+            assertEquals(25, recovered.getCurrentBet());
+
+            BlackjackGame fresh = restarted.getOrCreateGame(playerSession("player-2"));
+            assertEquals(BlackjackGame.DEFAULT_BALANCE, fresh.getBalance());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void sessionDestroyed_dropsJournalStreamOfExpiredSession() {
+        RoundJournal journal = newJournal();
+        BlackjackSessionService service = newService(journal, SESSION_TIMEOUT);
+        MockHttpSession expired = idleSession("player-1");
+        MockHttpSession active = playerSession("player-2");
+        service.resetGame(expired, 2, false, game -> game);
+        service.resetGame(active, 2, false, game -> game);
+
+        service.sessionDestroyed(new HttpSessionEvent(expired));
+        service.sessionDestroyed(new HttpSessionEvent(active));
+        journal.snapshot();
+        journal.close();
+
+        RoundJournal reopened = newJournal();
+        try {
+            assertEquals(Set.of("player-2"), reopened.recover(balance -> new BlackjackGame()).keySet());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void getOrCreateGame_forgetsUnclaimedRecoveredGamesAfterSessionTimeout() {
+        RoundJournal journal = newJournal();
+        BlackjackSessionService service = newService(journal, SESSION_TIMEOUT);
+        MockHttpSession session = playerSession("player-1");
+        service.resetGame(session, 4, true, game -> game);
+        service.withGame(session, game -> {
+            game.placeBet(25);
+            return null;
+        });
+        journal.close();
+
+        RoundJournal reopened = newJournal();
+        try {
+            BlackjackSessionService restarted = newService(reopened, Duration.ZERO);
+            restarted.getOrCreateGame(playerSession("player-2"));
+            BlackjackGame game = restarted.getOrCreateGame(playerSession("player-1"));
+
+            assertEquals(BlackjackGame.DEFAULT_BALANCE, game.getBalance());
+            assertEquals(0, game.getCurrentBet());
+        } finally {
+            reopened.close();
+        }
+    }
+
+    @Test
+    void withGame_sharesStoredStateAcrossServiceInstances() {
+        InMemoryGameStore store = new InMemoryGameStore(Duration.ofMinutes(30));
+        BlackjackSessionService first = newService(false, store);
+        BlackjackSessionService second = newService(false, store);
+        first.resetGame(playerSession("player-1"), 2, true, game -> game);
+
+        List<Card> playerCards = first.withGame(playerSession("player-1"), game -> {
+            game.placeBet(40);
+            game.dealInitialCards();
+            return List.copyOf(game.getCurrentHand().getCards());
+        });
+
+        BlackjackGame stored = second.getOrCreateGame(playerSession("player-1"));
+        assertEquals(playerCards, stored.getCurrentHand().getCards());
+        assertEquals(BlackjackGame.DEFAULT_BALANCE - 40, stored.getBalance());
+        assertEquals(2, stored.getNumberOfDecks());
+        assertTrue(stored.isDealerHitsOnSoft17());
+        assertEquals(2 * 52 - 4, stored.getDeckSize());
+        assertNull(playerSession("player-1").getAttribute(BlackjackSessionService.SESSION_GAME_KEY));
+    }
+
+    @Test
+    void getOrCreateGame_keysStoredGamesByPlayerIdInsteadOfSessionId() {
+        InMemoryGameStore store = new InMemoryGameStore(Duration.ofMinutes(30));
+        BlackjackSessionService service = newService(false, store);
+        service.withGame(playerSession("player-1"), game -> {
+            game.placeBet(40);
+            return null;
+        });
+        MockHttpSession session = new MockHttpSession(null, "player-1");
+
+        BlackjackGame game = service.getOrCreateGame(session);
+
+        assertEquals(BlackjackGame.DEFAULT_BALANCE, game.getBalance());
+        String playerId = (String) session.getAttribute(PlayerIdInterceptor.SESSION_PLAYER_ID_KEY);
+        assertTrue(PlayerIdInterceptor.isValid(playerId));
+    }
+
+    @Test
+    void withGame_savesOnlyChangedState() {
+        AtomicInteger saves = new AtomicInteger();
+        InMemoryGameStore delegate = new InMemoryGameStore(Duration.ofMinutes(30));
+        GameStore store = new GameStore() {
+            @Override
+            public byte[] load(String id) {
+                return delegate.load(id);
+            }
+
+            @Override
+            public void save(String id, byte[] state) {
+                saves.incrementAndGet();
+                delegate.save(id, state);
+            }
+
+            @Override
+            public boolean replace(String id, byte[] expected, byte[] state) {
+                saves.incrementAndGet();
+                return delegate.replace(id, expected, state);
+            }
+
+            @Override
+            public void delete(String id) {
+                delegate.delete(id);
+            }
+        };
+        BlackjackSessionService service = newService(false, store);
+        MockHttpSession session = playerSession("player-1");
+
+        service.withGame(session, game -> {
+            game.placeBet(10);
+            return null;
+        });
+        service.withGame(session, BlackjackGame::getBalance);
+        service.withGame(session, BlackjackGame::isGameOver);
+
+        assertEquals(1, saves.get());
+    }
+
+    @Test
+    void withGame_rejectsUpdateThatLostRaceWithAnotherNode() {
+        InMemoryGameStore store = new InMemoryGameStore(Duration.ofMinutes(30));
+        BlackjackSessionService first = newService(false, store);
+        BlackjackSessionService second = newService(false, store);
+        first.resetGame(playerSession("player-1"), 1, false, game -> game);
+
+        assertThrows(ConcurrentRequestException.class, () -> first.withGame(playerSession("player-1"), game -> {
+            second.withGame(playerSession("player-1"), other -> {
+                other.placeBet(30);
+                return null;
+            });
+            game.placeBet(70);
+            return null;
+        }));
+
+        BlackjackGame stored = second.getOrCreateGame(playerSession("player-1"));
+        assertEquals(30, stored.getCurrentBet());
+        first.withGame(playerSession("player-1"), game -> {
+            game.placeBet(70);
+            return null;
+        });
+        assertEquals(70, second.getOrCreateGame(playerSession("player-1")).getCurrentBet());
+    }
+
+    @Test
+    void withGame_rejectsUnreadableStoredStateInsteadOfResettingIt() {
+        InMemoryGameStore store = new InMemoryGameStore(Duration.ofMinutes(30));
+        store.save("player-1", new byte[] { 1, 2, 3 });
+        BlackjackSessionService service = newService(false, store);
+
+        assertThrows(GameStoreException.class, () -> service.withGame(playerSession("player-1"), game -> {
+            game.placeBet(10);
+            return null;
+        }));
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, store.load("player-1"));
+        service.resetGame(playerSession("player-1"), 1, false, game -> game);
+        assertEquals(BlackjackGame.DEFAULT_BALANCE, service.getOrCreateGame(playerSession("player-1")).getBalance());
+    }
+
+    @Test
+    void withGame_rehydratesCompactedGames() throws InterruptedException {
+        ShoePool shoePool = new ShoePool(0, Runnable::run);
+        GameTiering tiering = new GameTiering(Duration.ofMillis(1), null, Executors.newSingleThreadExecutor());
+        try {
+            BlackjackSessionService service = new BlackjackSessionService(ShuffleEngine.DEFAULT_ALGORITHM, shoePool,
+                    false, SESSION_TIMEOUT, Optional.empty(), Optional.empty(), Optional.of(tiering),
+                    Optional.empty());
+            MockHttpSession session = new MockHttpSession(null, "player-1");
+            service.resetGame(session, 6, false, game -> game);
+            List<Card> cards = service.withGame(session, game -> {
+                game.placeBet(30);
+                game.dealInitialCards();
+                return List.copyOf(game.getCurrentHand().getCards());
+            });
+            BlackjackGame hot = service.getOrCreateGame(session);
+
+            Thread.sleep(5);
+            tiering.compactIdle();
+
+            BlackjackGame rehydrated = service.withGame(session, game -> game);
+            assertNotSame(hot, rehydrated);
+            assertEquals(cards, rehydrated.getCurrentHand().getCards());
+            assertEquals(BlackjackGame.DEFAULT_BALANCE - 30, rehydrated.getBalance());
+            assertEquals(6, rehydrated.getNumberOfDecks());
+            assertNull(session.getAttribute(BlackjackSessionService.SESSION_GAME_KEY));
+        } finally {
+            tiering.close();
+        }
+    }
+
+    @Test
+    void withGame_publishesChangesToSubscribers() {
+        for (GameStore store : new GameStore[] { null, new InMemoryGameStore(Duration.ofMinutes(30)) }) {
+            GameUpdates updates = new GameUpdates();
+            BlackjackSessionService service = newService(false, store, updates);
+            MockHttpSession session = new MockHttpSession(null, "player-1");
+            List<StateResponse> received = new ArrayList<>();
+            updates.subscribe(session.getId(), message -> received.add(message.state()));
+
+            BlackjackGame reset = service.resetGame(session, 2, false, game -> game);
+            long revision = reset.getRevision();
+            service.withGame(session, game -> {
+                game.placeBet(20);
+                return null;
+            });
+            service.withGame(session, BlackjackGame::getBalance);
+
+            assertEquals(2, received.size());
+            assertInstanceOf(GameResponse.class, received.get(0));
+            GameDelta delta = assertInstanceOf(GameDelta.class, received.get(1));
+            assertEquals(revision, delta.baseRevision());
+            assertEquals(20, delta.currentBet());
+        }
+    }
+
+    private RoundJournal newJournal() {
+        return new RoundJournal(journalDirectory, 4096, Duration.ofMillis(5), Duration.ZERO,
+                Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor());
+    }
+
+    private static void runConcurrently(Call call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        call.run(thread, i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertConsistent(GameResponse state) {
+        assertNotEquals(1, state.dealerHand().size());
+        if (!state.playerHands().isEmpty()) {
+            assertEquals(state.currentBet(), state.playerHands().stream().mapToInt(HandResponse::bet).sum());
+            assertTrue(state.playerHands().stream().filter(HandResponse::turn).count() <= 1);
+        }
+        if (state.bettingOpen() && !state.playerHands().isEmpty()) {
+            assertTrue(state.gameOver());
+        }
+    }
+
+    private static GameResponse decode(StateResponse state) throws Exception {
+        GameResponse response = OBJECT_MAPPER.readValue(((GameJson) state).json(), GameResponse.class);
+        assertEquals(state.revision(), response.revision());
+        return response;
+    }
+
+    private interface Call {
+        void run(int thread, int call) throws Exception;
+    }
+
+    private static BlackjackSessionService newService(boolean failFast) {
+        return newService(failFast, null);
+    }
+
+    private static BlackjackSessionService newService(boolean failFast, GameStore store) {
+        return newService(failFast, store, null);
+    }
+
+    private static BlackjackSessionService newService(boolean failFast, GameStore store, GameUpdates updates) {
+        ShoePool shoePool = new ShoePool(0, Runnable::run);
+        return new BlackjackSessionService(ShuffleEngine.DEFAULT_ALGORITHM, shoePool, failFast, SESSION_TIMEOUT,
+                Optional.empty(), Optional.ofNullable(store), Optional.empty(), Optional.ofNullable(updates));
+    }
+
+    private static BlackjackSessionService newService(RoundJournal journal, Duration sessionTimeout) {
+        ShoePool shoePool = new ShoePool(0, Runnable::run);
+        return new BlackjackSessionService(ShuffleEngine.DEFAULT_ALGORITHM, shoePool, false, sessionTimeout,
+                Optional.of(journal), Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    private static MockHttpSession playerSession(String playerId) {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(PlayerIdInterceptor.SESSION_PLAYER_ID_KEY, playerId);
+        return session;
+    }
+
+    private static MockHttpSession idleSession(String playerId) {
+        MockHttpSession session = new MockHttpSession() {
+            @Override
+            public long getLastAccessedTime() {
+                return 0;
+            }
+        };
+        session.setAttribute(PlayerIdInterceptor.SESSION_PLAYER_ID_KEY, playerId);
+        session.setMaxInactiveInterval(60);
+        return session;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
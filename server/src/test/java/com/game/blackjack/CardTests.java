@@ -0,0 +1,83 @@
+package com.game.blackjack;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardTests {
+
+    @Test
+    void constructor_encodesRankAndSuit() {
+        Card card = new Card("Q", "Clubs");
+        assertEquals("Q", card.getValue());
+        assertEquals("Clubs", card.getSuit());
+        assertEquals(10, Card.points(card.getCode()));
+        assertFalse(Card.isAce(card.getCode()));
+    }
+
+    @Test
+    void of_returnsCanonicalInstanceEqualToConstructedCard() {
+        Card constructed = new Card("A", "Spades");
+        Card canonical = Card.of(constructed.getCode());
+        assertSame(canonical, Card.of(constructed.getCode()));
+        assertEquals(constructed, canonical);
+        assertEquals(constructed.hashCode(), canonical.hashCode());
+        assertNotEquals(constructed, new Card("A", "Hearts"));
+        assertTrue(Card.isAce(canonical.getCode()));
+        assertEquals(11, Card.points(canonical.getCode()));
+    }
+
+    @Test
+    void points_matchesRankValues() {
+        assertEquals(2, Card.points(new Card("2", "Hearts").getCode()));
+        assertEquals(9, Card.points(new Card("9", "Diamonds").getCode()));
+        assertEquals(10, Card.points(new Card("10", "Clubs").getCode()));
+        assertEquals(10, Card.points(new Card("K", "Spades").getCode()));
+    }
+
+    @Test
+    void pointIndex_groupsTenValuedCardsAfterAce() {
+        assertEquals(0, Card.pointIndex(new Card("A", "Hearts").getCode()));
+        assertEquals(1, Card.pointIndex(new Card("2", "Hearts").getCode()));
+        assertEquals(8, Card.pointIndex(new Card("9", "Clubs").getCode()));
+        assertEquals(9, Card.pointIndex(new Card("10", "Clubs").getCode()));
+        assertEquals(9, Card.pointIndex(new Card("Q", "Spades").getCode()));
+    }
+
+    @Test
+    void constructor_rejectsUnknownValueOrSuit() {
+        IllegalArgumentException value = assertThrows(IllegalArgumentException.class,
+                () -> new Card("1", "Hearts"));
+        assertEquals("Unknown card value: 1", value.getMessage());
+        IllegalArgumentException suit = assertThrows(IllegalArgumentException.class,
+                () -> new Card("A", "Stars"));
+        assertEquals("Unknown card suit: Stars", suit.getMessage());
+    }
+
+    @Test
+    void cardList_supportsListMutations() {
+        CardList cards = new CardList();
+        cards.addAll(List.of(
+                new Card("2", "Hearts"),
+                new Card("3", "Hearts"),
+                new Card("4", "Hearts"),
+                new Card("5", "Hearts"),
+                new Card("6", "Hearts")));
+        cards.add(0, new Card("K", "Clubs"));
+
+        assertEquals(6, cards.size());
+        assertEquals("K", cards.get(0).getValue());
+        assertEquals(new Card("3", "Hearts"), cards.set(2, new Card("A", "Spades")));
+        assertEquals(new Card("K", "Clubs"), cards.remove(0));
+        assertEquals("A", cards.get(1).getValue());
+
+        cards.subList(1, 3).clear();
+        assertEquals(List.of(new Card("2", "Hearts"), new Card("5", "Hearts"), new Card("6", "Hearts")), cards);
+
+        cards.clear();
+        assertTrue(cards.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> cards.get(0));
+    }
+}
@@ -0,0 +1,32 @@
+package com.game.blackjack;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetMetricsTests {
+
+    @Test
+    void getHitRatio_isZeroWithoutRequests() {
+        assertEquals(0.0, new ConditionalGetMetrics().getHitRatio());
+    }
+
+    @Test
+    void bindTo_registersRequestCountsAndHitRatio() {
+        ConditionalGetMetrics metrics = new ConditionalGetMetrics();
+        metrics.record(true);
+        metrics.record(true);
+        metrics.record(true);
+        metrics.record(false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        metrics.bindTo(registry);
+
+        assertEquals(3.0, registry.get("blackjack.conditional.requests").tag("result", "not-modified")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("blackjack.conditional.requests").tag("result", "modified")
+                .functionCounter().count());
+        assertEquals(0.75, registry.get("blackjack.conditional.hit.ratio").gauge().value());
+    }
+}
@@ -0,0 +1,200 @@
+package com.game.blackjack;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.game.blackjack.dto.ActionsResponse;
+import com.game.blackjack.dto.CardResponse;
+import com.game.blackjack.dto.GameJson;
+import com.game.blackjack.dto.GameResponse;
+import com.game.blackjack.dto.HandResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameResponseConverterTests {
+
+    private static final String GOLDEN = "{\"playerHands\":["
+            + "{\"cards\":[{\"value\":\"8\",\"suit\":\"Clubs\"},{\"value\":\"K\",\"suit\":\"Hearts\"}],"
+            + "\"bet\":10,\"isTurn\":false,\"isStanding\":true,\"isBusted\":false,\"hasDoubledDown\":false,"
+            + "\"outcome\":\"WIN\"},"
+            + "{\"cards\":[{\"value\":\"8\",\"suit\":\"Diamonds\"},{\"value\":\"3\",\"suit\":\"Spades\"}],"
+            + "\"bet\":20,\"isTurn\":true,\"isStanding\":false,\"isBusted\":false,\"hasDoubledDown\":true,"
+            + "\"outcome\":null}],"
+            + "\"dealerHand\":[{\"value\":\"10\",\"suit\":\"Hearts\"},{\"value\":\"A\",\"suit\":\"Clubs\"}],"
+            + "\"gameOver\":false,\"balance\":970,\"currentBet\":30,\"bettingOpen\":false,\"deckSize\":98,"
+            + "\"dealerHitsOnSoft17\":true,\"numberOfDecks\":2,\"hasDoubledDown\":true,\"insuranceBet\":5,"
+            + "\"insuranceOffered\":true,\"insuranceResolved\":true,\"insuranceOutcome\":\"LOSS\","
+            + "\"maxInsuranceBet\":5,\"revision\":1234567890123}";
+
+    private final GameResponseConverter converter = new GameResponseConverter();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void write_producesGoldenJson() throws Exception {
+        GameResponse response = new GameResponse(
+                List.of(
+                        new HandResponse(List.of(card("8", "Clubs"), card("K", "Hearts")),
+                                10, false, true, false, false, "WIN"),
+                        new HandResponse(List.of(card("8", "Diamonds"), card("3", "Spades")),
+                                20, true, false, false, true, null)),
+                List.of(card("10", "Hearts"), card("A", "Clubs")),
+                false, 970, 30, false, 98, true, 2, true, 5, true, true, "LOSS", 5, 1234567890123L);
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+
+        assertArrayEquals(GOLDEN.getBytes(StandardCharsets.UTF_8), output.getBodyAsBytes());
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+        assertEquals(GOLDEN, objectMapper.writeValueAsString(response));
+    }
+
+    @Test
+    void encode_matchesJacksonForPlayedGames() throws Exception {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42));
+        List<Card> cards = new ArrayList<>();
+        for (String value : new String[] { "8", "5", "8", "K", "3", "9", "A", "6" }) {
+            cards.add(new Card(value, "Spades"));
+        }
+        game.replaceDeck(cards);
+        game.placeBet(10);
+        game.dealInitialCards();
+        assertEncodesLikeJackson(game);
+
+        game.split();
+        assertEncodesLikeJackson(game);
+
+        game.stand();
+        game.stand();
+        assertEncodesLikeJackson(game);
+    }
+
+    @Test
+    void write_roundTripsThroughJacksonForInsuranceAndSplitStates() throws Exception {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42));
+        game.replaceDeck(List.of(new Card("8", "Hearts"), new Card("6", "Clubs"), new Card("8", "Spades"),
+                new Card("A", "Diamonds"), new Card("3", "Hearts"), new Card("9", "Clubs"), new Card("K", "Spades"),
+                new Card("5", "Diamonds"), new Card("7", "Hearts")));
+        game.placeBet(10);
+        game.dealInitialCards();
+
+        JsonNode offered = assertRoundTrip(GameResponse.from(game));
+        assertTrue(offered.get("insuranceOffered").asBoolean());
+        assertFalse(offered.get("insuranceResolved").asBoolean());
+        assertTrue(offered.get("insuranceOutcome").isNull());
+
+        game.resolveInsurance(5);
+        JsonNode insured = assertRoundTrip(GameResponse.from(game));
+        assertEquals(5, insured.get("insuranceBet").asInt());
+        assertEquals("LOSS", insured.get("insuranceOutcome").asText());
+
+        game.split();
+        JsonNode split = assertRoundTrip(GameResponse.from(game));
+        assertEquals(2, split.get("playerHands").size());
+        assertTrue(split.get("playerHands").get(0).get("isTurn").asBoolean());
+        assertEquals("9", split.get("playerHands").get(1).get("cards").get(1).get("value").asText());
+
+        game.stand();
+        game.stand();
+        JsonNode settled = assertRoundTrip(GameResponse.from(game));
+        assertEquals("LOSS", settled.get("playerHands").get(0).get("outcome").asText());
+        assertEquals("TIE", settled.get("playerHands").get(1).get("outcome").asText());
+    }
+
+    @Test
+    void write_cachesOnlyCanonicalCards() throws Exception {
+        for (int code = 0; code < Card.CODE_COUNT; code++) {
+            assertEquals(code, CardResponse.codeOf(CardResponse.from(Card.of(code))));
+        }
+        CardResponse copy = new CardResponse("8", "Hearts");
+        assertEquals(-1, CardResponse.codeOf(copy));
+        assertEquals(-1, CardResponse.codeOf(new CardResponse("Z", "Hearts")));
+        assertEquals(-1, CardResponse.codeOf(new CardResponse("8", "")));
+
+        GameResponse response = new GameResponse(List.of(), List.of(copy, card("8", "Hearts")),
+                false, 0, 0, true, 0, false, 1, false, 0, false, true, null, 0, 1);
+        assertTrue(write(response).contains("\"dealerHand\":[{\"value\":\"8\",\"suit\":\"Hearts\"},"
+                + "{\"value\":\"8\",\"suit\":\"Hearts\"}]"));
+        assertJacksonCompatible(response);
+    }
+
+    @Test
+    void write_escapesUncachedStringsLikeJackson() throws Exception {
+        GameResponse response = new GameResponse(
+                List.of(new HandResponse(List.of(new CardResponse("1\"0", "C\u0153ur\\\n\t\u0001\uD83C\uDCA1")),
+                        -5, false, false, true, false, "PUSH")),
+                List.of(),
+                true, -2147483648, 0, true, 0, false, 1, false, 0, false, false, "SURRENDER\r\b\f\u001F\u007F", 0,
+                Long.MIN_VALUE);
+
+        String expected = "{\"playerHands\":[{\"cards\":[{\"value\":\"1\\\"0\","
+                + "\"suit\":\"C\u0153ur\\\\\\n\\t\\u0001\uD83C\uDCA1\"}],"
+                + "\"bet\":-5,\"isTurn\":false,\"isStanding\":false,\"isBusted\":true,\"hasDoubledDown\":false,"
+                + "\"outcome\":\"PUSH\"}],\"dealerHand\":[],"
+                + "\"gameOver\":true,\"balance\":-2147483648,\"currentBet\":0,\"bettingOpen\":true,\"deckSize\":0,"
+                + "\"dealerHitsOnSoft17\":false,\"numberOfDecks\":1,\"hasDoubledDown\":false,\"insuranceBet\":0,"
+                + "\"insuranceOffered\":false,\"insuranceResolved\":false,"
+                + "\"insuranceOutcome\":\"SURRENDER\\r\\b\\f\\u001F\u007F\",\"maxInsuranceBet\":0,"
+                + "\"revision\":-9223372036854775808}";
+
+        assertEquals(expected, write(response));
+        assertJacksonCompatible(response);
+    }
+
+    @Test
+    void write_writesMissingListsAsNull() throws Exception {
+        GameResponse response = new GameResponse(
+                null, null, false, 0, 0, false, 0, false, 0, false, 0, false, false, null, 0, 0);
+
+        assertTrue(write(response).startsWith("{\"playerHands\":null,\"dealerHand\":null,"));
+        assertJacksonCompatible(response);
+    }
+
+    @Test
+    void converter_onlyWritesGameResponses() {
+        assertTrue(converter.canWrite(GameResponse.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(GameJson.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(ActionsResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(GameResponse.class, MediaType.APPLICATION_XML));
+        assertFalse(converter.canRead(GameResponse.class, MediaType.APPLICATION_JSON));
+    }
+
+    private void assertJacksonCompatible(GameResponse response) throws Exception {
+        assertEquals(objectMapper.writeValueAsString(response), write(response));
+    }
+
+    private void assertEncodesLikeJackson(BlackjackGame game) throws Exception {
+        GameJson json = GameResponseConverter.encode(game);
+        assertEquals(game.getRevision(), json.revision());
+        assertEquals(objectMapper.writeValueAsString(GameResponse.from(game)),
+                new String(json.json(), StandardCharsets.UTF_8));
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(json, MediaType.APPLICATION_JSON, output);
+        assertArrayEquals(json.json(), output.getBodyAsBytes());
+        assertJacksonCompatible(GameResponse.from(game));
+    }
+
+    private JsonNode assertRoundTrip(GameResponse response) throws Exception {
+        assertJacksonCompatible(response);
+        JsonNode tree = objectMapper.readTree(write(response));
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(response)), tree);
+        return tree;
+    }
+
+    private String write(GameResponse response) throws Exception {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+        return output.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    private static CardResponse card(String value, String suit) {
+        return CardResponse.from(new Card(value, suit));
+    }
+}
@@ -0,0 +1,277 @@
+package com.game.blackjack;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSocketHandlerTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private GameUpdates updates;
+    private BlackjackSessionService sessionService;
+    private GameSocketHandler handler;
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        updates = new GameUpdates();
+        ShoePool shoePool = new ShoePool(0, Runnable::run);
+        sessionService = new BlackjackSessionService(ShuffleEngine.DEFAULT_ALGORITHM, shoePool, false,
+                Duration.ofMinutes(30), Optional.empty(), Optional.empty(), Optional.empty(), Optional.of(updates));
+        handler = newHandler(1000);
+        session = new MockHttpSession(null, "player-1");
+    }
+
+    @Test
+    void afterConnectionEstablished_sendsStateAndStreamsChanges() throws Exception {
+        WebSocketSession socket = socket("socket-1", session);
+
+        handler.afterConnectionEstablished(socket);
+        handler.handleMessage(socket, new TextMessage("{\"type\":\"bet\",\"amount\":20}"));
+        sessionService.withGame(session, game -> {
+            game.dealInitialCards();
+            return null;
+        });
+
+        List<Map<String, Object>> messages = sent(socket, 3);
+        assertEquals("state", messages.get(0).get("type"));
+        assertEquals(1000, state(messages.get(0)).get("balance"));
+        assertEquals(20, state(messages.get(1)).get("currentBet"));
+        assertEquals(state(messages.get(0)).get("revision"), state(messages.get(1)).get("baseRevision"));
+        assertEquals(2, ((List<?>) state(messages.get(2)).get("dealerCards")).size());
+        assertEquals(1, handler.getConnectionCount());
+    }
+
+    @Test
+    void handleTextMessage_reportsRejectedActions() throws Exception {
+        WebSocketSession socket = socket("socket-1", session);
+        handler.afterConnectionEstablished(socket);
+
+        handler.handleMessage(socket, new TextMessage("not json"));
+        handler.handleMessage(socket, new TextMessage("{\"type\":\"bet\",\"amount\":-5}"));
+        handler.handleMessage(socket, new TextMessage("{\"type\":\"insurance\"}"));
+
+        List<Map<String, Object>> messages = sent(socket, 4);
+        assertEquals(Map.of("type", "error", "error", "Invalid message"), messages.get(1));
+        assertEquals(Map.of("type", "error", "action", "bet", "error", "Amount cannot be negative"), messages.get(2));
+        assertEquals("Insurance amount is required", messages.get(3).get("error"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        handler.bindTo(registry);
+        assertEquals(3.0, registry.get("blackjack.push.actions").tag("result", "rejected").functionCounter().count());
+        assertEquals(0.0, registry.get("blackjack.push.actions").tag("result", "applied").functionCounter().count());
+        assertEquals(1.0, registry.get("blackjack.push.connections").gauge().value());
+    }
+
+    @Test
+    void handleTextMessage_keepsHttpSessionAlive() throws Exception {
+        MockHttpSession idle = new MockHttpSession(null, "player-1") {
+            @Override
+            public long getLastAccessedTime() {
+                return System.currentTimeMillis() - 120_000;
+            }
+        };
+        idle.setMaxInactiveInterval(60);
+        WebSocketSession socket = socket("socket-1", idle);
+        handler.afterConnectionEstablished(socket);
+
+        handler.handleMessage(socket, new TextMessage("{\"type\":\"bet\",\"amount\":20}"));
+
+        assertTrue(idle.getMaxInactiveInterval() >= 180);
+    }
+
+    @Test
+    void afterConnectionEstablished_closesSocketWithoutHttpSession() throws Exception {
+        WebSocketSession socket = socket("socket-1", null);
+
+        handler.afterConnectionEstablished(socket);
+
+        Mockito.verify(socket).close(CloseStatus.POLICY_VIOLATION);
+        assertEquals(0, handler.getConnectionCount());
+    }
+
+    @Test
+    void sessionDestroyed_closesSocketsOfThatSession() throws Exception {
+        WebSocketSession socket = socket("socket-1", session);
+        WebSocketSession other = socket("socket-2", new MockHttpSession(null, "player-2"));
+        handler.afterConnectionEstablished(socket);
+        handler.afterConnectionEstablished(other);
+
+        handler.sessionDestroyed(new HttpSessionEvent(session));
+        handler.afterConnectionClosed(socket, CloseStatus.SESSION_NOT_RELIABLE);
+
+        Mockito.verify(socket).close(CloseStatus.SESSION_NOT_RELIABLE);
+        Mockito.verify(other, Mockito.never()).close(Mockito.any());
+        assertEquals(1, handler.getConnectionCount());
+        sessionService.resetGame(session, 1, false, game -> game);
+        sent(socket, 1);
+    }
+
+    @Test
+    void handleTextMessage_sendsFromSenderOutsideGameLock() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        GameSocketHandler queued = newHandler(1000, tasks::add);
+        WebSocketSession socket = socket("socket-1", session);
+        queued.afterConnectionEstablished(socket);
+        queued.handleMessage(socket, new TextMessage("{\"type\":\"bet\",\"amount\":20}"));
+
+        Mockito.verify(socket, Mockito.never()).sendMessage(Mockito.any());
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+
+        List<Map<String, Object>> messages = sent(socket, 2);
+        assertEquals(1000, state(messages.get(0)).get("balance"));
+        assertEquals(20, state(messages.get(1)).get("currentBet"));
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void handleTextMessage_closesSocketThatFallsTooFarBehind() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        GameSocketHandler queued = newHandler(1000, tasks::add);
+        WebSocketSession socket = socket("socket-1", session);
+        queued.afterConnectionEstablished(socket);
+        for (int i = 0; i < 64; i++) {
+            queued.handleMessage(socket, new TextMessage("not json"));
+        }
+
+        tasks.remove(0).run();
+
+        Mockito.verify(socket).close(CloseStatus.SESSION_NOT_RELIABLE);
+        Mockito.verify(socket, Mockito.never()).sendMessage(Mockito.any());
+    }
+
+    @Test
+    void handleTextMessage_streamsDealerCardsBeforeState() throws Exception {
+        WebSocketSession socket = socket("socket-1", session);
+        sessionService.withGame(session, game -> {
+            game.replaceDeck(List.of(new Card("K", "Spades"), new Card("2", "Hearts"), new Card("8", "Clubs"),
+                    new Card("3", "Hearts"), new Card("4", "Hearts"), new Card("5", "Hearts"),
+                    new Card("6", "Hearts")));
+            game.placeBet(20);
+            game.dealInitialCards();
+            return null;
+        });
+        handler.afterConnectionEstablished(socket);
+
+        handler.handleMessage(socket, new TextMessage("{\"type\":\"stand\"}"));
+
+        List<Map<String, Object>> messages = sent(socket, 5);
+        assertEquals(Map.of("type", "dealerCard", "card", Map.of("value", "4", "suit", "Hearts")), messages.get(1));
+        assertEquals(Map.of("type", "dealerCard", "card", Map.of("value", "5", "suit", "Hearts")), messages.get(2));
+        assertEquals(Map.of("type", "dealerCard", "card", Map.of("value", "6", "suit", "Hearts")), messages.get(3));
+        assertEquals(3, ((List<?>) state(messages.get(4)).get("dealerCards")).size());
+        assertEquals(true, state(messages.get(4)).get("gameOver"));
+    }
+
+    @Test
+    void beforeHandshake_attachesHttpSession() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        Map<String, Object> attributes = new HashMap<>();
+
+        assertTrue(handler.beforeHandshake(new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(new MockHttpServletResponse()), handler, attributes));
+
+        assertSame(session, attributes.get(GameSocketHandler.HTTP_SESSION_KEY));
+    }
+
+    @Test
+    void handleTextMessage_rejectsMessagesOverRateLimit() throws Exception {
+        GameSocketHandler limited = newHandler(1);
+        WebSocketSession socket = socket("socket-1", session);
+        socket.getAttributes().put(GameSocketHandler.REMOTE_ADDRESS_KEY, "203.0.113.1");
+        limited.afterConnectionEstablished(socket);
+
+        limited.handleMessage(socket, new TextMessage("{\"type\":\"bet\",\"amount\":20}"));
+        limited.handleMessage(socket, new TextMessage("{\"type\":\"bet\",\"amount\":20}"));
+
+        List<Map<String, Object>> messages = sent(socket, 3);
+        assertEquals(20, state(messages.get(1)).get("currentBet"));
+        assertEquals(Map.of("type", "error", "error", GameSocketHandler.RATE_LIMIT_MESSAGE), messages.get(2));
+        assertEquals(20, sessionService.getOrCreateGame(session).getCurrentBet());
+    }
+
+    @Test
+    void beforeHandshake_rejectsClientsOverRateLimit() throws Exception {
+        GameSocketHandler limited = newHandler(1);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.2");
+        request.setSession(session);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, Object> attributes = new HashMap<>();
+
+        assertTrue(limited.beforeHandshake(new ServletServerHttpRequest(request),
+                new ServletServerHttpResponse(new MockHttpServletResponse()), limited, attributes));
+        assertEquals("203.0.113.2", attributes.get(GameSocketHandler.REMOTE_ADDRESS_KEY));
+        ServletServerHttpResponse rejected = new ServletServerHttpResponse(response);
+        assertFalse(limited.beforeHandshake(new ServletServerHttpRequest(request), rejected, limited,
+                new HashMap<>()));
+
+        assertEquals(429, response.getStatus());
+    }
+
+    private GameSocketHandler newHandler(int permitLimit) {
+        return newHandler(permitLimit, Runnable::run);
+    }
+
+    private GameSocketHandler newHandler(int permitLimit, Executor sender) {
+        return new GameSocketHandler(sessionService, updates, objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ApiRateLimitInterceptor(permitLimit, Duration.ofMinutes(1)), sender);
+    }
+
+    private WebSocketSession socket(String id, MockHttpSession httpSession) {
+        WebSocketSession socket = Mockito.mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        if (httpSession != null) {
+            attributes.put(GameSocketHandler.HTTP_SESSION_KEY, httpSession);
+        }
+        Mockito.when(socket.getId()).thenReturn(id);
+        Mockito.when(socket.getAttributes()).thenReturn(attributes);
+        Mockito.when(socket.isOpen()).thenReturn(true);
+        return socket;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> sent(WebSocketSession socket, int count) throws Exception {
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        Mockito.verify(socket, Mockito.times(count)).sendMessage(captor.capture());
+        return captor.getAllValues().stream()
+            .map(message -> {
+                try {
+                    return (Map<String, Object>) objectMapper.readValue(message.getPayload(), Map.class);
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            })
+            .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> state(Map<String, Object> message) {
+        return (Map<String, Object>) message.get("state");
+    }
+}
@@ -0,0 +1,262 @@
+package com.game.blackjack;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpSessionEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpSession;
+
+import com.game.blackjack.store.FileGameStore;
+import com.game.blackjack.store.GameStore;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTieringTests {
+
+    private static final Duration IDLE = Duration.ofMinutes(5);
+
+    @TempDir
+    Path spillDirectory;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final List<GameTiering> tierings = new ArrayList<>();
+
+    @AfterEach
+    void closeTierings() {
+        tierings.forEach(GameTiering::close);
+    }
+
+    @Test
+    void compactIdle_compactsIdleGamesAndRehydratesThemOnAccess() {
+        GameTiering tiering = newTiering(null);
+        BlackjackGame game = startedGame();
+        GameListener listener = (g, action, amount, drawn, drawnCount) -> { };
+        game.setListener(listener);
+        tiering.put("idle", game, new ReentrantLock());
+        tiering.put("active", startedGame(), new ReentrantLock());
+
+        clock.advance(IDLE.minusMinutes(1));
+        tiering.get("active", this::newGame);
+        clock.advance(Duration.ofMinutes(1));
+
+        assertEquals(1, tiering.compactIdle());
+        assertEquals(1, tiering.getHotCount());
+        assertEquals(1, tiering.getColdCount());
+
+        BlackjackGame rehydrated = tiering.get("idle", this::newGame);
+        assertNotSame(game, rehydrated);
+        assertEquals(game.getBalance(), rehydrated.getBalance());
+        assertEquals(game.getDealerHand(), rehydrated.getDealerHand());
+        assertEquals(game.getCurrentHand().getCards(), rehydrated.getCurrentHand().getCards());
+        assertEquals(game.getDeckSize(), rehydrated.getDeckSize());
+        assertSame(listener, rehydrated.getListener());
+        assertSame(rehydrated, tiering.get("idle", this::newGame));
+        assertEquals(2, tiering.getHotCount());
+        assertEquals(0, tiering.getColdCount());
+    }
+
+    @Test
+    void compactIdle_spillsColdGamesToStore() {
+        GameStore spillStore = newSpillStore();
+        GameTiering tiering = newTiering(spillStore);
+        BlackjackGame game = startedGame();
+        tiering.put("player-1", game, new ReentrantLock());
+        clock.advance(IDLE);
+
+        tiering.compactIdle();
+
+        assertEquals(1, tiering.getSpilledCount());
+        assertEquals(0, tiering.getColdCount());
+        assertNotNull(spillStore.load("player-1"));
+        assertEquals(game.getBalance(), tiering.get("player-1", this::newGame).getBalance());
+        assertEquals(0, tiering.getSpilledCount());
+        assertNull(spillStore.load("player-1"));
+    }
+
+    @Test
+    void compactIdle_skipsGamesInUse() throws Exception {
+        GameTiering tiering = newTiering(null);
+        ReentrantLock lock = new ReentrantLock();
+        tiering.put("player-1", startedGame(), lock);
+        clock.advance(IDLE);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> holder = executor.submit(() -> {
+                lock.lock();
+                try {
+                    locked.countDown();
+                    release.await();
+                } finally {
+                    lock.unlock();
+                }
+                return null;
+            });
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+            assertEquals(0, tiering.compactIdle());
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, tiering.compactIdle());
+    }
+
+    @Test
+    void get_dropsGamesWhoseSpilledStateIsGone() {
+        GameStore spillStore = newSpillStore();
+        GameTiering tiering = newTiering(spillStore);
+        tiering.put("player-1", startedGame(), new ReentrantLock());
+        clock.advance(IDLE);
+        tiering.compactIdle();
+        spillStore.delete("player-1");
+
+        assertNull(tiering.get("player-1", this::newGame));
+        assertNull(tiering.get("player-1", this::newGame));
+        assertEquals(0, tiering.getHotCount());
+        assertEquals(0, tiering.getSpilledCount());
+    }
+
+    @Test
+    void sessionDestroyed_forgetsGameAndSpilledState() {
+        GameStore spillStore = newSpillStore();
+        GameTiering tiering = newTiering(spillStore);
+        tiering.put("player-1", startedGame(), new ReentrantLock());
+        tiering.put("player-2", startedGame(), new ReentrantLock());
+        clock.advance(IDLE);
+        tiering.compactIdle();
+
+        tiering.sessionDestroyed(new HttpSessionEvent(new MockHttpSession(null, "player-1")));
+        tiering.sessionDestroyed(new HttpSessionEvent(new MockHttpSession(null, "unknown")));
+
+        assertNull(spillStore.load("player-1"));
+        assertNull(tiering.get("player-1", this::newGame));
+        assertEquals(1, tiering.getSpilledCount());
+    }
+
+    @Test
+    void put_replacesColdGame() {
+        GameTiering tiering = newTiering(null);
+        tiering.put("player-1", startedGame(), new ReentrantLock());
+        clock.advance(IDLE);
+        tiering.compactIdle();
+        BlackjackGame replacement = newGame(500);
+
+        tiering.put("player-1", replacement, new ReentrantLock());
+
+        assertSame(replacement, tiering.get("player-1", this::newGame));
+        assertEquals(1, tiering.getHotCount());
+        assertEquals(0, tiering.getColdCount());
+    }
+
+    @Test
+    void bindTo_registersTierMeters() {
+        GameTiering tiering = newTiering(null);
+        tiering.put("player-1", startedGame(), new ReentrantLock());
+        tiering.put("player-2", startedGame(), new ReentrantLock());
+        clock.advance(IDLE);
+        tiering.compactIdle();
+        tiering.get("player-1", this::newGame);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        tiering.bindTo(registry);
+
+        assertEquals(1.0, registry.get("blackjack.sessions.games").tag("tier", "hot").gauge().value());
+        assertEquals(1.0, registry.get("blackjack.sessions.games").tag("tier", "cold").gauge().value());
+        assertEquals(0.0, registry.get("blackjack.sessions.games").tag("tier", "spilled").gauge().value());
+        assertEquals(2.0, registry.get("blackjack.sessions.compactions").functionCounter().count());
+        assertEquals(1.0, registry.get("blackjack.sessions.rehydrate").functionTimer().count());
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveIdleThreshold() {
+        ExecutorService sweeper = Executors.newSingleThreadExecutor();
+        try {
+            assertThrows(IllegalArgumentException.class, () -> new GameTiering(Duration.ZERO, null, sweeper));
+        } finally {
+            sweeper.shutdownNow();
+        }
+    }
+
+    @Test
+    void sweeper_compactsInBackground() throws Exception {
+        GameTiering tiering = new GameTiering(Duration.ofMillis(20), null, Executors.newSingleThreadExecutor());
+        tierings.add(tiering);
+        tiering.put("player-1", startedGame(), new ReentrantLock());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (tiering.getColdCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(1, tiering.getColdCount());
+    }
+
+    private GameStore newSpillStore() {
+        return new FileGameStore(spillDirectory, Duration.ofMinutes(30), Executors.newSingleThreadExecutor());
+    }
+
+    private GameTiering newTiering(GameStore spillStore) {
+        GameTiering tiering = new GameTiering(IDLE, spillStore, Executors.newSingleThreadExecutor(), clock);
+        tierings.add(tiering);
+        return tiering;
+    }
+
+    private BlackjackGame startedGame() {
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        game.initializeDeck(2);
+        game.placeBet(20);
+        game.dealInitialCards();
+        return game;
+    }
+
+    private BlackjackGame newGame(int balance) {
+        return new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 7), null, balance);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
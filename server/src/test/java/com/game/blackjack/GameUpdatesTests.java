@@ -0,0 +1,97 @@
+package com.game.blackjack;
+
+import org.junit.jupiter.api.Test;
+
+import com.game.blackjack.dto.CardResponse;
+import com.game.blackjack.dto.GameDelta;
+import com.game.blackjack.dto.GameResponse;
+import com.game.blackjack.dto.SocketMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameUpdatesTests {
+
+    private final GameUpdates updates = new GameUpdates();
+
+    @Test
+    void publish_sendsChangesSinceRevisionToSubscribers() {
+        List<SocketMessage> received = new ArrayList<>();
+        updates.subscribe("player-1", received::add);
+        BlackjackGame game = new BlackjackGame();
+        game.enableHistory();
+        game.placeBet(20);
+        long revision = game.getRevision();
+        game.dealInitialCards();
+
+        updates.publish("player-1", game, revision);
+        updates.publish("player-2", game, revision);
+
+        assertEquals(1, received.size());
+        GameDelta delta = assertInstanceOf(GameDelta.class, received.get(0).state());
+        assertEquals(revision, delta.baseRevision());
+        assertEquals(2, delta.dealerCards().size());
+    }
+
+    @Test
+    void publish_streamsEachDealerCardBeforeTheState() {
+        List<SocketMessage> received = new ArrayList<>();
+        updates.subscribe("player-1", received::add);
+        BlackjackGame game = new BlackjackGame();
+        game.enableHistory();
+        game.replaceDeck(List.of(new Card("K", "Spades"), new Card("2", "Hearts"), new Card("8", "Clubs"),
+                new Card("3", "Hearts"), new Card("4", "Hearts"), new Card("5", "Hearts"), new Card("6", "Hearts")));
+        game.placeBet(20);
+        game.dealInitialCards();
+        long revision = game.getRevision();
+        game.stand();
+
+        updates.publish("player-1", game, revision);
+
+        assertEquals(4, received.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("dealerCard", received.get(i).type());
+            assertNull(received.get(i).state());
+        }
+        assertEquals(new CardResponse("4", "Hearts"), received.get(0).card());
+        assertEquals(new CardResponse("5", "Hearts"), received.get(1).card());
+        assertEquals(new CardResponse("6", "Hearts"), received.get(2).card());
+        GameDelta delta = assertInstanceOf(GameDelta.class, received.get(3).state());
+        assertEquals(3, delta.dealerCards().size());
+        assertTrue(delta.gameOver());
+    }
+
+    @Test
+    void publish_sendsFullStateWithoutBaseRevision() {
+        List<SocketMessage> received = new ArrayList<>();
+        updates.subscribe("player-1", received::add);
+        BlackjackGame game = new BlackjackGame();
+
+        updates.publish("player-1", game, null);
+        updates.publish("player-1", game, game.getRevision());
+
+        assertEquals(1, received.size());
+        assertEquals("state", received.get(0).type());
+        assertInstanceOf(GameResponse.class, received.get(0).state());
+    }
+
+    @Test
+    void unsubscribe_stopsUpdates() {
+        List<SocketMessage> first = new ArrayList<>();
+        List<SocketMessage> second = new ArrayList<>();
+        Consumer<SocketMessage> firstSubscriber = first::add;
+        updates.subscribe("player-1", firstSubscriber);
+        updates.subscribe("player-1", second::add);
+        BlackjackGame game = new BlackjackGame();
+
+        updates.unsubscribe("player-1", firstSubscriber);
+        updates.unsubscribe("player-2", firstSubscriber);
+        updates.publish("player-1", game, null);
+
+        assertTrue(first.isEmpty());
+        assertEquals(1, second.size());
+    }
+}
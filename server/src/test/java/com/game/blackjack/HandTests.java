@@ -0,0 +1,70 @@
+package com.game.blackjack;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandTests {
+
+    @Test
+    void value_tracksSoftAndHardTotalsAsCardsAreAdded() {
+        Hand hand = new Hand(10);
+        hand.addCard(new Card("A", "Hearts"));
+        hand.addCard(new Card("6", "Clubs"));
+        assertEquals(17, hand.value());
+        assertTrue(hand.isSoft());
+
+        hand.addCard(new Card("9", "Spades"));
+        assertEquals(16, hand.value());
+        assertFalse(hand.isSoft());
+        assertFalse(hand.isBusted());
+
+        hand.addCard(new Card("K", "Diamonds"));
+        assertEquals(26, hand.value());
+        assertTrue(hand.isBusted());
+    }
+
+    @Test
+    void value_updatesWhenCardsAreRemovedOrReplaced() {
+        Hand hand = new Hand(10);
+        hand.getCards().addAll(Arrays.asList(
+                new Card("8", "Hearts"),
+                new Card("8", "Clubs")));
+        hand.getCards().remove(1);
+        assertEquals(8, hand.value());
+
+        hand.getCards().set(0, new Card("A", "Diamonds"));
+        assertEquals(11, hand.value());
+        assertTrue(hand.isSoft());
+
+        hand.getCards().clear();
+        assertEquals(0, hand.value());
+        assertFalse(hand.isSoft());
+    }
+
+    @Test
+    void isBlackjack_requiresTwoCardTwentyOne() {
+        Hand hand = new Hand(10);
+        hand.addCard(new Card("A", "Spades"));
+        hand.addCard(new Card("Q", "Hearts"));
+        assertTrue(hand.isBlackjack());
+
+        Hand threeCards = new Hand(10);
+        threeCards.getCards().addAll(Arrays.asList(
+                new Card("7", "Spades"),
+                new Card("7", "Hearts"),
+                new Card("7", "Clubs")));
+        assertEquals(21, threeCards.value());
+        assertFalse(threeCards.isBlackjack());
+    }
+
+    @Test
+    void isBusted_honorsExplicitFlag() {
+        Hand hand = new Hand(10);
+        assertFalse(hand.isBusted());
+        hand.setBusted(true);
+        assertTrue(hand.isBusted());
+    }
+}
@@ -0,0 +1,117 @@
+package com.game.blackjack;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import jakarta.servlet.http.Cookie;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerIdInterceptorTests {
+
+    private static final Object HANDLER = new Object();
+    private static final String PLAYER_ID = "0123456789abcdef0123456789abcdef";
+
+    private final PlayerIdInterceptor interceptor =
+        new PlayerIdInterceptor(Duration.ofMinutes(30), false, "Lax");
+
+    @Test
+    void issuesRandomPlayerIdCookieToNewClients() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blackjack/state");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, HANDLER));
+
+        String playerId = playerId(request);
+        assertTrue(PlayerIdInterceptor.isValid(playerId));
+        String cookie = response.getHeader("Set-Cookie");
+        assertTrue(cookie.startsWith("blackjack_player=" + playerId + "; Path=/; Max-Age=1800;"));
+        assertTrue(cookie.contains("; HttpOnly"));
+        assertTrue(cookie.contains("; SameSite=Lax"));
+        assertFalse(cookie.contains("; Secure"));
+    }
+
+    @Test
+    void adoptsValidPlayerCookieWithoutReissuingIt() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blackjack/state");
+        request.setCookies(new Cookie(PlayerIdInterceptor.COOKIE_NAME, PLAYER_ID));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, HANDLER);
+
+        assertEquals(PLAYER_ID, playerId(request));
+        assertNull(response.getHeader("Set-Cookie"));
+    }
+
+    @Test
+    void replacesMalformedPlayerCookie() throws Exception {
+        for (String value : new String[] { "../../etc/passwd", "player-1", PLAYER_ID.toUpperCase(), "" }) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/blackjack/state");
+            request.setCookies(new Cookie(PlayerIdInterceptor.COOKIE_NAME, value));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            interceptor.preHandle(request, response, HANDLER);
+
+            assertNotEquals(value, playerId(request));
+            assertTrue(PlayerIdInterceptor.isValid(playerId(request)));
+            assertTrue(response.getHeader("Set-Cookie").startsWith("blackjack_player=" + playerId(request)));
+        }
+    }
+
+    @Test
+    void keepsSessionPlayerIdWhenAnotherCookieIsPresented() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(PlayerIdInterceptor.SESSION_PLAYER_ID_KEY, PLAYER_ID);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/blackjack/hit");
+        request.setSession(session);
+        request.setSecure(true);
+        request.setCookies(new Cookie(PlayerIdInterceptor.COOKIE_NAME, "fedcba9876543210fedcba9876543210"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, HANDLER);
+
+        assertEquals(PLAYER_ID, playerId(request));
+        assertTrue(response.getHeader("Set-Cookie").contains("; Secure"));
+        assertTrue(response.getHeader("Set-Cookie").startsWith("blackjack_player=" + PLAYER_ID + ";"));
+    }
+
+    @Test
+    void skipsPreflightRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/blackjack/state");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(interceptor.preHandle(request, response, HANDLER));
+
+        assertNull(request.getSession(false));
+        assertNull(response.getHeader("Set-Cookie"));
+    }
+
+    @Test
+    void playerIdAssignsIdToSessionsWithoutOne() {
+        MockHttpSession session = new MockHttpSession();
+
+        String playerId = PlayerIdInterceptor.playerId(session);
+
+        assertTrue(PlayerIdInterceptor.isValid(playerId));
+        assertEquals(playerId, PlayerIdInterceptor.playerId(session));
+        assertNotEquals(playerId, PlayerIdInterceptor.playerId(new MockHttpSession()));
+    }
+
+    @Test
+    void rejectsNonPositiveMaxAge() {
+        assertThrows(IllegalArgumentException.class, () -> new PlayerIdInterceptor(Duration.ZERO, false, "Lax"));
+    }
+
+    private static String playerId(MockHttpServletRequest request) {
+        return (String) request.getSession().getAttribute(PlayerIdInterceptor.SESSION_PLAYER_ID_KEY);
+    }
+}
@@ -0,0 +1,153 @@
+package com.game.blackjack;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShoePoolTests {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void warmUp_fillsPoolForDeckCount() {
+        ShoePool pool = new ShoePool(3, DIRECT);
+        pool.warmUp(6);
+        assertEquals(3, pool.getReadyCount(6));
+        assertEquals(0, pool.getReadyCount(1));
+        assertEquals(3, pool.getRefills());
+    }
+
+    @Test
+    void exchange_countsMissThenServesRefilledShoe() {
+        ShoePool pool = new ShoePool(2, DIRECT);
+        Shoe spent = new Shoe(1, ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM));
+
+        assertNull(pool.exchange(4, spent));
+        assertEquals(1, pool.getMisses());
+        assertEquals(2, pool.getReadyCount(4));
+
+        Shoe ready = pool.exchange(4, spent);
+        assertNotNull(ready);
+        assertShuffledWithItsSeed(ready, 4);
+        assertEquals(1, pool.getHits());
+        assertEquals(2, pool.getReadyCount(4));
+    }
+
+    @Test
+    void exchange_isDisabledWithZeroCapacity() {
+        ShoePool pool = new ShoePool(0, DIRECT);
+        pool.warmUp(1);
+        assertNull(pool.exchange(1, null));
+        assertEquals(0, pool.getMisses());
+        assertEquals(0, pool.getReadyCount(1));
+    }
+
+    @Test
+    void constructor_rejectsNegativeCapacity() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ShoePool(-1, DIRECT));
+    }
+
+    @Test
+    void initializeDeck_takesShoeFromPool() {
+        ShoePool pool = new ShoePool(1, DIRECT);
+        pool.warmUp(8);
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM), pool);
+
+        game.initializeDeck(8);
+
+        assertEquals(416, game.getDeckSize());
+        assertEquals(1, pool.getHits());
+    }
+
+    @Test
+    void initializeDeck_dealsPreShuffledShoeReproducibleFromItsSeed() {
+        ShoePool pool = new ShoePool(1, DIRECT, "SplittableRandom");
+        pool.warmUp(6);
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 11L), pool);
+
+        for (int round = 0; round < 3; round++) {
+            game.initializeDeck(6);
+            Shoe expected = new Shoe(6, ShuffleEngine.create("SplittableRandom", game.getShuffleSeed()));
+            game.dealInitialCards();
+
+            List<Card> player = game.getCurrentHand().getCards();
+            assertEquals(Card.of(expected.deal()), player.get(0));
+            assertEquals(Card.of(expected.deal()), game.getDealerHand().get(0));
+            assertEquals(Card.of(expected.deal()), player.get(1));
+            assertEquals(Card.of(expected.deal()), game.getDealerHand().get(1));
+        }
+        assertEquals(3, pool.getHits());
+    }
+
+    @Test
+    void exchange_neverServesShoesInDeckOrder() {
+        ShoePool pool = new ShoePool(1, DIRECT);
+        pool.warmUp(8);
+
+        Shoe shoe = pool.exchange(8, null);
+        Shoe ordered = new Shoe();
+        ordered.fill(8);
+
+        int matching = 0;
+        while (shoe.remaining() > 0) {
+            if (shoe.deal() == ordered.deal()) {
+                matching++;
+            }
+        }
+        assertTrue(matching < 52);
+    }
+
+    @Test
+    void bindTo_registersPoolMeters() {
+        ShoePool pool = new ShoePool(1, DIRECT);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pool.bindTo(registry);
+        pool.exchange(2, null);
+
+        assertEquals(1.0, registry.get("blackjack.shoe.pool.requests").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("blackjack.shoe.pool.ready").tag("decks", "2").gauge().value());
+        assertEquals(1.0, registry.get("blackjack.shoe.pool.refill").functionTimer().count());
+    }
+
+    @Test
+    void close_stopsExecutorAndIgnoresLaterRefills() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ShoePool pool = new ShoePool(1, executor);
+        pool.close();
+
+        assertTrue(executor.isShutdown());
+        assertDoesNotThrow(() -> pool.warmUp(1));
+    }
+
+    @Test
+    void exchange_recyclesSpentShoes() {
+        List<Runnable> tasks = new ArrayList<>();
+        ShoePool pool = new ShoePool(1, tasks::add);
+        pool.warmUp(1);
+        tasks.remove(0).run();
+
+        Shoe spent = new Shoe(1, ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM));
+        spent.deal();
+        assertNotNull(pool.exchange(1, spent));
+        tasks.remove(0).run();
+
+        assertSame(spent, pool.exchange(1, null));
+        assertEquals(52, spent.remaining());
+    }
+
+    private static void assertShuffledWithItsSeed(Shoe shoe, int numberOfDecks) {
+        Shoe expected = new Shoe(numberOfDecks, ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, shoe.getSeed()));
+        assertEquals(expected.remaining(), shoe.remaining());
+        while (expected.remaining() > 0) {
+            assertEquals(expected.deal(), shoe.deal());
+        }
+    }
+}
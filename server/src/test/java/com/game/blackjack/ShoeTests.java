@@ -0,0 +1,178 @@
+package com.game.blackjack;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShoeTests {
+
+    private static final ShuffleEngine ENGINE = ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM);
+
+    @Test
+    void newShoe_containsEveryCardOncePerDeck() {
+        assertFullDecks(newShoe(3), 3);
+    }
+
+    @Test
+    void refill_restoresFullCompositionAfterReplace() {
+        Shoe shoe = newShoe(2);
+        shoe.replace(List.of(new Card("K", "Hearts")));
+        shoe.refill(2, ENGINE);
+        assertFullDecks(shoe, 2);
+    }
+
+    @Test
+    void refill_switchesDeckCountInPlace() {
+        Shoe shoe = newShoe(8);
+        shoe.deal();
+        shoe.refill(1, ENGINE);
+        assertFullDecks(shoe, 1);
+        shoe.refill(6, ENGINE);
+        assertFullDecks(shoe, 6);
+    }
+
+    @Test
+    void initializeDeck_refillsExistingShoe() {
+        BlackjackGame game = new BlackjackGame();
+        game.placeBet(10);
+        game.dealInitialCards();
+        game.initializeDeck(1);
+        assertEquals(52, game.getDeckSize());
+        game.initializeDeck(4);
+        assertEquals(208, game.getDeckSize());
+    }
+
+    @Test
+    void replace_dealsCardsInOrder() {
+        Shoe shoe = newShoe(1);
+        shoe.replace(List.of(new Card("9", "Hearts"), new Card("A", "Clubs")));
+        assertEquals(2, shoe.remaining());
+        assertEquals(new Card("9", "Hearts").getCode(), shoe.deal());
+        assertEquals(new Card("A", "Clubs").getCode(), shoe.deal());
+        assertEquals(0, shoe.remaining());
+    }
+
+    @Test
+    void replace_growsBeyondOriginalCapacity() {
+        Shoe shoe = newShoe(1);
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            cards.add(new Card("7", "Spades"));
+        }
+        shoe.replace(cards);
+        assertEquals(60, shoe.remaining());
+    }
+
+    @Test
+    void deal_throwsWhenExhausted() {
+        Shoe shoe = newShoe(1);
+        shoe.replace(List.of(new Card("5", "Diamonds")));
+        shoe.deal();
+        IllegalStateException exception = assertThrows(IllegalStateException.class, shoe::deal);
+        assertEquals("Shoe is empty", exception.getMessage());
+    }
+
+    @Test
+    void game_opensFreshDeckWhenExhaustedShoeHasNoDiscards() {
+        BlackjackGame game = new BlackjackGame();
+        game.replaceDeck(List.of(
+                new Card("5", "Diamonds"),
+                new Card("6", "Clubs"),
+                new Card("7", "Hearts")));
+        game.dealInitialCards();
+        assertEquals(48, game.getDeckSize());
+        assertEquals(List.of(new Card("5", "Diamonds"), new Card("7", "Hearts")),
+                game.getPlayerHands().get(0).getCards());
+        assertEquals(new Card("6", "Clubs"), game.getDealerHand().get(0));
+        assertFalse(List.of(new Card("5", "Diamonds"), new Card("6", "Clubs"), new Card("7", "Hearts"))
+                .contains(game.getDealerHand().get(1)));
+    }
+
+    @Test
+    void reshuffleDiscards_leavesLiveCardsOutOfTheShoe() {
+        Shoe shoe = newShoe(1);
+        int[] live = new int[Card.CODE_COUNT];
+        live[0] = 1;
+        live[51] = 1;
+        while (shoe.remaining() > 0) {
+            shoe.deal();
+        }
+
+        shoe.reshuffleDiscards(1, live, ENGINE);
+
+        assertEquals(50, shoe.remaining());
+        Set<Integer> dealt = new HashSet<>();
+        while (shoe.remaining() > 0) {
+            dealt.add(shoe.deal());
+        }
+        assertEquals(50, dealt.size());
+        assertFalse(dealt.contains(0));
+        assertFalse(dealt.contains(51));
+    }
+
+    @Test
+    void isPastCutCard_trueOnceReserveIsReached() {
+        Shoe shoe = newShoe(1);
+        while (shoe.remaining() >= Shoe.CUT_CARD_RESERVE) {
+            assertFalse(shoe.isPastCutCard());
+            shoe.deal();
+        }
+        assertTrue(shoe.isPastCutCard());
+    }
+
+    @Test
+    void game_needsReshuffleFollowsShoe() {
+        BlackjackGame game = new BlackjackGame();
+        assertFalse(game.needsReshuffle());
+        game.replaceDeck(List.of(new Card("2", "Clubs")));
+        assertTrue(game.needsReshuffle());
+    }
+
+    @Test
+    void seededEngines_produceIdenticalShoes() {
+        Shoe first = new Shoe(8, ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42L));
+        Shoe second = new Shoe(8, ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42L));
+        while (first.remaining() > 0) {
+            assertEquals(first.deal(), second.deal());
+        }
+    }
+
+    @Test
+    void seededGames_replayTheSameDeal() {
+        BlackjackGame first = new BlackjackGame(ShuffleEngine.create("SplittableRandom", 7L));
+        BlackjackGame second = new BlackjackGame(ShuffleEngine.create("SplittableRandom", 7L));
+        first.initializeDeck(6);
+        second.initializeDeck(6);
+        first.dealInitialCards();
+        second.dealInitialCards();
+
+        assertEquals(7L, first.getShuffleSeed());
+        assertEquals(first.getDealerHand(), second.getDealerHand());
+        assertEquals(first.getPlayerHands().get(0).getCards(), second.getPlayerHands().get(0).getCards());
+    }
+
+    @Test
+    void create_rejectsUnknownAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> ShuffleEngine.create("NoSuchRandom"));
+    }
+
+    private Shoe newShoe(int numberOfDecks) {
+        return new Shoe(numberOfDecks, ENGINE);
+    }
+
+    private void assertFullDecks(Shoe shoe, int numberOfDecks) {
+        int[] counts = new int[Card.CODE_COUNT];
+        assertEquals(numberOfDecks * Card.CODE_COUNT, shoe.remaining());
+        while (shoe.remaining() > 0) {
+            counts[shoe.deal()]++;
+        }
+        for (int count : counts) {
+            assertEquals(numberOfDecks, count);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.game.blackjack.dto;
+
+import org.junit.jupiter.api.Test;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.GameView;
+import com.game.blackjack.ShuffleEngine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameDeltaTests {
+
+    @Test
+    void between_reportsOnlyChangedState() {
+        BlackjackGame game = newGame();
+        game.placeBet(20);
+        GameView base = GameView.of(game);
+        game.dealInitialCards();
+
+        GameDelta delta = GameDelta.between(base, GameView.of(game));
+
+        assertEquals(game.getRevision(), delta.revision());
+        assertEquals(base.revision(), delta.baseRevision());
+        assertEquals(2, delta.dealerCards().size());
+        assertEquals(1, delta.playerHands().size());
+        GameDelta.HandDelta hand = delta.playerHands().get(0);
+        assertEquals(0, hand.index());
+        assertEquals(2, hand.cards().size());
+        assertNull(hand.addedCards());
+        assertEquals(20, hand.bet());
+        assertEquals(980, delta.balance());
+        assertFalse(delta.bettingOpen());
+        assertEquals(game.getDeckSize(), delta.deckSize());
+        assertNull(delta.currentBet());
+        assertNull(delta.numberOfDecks());
+        assertNull(delta.dealerHitsOnSoft17());
+    }
+
+    @Test
+    void between_appendsCardsDrawnSinceBase() {
+        BlackjackGame game = newGame();
+        game.placeBet(20);
+        game.dealInitialCards();
+        GameView base = GameView.of(game);
+        game.hitPlayer();
+
+        GameDelta delta = GameDelta.between(base, GameView.of(game));
+
+        GameDelta.HandDelta hand = delta.playerHands().get(0);
+        assertNull(hand.cards());
+        assertEquals(1, hand.addedCards().size());
+        assertEquals(CardResponse.from(game.getPlayerHands().get(0).getCards().get(2)), hand.addedCards().get(0));
+        assertNull(hand.bet());
+        assertNull(delta.numberOfDecks());
+    }
+
+    @Test
+    void between_isEmptyWhenNothingChanged() {
+        BlackjackGame game = newGame();
+        game.placeBet(20);
+        game.dealInitialCards();
+
+        GameDelta delta = GameDelta.between(GameView.of(game), GameView.of(game));
+
+        assertNull(delta.dealerCards());
+        assertNull(delta.playerHands());
+        assertNull(delta.balance());
+        assertEquals(delta.baseRevision(), delta.revision());
+    }
+
+    @Test
+    void between_fallsBackWhenRoundWasCleared() {
+        BlackjackGame game = newGame();
+        game.placeBet(20);
+        game.dealInitialCards();
+        GameView dealt = GameView.of(game);
+        game.forfeitRound();
+
+        assertNull(GameDelta.between(dealt, GameView.of(game)));
+
+        game.placeBet(20);
+        game.dealInitialCards();
+        game.stand();
+        GameView finished = GameView.of(game);
+        game.dealInitialCards();
+
+        assertNull(GameDelta.between(finished, GameView.of(game)));
+    }
+
+    private BlackjackGame newGame() {
+        return new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 7));
+    }
+}
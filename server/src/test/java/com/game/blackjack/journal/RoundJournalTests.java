@@ -0,0 +1,290 @@
+package com.game.blackjack.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.ShuffleEngine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundJournalTests {
+
+    @TempDir
+    Path directory;
+
+    private final List<RoundJournal> journals = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() {
+        journals.forEach(RoundJournal::close);
+    }
+
+    @Test
+    void recover_restoresFinishedAndInProgressRounds() {
+        RoundJournal journal = open(1 << 20);
+        journal.recover(this::newGame);
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", game);
+        game.initializeDeck(6);
+        game.setDealerHitsOnSoft17(true);
+        playRounds(game, 30);
+        game.placeBet(40);
+        game.dealInitialCards();
+        journal.close();
+
+        Map<String, BlackjackGame> recovered = open(1 << 20).recover(this::newGame);
+
+        assertEquals(1, recovered.size());
+        assertSameState(game, recovered.get("session-a"));
+    }
+
+    @Test
+    void recover_continuesJournalingRecoveredGames() {
+        RoundJournal journal = open(1 << 20);
+        journal.recover(this::newGame);
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", game);
+        playRounds(game, 5);
+        journal.close();
+
+        RoundJournal reopened = open(1 << 20);
+        BlackjackGame recovered = reopened.recover(this::newGame).get("session-a");
+        playRounds(recovered, 5);
+        BlackjackGame other = newGame(BlackjackGame.DEFAULT_BALANCE);
+        reopened.attach("session-b", other);
+        playRounds(other, 3);
+        reopened.close();
+
+        Map<String, BlackjackGame> games = open(1 << 20).recover(this::newGame);
+
+        assertEquals(2, games.size());
+        assertSameState(recovered, games.get("session-a"));
+        assertSameState(other, games.get("session-b"));
+    }
+
+    @Test
+    void recover_readsAcrossRolledSegments() throws IOException {
+        RoundJournal journal = open(RoundJournal.MIN_SEGMENT_BYTES);
+        journal.recover(this::newGame);
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", game);
+        playRounds(game, 200);
+        journal.close();
+
+        assertTrue(JournalReader.segments(directory).size() > 1);
+        assertSameState(game, open(RoundJournal.MIN_SEGMENT_BYTES).recover(this::newGame).get("session-a"));
+    }
+
+    @Test
+    void recover_stopsAtCorruptedRecord() throws IOException {
+        RoundJournal journal = open(1 << 20);
+        journal.recover(this::newGame);
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", game);
+        game.placeBet(50);
+        long committed = journal.writtenBytes();
+        game.dealInitialCards();
+        journal.close();
+
+        try (FileChannel channel = FileChannel.open(JournalReader.segmentPath(directory, 0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7f }), committed + RoundJournal.RECORD_HEADER + 2);
+        }
+
+        BlackjackGame recovered = open(1 << 20).recover(this::newGame).get("session-a");
+        assertEquals(BlackjackGame.DEFAULT_BALANCE, recovered.getBalance());
+        assertTrue(recovered.isBettingOpen());
+        assertEquals(50, recovered.getCurrentBet());
+        assertTrue(recovered.getDealerHand().isEmpty());
+    }
+
+    @Test
+    void snapshot_recoversFromSnapshotTailAndLaterEvents() throws IOException {
+        RoundJournal journal = open(RoundJournal.MIN_SEGMENT_BYTES);
+        journal.recover(this::newGame);
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        BlackjackGame idle = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", game);
+        journal.attach("session-b", idle);
+        game.initializeDeck(8);
+        idle.initializeDeck(2);
+        playRounds(game, 150);
+        playRounds(idle, 2);
+        int segmentsBefore = JournalReader.segments(directory).size();
+
+        journal.snapshot();
+        playRounds(game, 2);
+        game.placeBet(30);
+        game.dealInitialCards();
+        journal.close();
+
+        assertTrue(segmentsBefore > 1);
+        assertEquals(1, JournalReader.segments(directory).size());
+        assertEquals(1, SnapshotFile.snapshots(directory).size());
+        Map<String, BlackjackGame> recovered = open(RoundJournal.MIN_SEGMENT_BYTES).recover(this::newGame);
+        assertSameState(game, recovered.get("session-a"));
+        assertSameState(idle, recovered.get("session-b"));
+        assertEquals(game.getDeckSize(), recovered.get("session-a").getDeckSize());
+        assertEquals(idle.getDeckSize(), recovered.get("session-b").getDeckSize());
+    }
+
+    @Test
+    void close_snapshotsWhenSnapshotsAreEnabled() throws IOException {
+        RoundJournal journal = open(1 << 20, Duration.ofHours(1));
+        journal.recover(this::newGame);
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", game);
+        game.initializeDeck(4);
+        playRounds(game, 10);
+        journal.close();
+
+        assertEquals(1, SnapshotFile.snapshots(directory).size());
+        BlackjackGame recovered = open(1 << 20).recover(this::newGame).get("session-a");
+        assertSameState(game, recovered);
+        assertArrayEquals(game.getUnseenPointCounts(), recovered.getUnseenPointCounts());
+    }
+
+    @Test
+    void detach_dropsStreamFromLaterSnapshots() throws IOException {
+        RoundJournal journal = open(1 << 20);
+        journal.recover(this::newGame);
+        BlackjackGame dropped = newGame(BlackjackGame.DEFAULT_BALANCE);
+        BlackjackGame kept = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", dropped);
+        journal.attach("session-b", kept);
+        playRounds(dropped, 3);
+        playRounds(kept, 3);
+
+        journal.detach("session-a");
+        journal.detach("unknown");
+        playRounds(dropped, 3);
+        journal.snapshot();
+        journal.close();
+
+        List<String> keys = new ArrayList<>();
+        SnapshotFile.readLatest(directory, (stream, key, lastPosition, snapshot, tail) -> keys.add(key));
+        assertEquals(List.of("session-b"), keys);
+        Map<String, BlackjackGame> recovered = open(1 << 20).recover(this::newGame);
+        assertEquals(Set.of("session-b"), recovered.keySet());
+        assertSameState(kept, recovered.get("session-b"));
+    }
+
+    @Test
+    void recover_ignoresCorruptSnapshot() throws IOException {
+        RoundJournal journal = open(1 << 20);
+        journal.recover(this::newGame);
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", game);
+        playRounds(game, 5);
+        journal.snapshot();
+        playRounds(game, 5);
+        journal.close();
+        Files.write(SnapshotFile.path(directory, Long.MAX_VALUE), new byte[64]);
+
+        assertSameState(game, open(1 << 20).recover(this::newGame).get("session-a"));
+    }
+
+    @Test
+    void snapshot_requiresRecoveryFirst() {
+        RoundJournal journal = open(1 << 20);
+
+        assertThrows(IllegalStateException.class, journal::snapshot);
+    }
+
+    @Test
+    void attach_requiresRecoveryFirst() {
+        RoundJournal journal = open(1 << 20);
+
+        assertThrows(IllegalStateException.class,
+                () -> journal.attach("session-a", newGame(BlackjackGame.DEFAULT_BALANCE)));
+    }
+
+    @Test
+    void constructor_rejectsTinySegments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RoundJournal(directory, 1024, Duration.ofMillis(1), Duration.ZERO,
+                        Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor()));
+    }
+
+    @Test
+    void flush_catchesUpWithWrittenBytes() {
+        RoundJournal journal = open(1 << 20);
+        journal.recover(this::newGame);
+        BlackjackGame game = newGame(BlackjackGame.DEFAULT_BALANCE);
+        journal.attach("session-a", game);
+        playRounds(game, 3);
+
+        journal.flush();
+
+        assertTrue(journal.writtenBytes() > 0);
+        assertEquals(journal.writtenBytes(), journal.flushedBytes());
+    }
+
+    private RoundJournal open(int segmentBytes) {
+        return open(segmentBytes, Duration.ZERO);
+    }
+
+    private RoundJournal open(int segmentBytes, Duration snapshotInterval) {
+        RoundJournal journal = new RoundJournal(directory, segmentBytes, Duration.ofMillis(1), snapshotInterval,
+                Executors.newSingleThreadExecutor(), Executors.newSingleThreadExecutor());
+        journals.add(journal);
+        return journal;
+    }
+
+    private BlackjackGame newGame(int balance) {
+        return new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 42), null, balance);
+    }
+
+    private static void playRounds(BlackjackGame game, int rounds) {
+        for (int round = 0; round < rounds && game.getBalance() >= 10; round++) {
+            if (game.needsReshuffle()) {
+                game.initializeDeck(game.getNumberOfDecks());
+            }
+            game.placeBet(10);
+            game.dealInitialCards();
+            if (!game.isInsuranceResolved()) {
+                game.resolveInsurance(0);
+            }
+            while (!game.isGameOver()) {
+                if (game.canSplit()) {
+                    game.split();
+                } else if (game.getCurrentHand().value() == 11 && game.canDoubleDown()) {
+                    game.doubleDown();
+                } else if (game.getCurrentHand().value() < 17) {
+                    game.hitPlayer();
+                } else {
+                    game.stand();
+                }
+            }
+        }
+    }
+
+    private static void assertSameState(BlackjackGame expected, BlackjackGame actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getBalance(), actual.getBalance());
+        assertEquals(expected.getCurrentBet(), actual.getCurrentBet());
+        assertEquals(expected.getNumberOfDecks(), actual.getNumberOfDecks());
+        assertEquals(expected.isDealerHitsOnSoft17(), actual.isDealerHitsOnSoft17());
+        assertEquals(expected.isGameOver(), actual.isGameOver());
+        assertEquals(expected.isBettingOpen(), actual.isBettingOpen());
+        assertEquals(expected.getDealerHand(), actual.getDealerHand());
+        assertEquals(expected.getPlayerHands().size(), actual.getPlayerHands().size());
+        for (int i = 0; i < expected.getPlayerHands().size(); i++) {
+            assertEquals(expected.getPlayerHands().get(i).getCards(), actual.getPlayerHands().get(i).getCards());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.game.blackjack.odds;
+
+import org.junit.jupiter.api.Test;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealerProbabilityCalculatorTests {
+
+    private static final int ACE = 0;
+    private static final int SIX = 5;
+    private static final int SEVEN = 6;
+    private static final int TEN = 9;
+
+    private final DealerProbabilityCalculator calculator = new DealerProbabilityCalculator(16);
+
+    @Test
+    void outcomes_sumToOneForFullShoe() {
+        for (int upcard = 0; upcard < Card.POINT_VALUES; upcard++) {
+            for (boolean hitsSoft17 : new boolean[] { false, true }) {
+                DealerOutcomes outcomes = calculator.outcomes(upcard, shoeWithout(6, upcard), hitsSoft17);
+                double total = outcomes.total17() + outcomes.total18() + outcomes.total19()
+                        + outcomes.total20() + outcomes.total21() + outcomes.blackjack() + outcomes.bust();
+                assertEquals(1.0, total, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void outcomes_matchKnownSixDeckValues() {
+        DealerOutcomes six = calculator.outcomes(SIX, shoeWithout(6, SIX), false);
+        assertEquals(0.42, six.bust(), 0.01);
+        assertEquals(0.0, six.blackjack());
+
+        DealerOutcomes ace = calculator.outcomes(ACE, shoeWithout(6, ACE), false);
+        assertEquals(96.0 / 311, ace.blackjack(), 1e-12);
+    }
+
+    @Test
+    void outcomes_dealerHitsSoft17MovesWeightOffSeventeen() {
+        DealerOutcomes stands = calculator.outcomes(ACE, shoeWithout(6, ACE), false);
+        DealerOutcomes hits = calculator.outcomes(ACE, shoeWithout(6, ACE), true);
+
+        assertTrue(hits.total17() < stands.total17());
+        assertTrue(hits.bust() > stands.bust());
+        assertEquals(stands.blackjack(), hits.blackjack(), 1e-12);
+    }
+
+    @Test
+    void outcomes_followForcedDraws() {
+        int[] sevens = new int[Card.POINT_VALUES];
+        sevens[SEVEN] = 4;
+        DealerOutcomes outcomes = calculator.outcomes(TEN, sevens, false);
+        assertEquals(1.0, outcomes.total17());
+
+        int[] tens = new int[Card.POINT_VALUES];
+        tens[TEN] = 3;
+        assertEquals(1.0, calculator.outcomes(SIX, tens, true).bust());
+    }
+
+    @Test
+    void outcomes_areCachedByComposition() {
+        int[] shoe = shoeWithout(2, TEN);
+        DealerOutcomes first = calculator.outcomes(TEN, shoe, false);
+        shoe[SEVEN]++;
+        DealerOutcomes changed = calculator.outcomes(TEN, shoe, false);
+        shoe[SEVEN]--;
+
+        assertNotEquals(first, changed);
+        assertSame(calculator.distribution(TEN, shoe, false), calculator.distribution(TEN, shoe, false));
+        assertEquals(first, calculator.outcomes(TEN, shoe, false));
+    }
+
+    @Test
+    void outcomes_forGameUseUpcardAndUnseenCards() {
+        BlackjackGame game = new BlackjackGame();
+        assertThrows(IllegalStateException.class, () -> calculator.outcomes(game));
+
+        game.placeBet(10);
+        game.dealInitialCards();
+
+        int upcard = Card.pointIndex(game.getDealerUpcard().getCode());
+        assertEquals(calculator.outcomes(upcard, game.getUnseenPointCounts(), false), calculator.outcomes(game));
+    }
+
+    @Test
+    void validation_rejectsBadInput() {
+        assertThrows(IllegalArgumentException.class, () -> new DealerProbabilityCalculator(0));
+        assertThrows(IllegalArgumentException.class, () -> calculator.outcomes(10, shoeWithout(1, TEN), false));
+        assertThrows(IllegalArgumentException.class, () -> calculator.outcomes(TEN, new int[3], false));
+        int[] negative = new int[Card.POINT_VALUES];
+        negative[ACE] = -1;
+        assertThrows(IllegalArgumentException.class, () -> calculator.outcomes(TEN, negative, false));
+        int[] tooMany = new int[Card.POINT_VALUES];
+        tooMany[ACE] = 64;
+        assertThrows(IllegalArgumentException.class, () -> calculator.outcomes(TEN, tooMany, false));
+    }
+
+    static int[] shoeWithout(int decks, int... dealt) {
+        int[] counts = new int[Card.POINT_VALUES];
+        Arrays.fill(counts, 4 * decks);
+        counts[TEN] = 16 * decks;
+        for (int index : dealt) {
+            counts[index]--;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,94 @@
+package com.game.blackjack.odds;
+
+import org.junit.jupiter.api.Test;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+import com.game.blackjack.ShuffleEngine;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectedValueCalculatorTests {
+
+    private final ExpectedValueCalculator calculator =
+            new ExpectedValueCalculator(new DealerProbabilityCalculator(256), ForkJoinPool.commonPool());
+
+    @Test
+    void values_requireActiveRound() {
+        assertThrows(IllegalStateException.class, () -> calculator.values(new BlackjackGame()));
+    }
+
+    @Test
+    void values_reportAvailableActionsForDealtHand() {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 3));
+        game.initializeDeck(6);
+        game.placeBet(10);
+        game.dealInitialCards();
+        if (!game.isInsuranceResolved()) {
+            game.resolveInsurance(0);
+        }
+
+        ActionValues values = calculator.values(game);
+
+        assertTrue(values.stand() >= -1 && values.stand() <= 1);
+        assertTrue(values.hit() >= -1 && values.hit() <= 1);
+        assertNotNull(values.doubleDown());
+        assertEquals(game.canSplit(), values.split() != null);
+        assertNull(values.insurance());
+    }
+
+    @Test
+    void values_splitEightsAndAces() {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 17), null, 1_000_000);
+        game.initializeDeck(8);
+        int found = 0;
+        for (int round = 0; round < 20_000 && found < 3; round++) {
+            if (game.needsReshuffle()) {
+                game.initializeDeck(8);
+            }
+            game.placeBet(10);
+            game.dealInitialCards();
+            if (!game.isInsuranceResolved()) {
+                game.resolveInsurance(0);
+            }
+            if (!game.isGameOver() && game.canSplit()) {
+                String rank = game.getCurrentHand().getCards().get(0).getValue();
+                if (rank.equals("8") || rank.equals("A")) {
+                    ActionValues values = calculator.values(game);
+                    assertTrue(values.split() > values.stand(), rank + " split " + values.split() + " stand " + values.stand());
+                    found++;
+                }
+            }
+            while (!game.isGameOver()) {
+                game.stand();
+            }
+        }
+        assertEquals(3, found);
+    }
+
+    @Test
+    void insurance_valuesTenDensity() {
+        int[] unseen = new int[Card.POINT_VALUES];
+        unseen[0] = 2;
+        unseen[9] = 1;
+        assertEquals(0.0, ExpectedValueCalculator.insurance(unseen), 1e-12);
+        unseen[9] = 2;
+        assertEquals(0.5, ExpectedValueCalculator.insurance(unseen), 1e-12);
+        assertEquals(0.0, ExpectedValueCalculator.insurance(new int[Card.POINT_VALUES]));
+    }
+
+    @Test
+    void standValues_conditionOnNoDealerBlackjack() {
+        DealerOutcomes outcomes = new DealerOutcomes(0.1, 0.1, 0.1, 0.1, 0.1, 0.3, 0.2);
+
+        double[] open = outcomes.standValues(false);
+        double[] ruledOut = outcomes.standValues(true);
+
+        assertEquals(0.2 - 0.8, open[16], 1e-12);
+        assertEquals(0.2 + 0.4, open[21], 1e-12);
+        assertEquals((0.2 + 0.4) / 0.7, ruledOut[21], 1e-12);
+        assertEquals(0.0, new DealerOutcomes(0, 0, 0, 0, 0, 1, 0).standValues(true)[20]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.game.blackjack.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import com.game.blackjack.ShuffleEngine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTests {
+
+    private static final long ROUNDS = 50_000;
+
+    private final BatchRunner runner = new BatchRunner(ForkJoinPool.commonPool(), ShuffleEngine.DEFAULT_ALGORITHM);
+
+    @Test
+    void run_coversEveryCellOfMatrix() {
+        RuleMatrix matrix = new RuleMatrix(
+                List.of(1, 6),
+                List.of(false, true),
+                List.of(InsurancePolicy.NEVER, InsurancePolicy.ALWAYS),
+                Map.of("stand-17", new HitBelowStrategy(17)));
+
+        List<BatchResult> results = runner.run(matrix, ROUNDS, 10, 21);
+
+        assertEquals(8, results.size());
+        assertEquals(matrix.cells(), results.stream().map(BatchResult::cell).toList());
+        for (BatchResult result : results) {
+            assertEquals(ROUNDS, result.result().rounds());
+        }
+        assertEquals(new BatchCell(1, false, InsurancePolicy.NEVER, "stand-17"), results.get(0).cell());
+        assertTrue(results.get(1).result().expectedValue() < results.get(0).result().expectedValue());
+    }
+
+    @Test
+    void run_matchesSingleSimulationForSameSeed() {
+        PlayerStrategy strategy = new HitBelowStrategy(16);
+        RuleMatrix matrix = new RuleMatrix(List.of(2), List.of(true), List.of(InsurancePolicy.STRATEGY),
+                Map.of("stand-16", strategy));
+
+        BatchResult batch = runner.run(matrix, ROUNDS, 10, 4).get(0);
+        SimulationResult single = new MonteCarloSimulator(new ForkJoinPool(2), ShuffleEngine.DEFAULT_ALGORITHM)
+                .run(new SimulationConfig(2, true, ROUNDS, 10, 4), strategy);
+
+        assertEquals(single, batch.result());
+    }
+
+    @Test
+    void table_writesHeaderAndOneRowPerCell() {
+        BatchCell cell = new BatchCell(6, true, InsurancePolicy.NEVER, "basic");
+        SimulationResult result = new SimulationResult(100, -0.005, 1.25, 0.125);
+
+        String[] lines = BatchRunner.table(List.of(new BatchResult(cell, result))).split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("decks,dealer_hits_soft17,insurance,strategy,rounds,ev"));
+        assertTrue(lines[1].startsWith("6,true,NEVER,basic,100,-0.005000,1.118034,"), lines[1]);
+        assertTrue(lines[1].endsWith(",0.125000"), lines[1]);
+    }
+
+    @Test
+    void matrix_rejectsEmptyDimension() {
+        assertThrows(IllegalArgumentException.class, () -> new RuleMatrix(List.of(), List.of(false),
+                List.of(InsurancePolicy.NEVER), Map.of("stand-17", new HitBelowStrategy(17))));
+        assertThrows(IllegalArgumentException.class, () -> new RuleMatrix(List.of(1), List.of(false),
+                List.of(InsurancePolicy.NEVER), Map.of()));
+    }
+}
@@ -0,0 +1,144 @@
+package com.game.blackjack.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+import com.game.blackjack.Hand;
+import com.game.blackjack.ShuffleEngine;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSimulatorTests {
+
+    private static final long ROUNDS = 3L * MonteCarloSimulator.CHUNK_ROUNDS + 123;
+
+    @Test
+    void run_isReproducibleForSeedRegardlessOfParallelism() {
+        SimulationConfig config = new SimulationConfig(6, true, ROUNDS, 10, 7);
+        PlayerStrategy strategy = new HitBelowStrategy(17);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool wide = new ForkJoinPool(4);
+        try {
+            SimulationResult first = new MonteCarloSimulator(single, ShuffleEngine.DEFAULT_ALGORITHM).run(config, strategy);
+            SimulationResult second = new MonteCarloSimulator(wide, ShuffleEngine.DEFAULT_ALGORITHM).run(config, strategy);
+
+            assertEquals(ROUNDS, first.rounds());
+            assertEquals(first, second);
+        } finally {
+            single.shutdown();
+            wide.shutdown();
+        }
+    }
+
+    @Test
+    void run_reportsHouseEdgeWithConfidenceInterval() {
+        SimulationResult result = new MonteCarloSimulator(ForkJoinPool.commonPool(), ShuffleEngine.DEFAULT_ALGORITHM)
+                .run(new SimulationConfig(1, false, ROUNDS, 10, 11), new HitBelowStrategy(17));
+
+        assertTrue(result.houseEdge() > 0.02 && result.houseEdge() < 0.15, "house edge " + result.houseEdge());
+        assertTrue(result.variance() > 0.5 && result.variance() < 2, "variance " + result.variance());
+        assertEquals(Math.sqrt(result.variance()), result.standardDeviation(), 1e-12);
+        assertTrue(result.confidenceLow() < result.expectedValue());
+        assertTrue(result.confidenceHigh() > result.expectedValue());
+        assertEquals(result.confidenceHigh() - result.expectedValue(), 1.96 * result.standardError(), 1e-4);
+    }
+
+    @Test
+    void run_exercisesDoubleSplitAndInsurance() {
+        PlayerStrategy aggressive = new PlayerStrategy() {
+            @Override
+            public PlayerAction decide(BlackjackGame game, Hand hand, Card dealerUpcard) {
+                if (hand.value() >= 17) {
+                    return PlayerAction.STAND;
+                }
+                return hand.getCards().size() == 2 && hand.getCards().get(0).getValue().equals(hand.getCards().get(1).getValue())
+                        ? PlayerAction.SPLIT
+                        : PlayerAction.DOUBLE;
+            }
+
+            @Override
+            public boolean takeInsurance(BlackjackGame game) {
+                return true;
+            }
+        };
+
+        SimulationResult result = new MonteCarloSimulator(ForkJoinPool.commonPool(), ShuffleEngine.DEFAULT_ALGORITHM)
+                .run(new SimulationConfig(2, false, 20_000, 10, 3), aggressive);
+
+        assertEquals(20_000, result.rounds());
+        assertTrue(result.variance() > 1);
+    }
+
+    @Test
+    void playRound_returnsNetChangeAndFallsBackToHit() {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 5), null, 100);
+        int before = game.getBalance();
+
+        int net = MonteCarloSimulator.playRound(game, (g, hand, upcard) ->
+                hand.getCards().size() > 2 ? PlayerAction.STAND : PlayerAction.SPLIT, 10);
+
+        assertEquals(game.getBalance() - before, net);
+        assertTrue(game.isBettingOpen());
+    }
+
+    @Test
+    void config_rejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(0, false, 1, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(9, false, 1, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, false, 0, 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, false, 1, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, false, 1, 10, 0, 5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationConfig(1, false, 1, 10, 0, 1000, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SimulationConfig(1, false, 1, 10, 0, 1000, MonteCarloSimulator.CHUNK_ROUNDS + 1));
+    }
+
+    @Test
+    void run_reportsRiskOfRuinForBankroll() {
+        MonteCarloSimulator simulator = new MonteCarloSimulator(ForkJoinPool.commonPool(), ShuffleEngine.DEFAULT_ALGORITHM);
+        PlayerStrategy strategy = new HitBelowStrategy(17);
+
+        SimulationResult thin = simulator.run(new SimulationConfig(6, false, 100_000, 10, 9, 50, 1000), strategy);
+        SimulationResult deep = simulator.run(new SimulationConfig(6, false, 100_000, 10, 9, 1000, 1000), strategy);
+        SimulationResult brief = simulator.run(new SimulationConfig(6, false, 100_000, 10, 9, 1000, 10), strategy);
+
+        assertTrue(thin.riskOfRuin() > 0.9, "thin " + thin.riskOfRuin());
+        assertTrue(deep.riskOfRuin() > 0 && deep.riskOfRuin() < thin.riskOfRuin(), "deep " + deep.riskOfRuin());
+        assertEquals(0.0, brief.riskOfRuin());
+        assertEquals(thin.expectedValue(), deep.expectedValue());
+    }
+
+    @Test
+    void run_pinsRiskOfRuinForSeedAcrossChunkBoundaries() {
+        SimulationConfig config = new SimulationConfig(6, false, 200_500, 10, 9, 100, 100);
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            SimulationResult result = new MonteCarloSimulator(single, ShuffleEngine.DEFAULT_ALGORITHM)
+                    .run(config, new HitBelowStrategy(17));
+
+            assertEquals(65_500, config.chunkRounds());
+            assertEquals(1206.0 / 2005, result.riskOfRuin());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void chunkGame_reusesWorkerGameWithFreshShoe() {
+        MonteCarloSimulator simulator = new MonteCarloSimulator(ForkJoinPool.commonPool(), ShuffleEngine.DEFAULT_ALGORITHM);
+        SimulationConfig config = new SimulationConfig(2, true, 10, 10, 1);
+
+        BlackjackGame first = simulator.chunkGame(config, 0);
+        MonteCarloSimulator.playRound(first, new HitBelowStrategy(17), 10);
+        BlackjackGame second = simulator.chunkGame(config, 0);
+
+        assertSame(first, second);
+        assertEquals(2 * 52, second.getDeckSize());
+        assertEquals(2, second.getNumberOfDecks());
+        assertTrue(second.isDealerHitsOnSoft17());
+    }
+}
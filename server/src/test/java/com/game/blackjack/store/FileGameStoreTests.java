@@ -0,0 +1,204 @@
+package com.game.blackjack.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileGameStoreTests {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    @TempDir
+    Path directory;
+
+    private final List<FileGameStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void closeStores() {
+        stores.forEach(FileGameStore::close);
+    }
+
+    @Test
+    void saveLoadAndDelete_roundTripState() {
+        FileGameStore store = newStore(TTL);
+
+        assertNull(store.load("abc/../x"));
+        store.save("abc/../x", new byte[] { 1, 2, 3 });
+        assertArrayEquals(new byte[] { 1, 2, 3 }, store.load("abc/../x"));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, newStore(TTL).load("abc/../x"));
+        store.delete("abc/../x");
+        assertNull(store.load("abc/../x"));
+    }
+
+    @Test
+    void save_replacesExistingStateWithoutLeavingTemporaryFiles() throws IOException {
+        FileGameStore store = newStore(TTL);
+
+        store.save("abc", new byte[] { 1 });
+        store.save("abc", new byte[] { 2, 3 });
+
+        assertArrayEquals(new byte[] { 2, 3 }, store.load("abc"));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void replace_writesOnlyOverExpectedState() throws IOException {
+        FileGameStore store = newStore(TTL);
+        FileGameStore otherNode = newStore(TTL);
+
+        assertTrue(store.replace("abc", null, new byte[] { 1 }));
+        assertFalse(otherNode.replace("abc", null, new byte[] { 2 }));
+        assertFalse(otherNode.replace("abc", new byte[] { 9 }, new byte[] { 2 }));
+        assertTrue(otherNode.replace("abc", new byte[] { 1 }, new byte[] { 2 }));
+        assertFalse(store.replace("abc", new byte[] { 1 }, new byte[] { 3 }));
+
+        assertArrayEquals(new byte[] { 2 }, store.load("abc"));
+        assertEquals(1, fileCount());
+    }
+
+    @Test
+    void replace_waitsForHeldLockButBreaksStaleOne() throws IOException {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        FileGameStore store = newStore(TTL, clock);
+        store.save("abc", new byte[] { 1 });
+        Path lock;
+        try (var files = Files.list(directory)) {
+            Path file = files.findFirst().orElseThrow();
+            lock = Files.createFile(file.resolveSibling(file.getFileName() + ".lock"));
+        }
+        Files.setLastModifiedTime(lock, FileTime.from(clock.instant()));
+
+        assertFalse(store.replace("abc", new byte[] { 1 }, new byte[] { 2 }));
+        clock.advance(Duration.ofMinutes(1));
+        assertTrue(store.replace("abc", new byte[] { 1 }, new byte[] { 2 }));
+
+        assertArrayEquals(new byte[] { 2 }, store.load("abc"));
+        assertFalse(Files.exists(lock));
+    }
+
+    @Test
+    void load_expiresIdleStateAndRefreshesActiveState() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        FileGameStore store = newStore(TTL, clock);
+        store.save("active", new byte[] { 1 });
+        store.save("idle", new byte[] { 2 });
+
+        clock.advance(Duration.ofMinutes(20));
+        assertNotNull(store.load("active"));
+        clock.advance(Duration.ofMinutes(20));
+
+        assertNotNull(store.load("active"));
+        assertNull(store.load("idle"));
+    }
+
+    @Test
+    void save_leavesExpiredStateToTheSweeper() throws IOException {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        FileGameStore store = newStore(TTL, clock);
+        store.save("idle", new byte[] { 1 });
+        clock.advance(TTL);
+
+        for (int i = 0; i < 2048; i++) {
+            store.save("active", new byte[] { 2 });
+        }
+        assertEquals(2, fileCount());
+
+        store.sweepExpired();
+
+        assertEquals(1, fileCount());
+        assertNotNull(store.load("active"));
+    }
+
+    @Test
+    void sweepExpired_removesStaleTemporaryAndLockFiles() throws IOException {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        FileGameStore store = newStore(TTL, clock);
+        store.save("abc", new byte[] { 1 });
+        Path staleTemporary = Files.createFile(directory.resolve("game-1.tmp"));
+        Path staleLock = Files.createFile(directory.resolve("crashed.bin.lock"));
+        Path other = Files.createFile(directory.resolve("notes.tmp"));
+        Files.setLastModifiedTime(staleTemporary, FileTime.from(clock.instant()));
+        Files.setLastModifiedTime(staleLock, FileTime.from(clock.instant()));
+        Files.setLastModifiedTime(other, FileTime.from(clock.instant()));
+        clock.advance(Duration.ofMinutes(1));
+        Path freshTemporary = Files.createFile(directory.resolve("game-2.tmp"));
+        Files.setLastModifiedTime(freshTemporary, FileTime.from(clock.instant()));
+
+        store.sweepExpired();
+
+        assertFalse(Files.exists(staleTemporary));
+        assertFalse(Files.exists(staleLock));
+        assertTrue(Files.exists(freshTemporary));
+        assertTrue(Files.exists(other));
+        assertArrayEquals(new byte[] { 1 }, store.load("abc"));
+    }
+
+    @Test
+    void sweepExpired_countsFailuresInsteadOfThrowing() throws IOException {
+        Path games = directory.resolve("games");
+        FileGameStore store = new FileGameStore(games, TTL, Executors.newSingleThreadExecutor());
+        stores.add(store);
+        Files.delete(games);
+
+        store.sweepExpired();
+
+        assertEquals(1, store.getSweepFailures());
+    }
+
+    @Test
+    void sweeper_removesExpiredStateInBackground() throws Exception {
+        FileGameStore store = newStore(Duration.ofMillis(20), Clock.systemUTC());
+        store.save("idle", new byte[] { 1 });
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (fileCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(0, fileCount());
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveTtl() {
+        assertThrows(IllegalArgumentException.class, () -> newStore(Duration.ZERO));
+    }
+
+    @Test
+    void constructor_wrapsUnusableDirectory() throws IOException {
+        Path file = Files.createFile(directory.resolve("not-a-directory"));
+
+        assertThrows(GameStoreException.class, () -> new FileGameStore(file, TTL, Executors.newSingleThreadExecutor()));
+    }
+
+    private FileGameStore newStore(Duration ttl) {
+        return newStore(ttl, Clock.systemUTC());
+    }
+
+    private FileGameStore newStore(Duration ttl, Clock clock) {
+        FileGameStore store = new FileGameStore(directory, ttl, Executors.newSingleThreadExecutor(), clock);
+        stores.add(store);
+        return store;
+    }
+
+    private long fileCount() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.game.blackjack.store;
+
+import org.junit.jupiter.api.Test;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.ShuffleEngine;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameCodecTests {
+
+    @Test
+    void encode_roundTripsGameAndShoe() {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 7));
+        game.initializeDeck(6);
+        game.setDealerHitsOnSoft17(true);
+        game.placeBet(50);
+        game.dealInitialCards();
+
+        byte[] state = GameCodec.encode(game);
+        BlackjackGame decoded = new BlackjackGame();
+        GameCodec.decode(state, decoded);
+
+        assertArrayEquals(state, GameCodec.encode(decoded));
+        assertEquals(game.getBalance(), decoded.getBalance());
+        assertEquals(game.getDealerHand(), decoded.getDealerHand());
+        assertEquals(game.getCurrentHand().getCards(), decoded.getCurrentHand().getCards());
+        assertEquals(6 * 52 - 4, decoded.getDeckSize());
+    }
+
+    @Test
+    void decode_restoresGameWithoutShufflingAnotherShoe() {
+        BlackjackGame game = new BlackjackGame(ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 7));
+        game.initializeDeck(2);
+        game.placeBet(20);
+        game.dealInitialCards();
+        byte[] state = GameCodec.encode(game);
+        ShuffleEngine delegate = ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM, 11);
+        AtomicInteger shuffles = new AtomicInteger();
+        ShuffleEngine counting = new ShuffleEngine() {
+            @Override
+            public void shuffle(byte[] cards, int length) {
+                shuffles.incrementAndGet();
+                delegate.shuffle(cards, length);
+            }
+
+            @Override
+            public long getSeed() {
+                return delegate.getSeed();
+            }
+        };
+
+        BlackjackGame decoded = GameCodec.decode(state, counting, null);
+
+        assertArrayEquals(state, GameCodec.encode(decoded));
+        assertEquals(0, shuffles.get());
+        decoded.initializeDeck(2);
+        assertEquals(1, shuffles.get());
+        assertEquals(104, decoded.getDeckSize());
+    }
+
+    @Test
+    void encode_staysCompact() {
+        BlackjackGame game = new BlackjackGame();
+        game.placeBet(10);
+        game.dealInitialCards();
+
+        assertTrue(GameCodec.encode(game).length <= 40 + game.getDeckSize());
+    }
+
+    @Test
+    void decode_rejectsTruncatedAndPaddedState() {
+        byte[] state = GameCodec.encode(new BlackjackGame());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> GameCodec.decode(Arrays.copyOf(state, state.length - 1), new BlackjackGame()));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameCodec.decode(Arrays.copyOf(state, state.length + 1), new BlackjackGame()));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameCodec.decode(Arrays.copyOf(state, state.length - 1),
+                        ShuffleEngine.create(ShuffleEngine.DEFAULT_ALGORITHM), null));
+    }
+}
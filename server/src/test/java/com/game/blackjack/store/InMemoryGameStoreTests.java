@@ -0,0 +1,76 @@
+package com.game.blackjack.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryGameStoreTests {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    @Test
+    void saveLoadAndDelete_roundTripState() {
+        InMemoryGameStore store = new InMemoryGameStore(TTL);
+
+        assertNull(store.load("abc"));
+        store.save("abc", new byte[] { 1, 2, 3 });
+        assertArrayEquals(new byte[] { 1, 2, 3 }, store.load("abc"));
+        store.delete("abc");
+        assertNull(store.load("abc"));
+    }
+
+    @Test
+    void load_expiresIdleStateAndRefreshesActiveState() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        InMemoryGameStore store = new InMemoryGameStore(TTL, clock);
+        store.save("active", new byte[] { 1 });
+        store.save("idle", new byte[] { 2 });
+
+        clock.advance(Duration.ofMinutes(20));
+        assertNotNull(store.load("active"));
+        clock.advance(Duration.ofMinutes(20));
+
+        assertNotNull(store.load("active"));
+        assertNull(store.load("idle"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void save_periodicallyRemovesExpiredState() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        InMemoryGameStore store = new InMemoryGameStore(TTL, clock);
+        store.save("idle", new byte[] { 1 });
+        clock.advance(TTL);
+
+        for (int i = 0; i < 1023; i++) {
+            store.save("active", new byte[] { 2 });
+        }
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void replace_writesOnlyOverExpectedState() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        InMemoryGameStore store = new InMemoryGameStore(TTL, clock);
+
+        assertTrue(store.replace("abc", null, new byte[] { 1 }));
+        assertFalse(store.replace("abc", null, new byte[] { 2 }));
+        assertFalse(store.replace("abc", new byte[] { 9 }, new byte[] { 2 }));
+        assertTrue(store.replace("abc", new byte[] { 1 }, new byte[] { 2 }));
+        assertArrayEquals(new byte[] { 2 }, store.load("abc"));
+
+        clock.advance(TTL);
+        assertFalse(store.replace("abc", new byte[] { 2 }, new byte[] { 3 }));
+        assertTrue(store.replace("abc", null, new byte[] { 3 }));
+        assertArrayEquals(new byte[] { 3 }, store.load("abc"));
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveTtl() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryGameStore(Duration.ZERO));
+    }
+}
@@ -0,0 +1,163 @@
+package com.game.blackjack.store;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class LocalRedisServer implements AutoCloseable {
+
+    private final ServerSocket server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, Entry> values = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicBoolean malformedReply = new AtomicBoolean();
+    private final String password;
+
+    LocalRedisServer(String password) throws IOException {
+        this.password = password;
+        this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        executor.execute(this::acceptLoop);
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    int connections() {
+        return connections.get();
+    }
+
+    void replyMalformedOnce() {
+        malformedReply.set(true);
+    }
+
+    long expiryMillis(String key) {
+        Entry entry = values.get(key);
+        return entry == null ? -1 : entry.ttlMillis();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                connections.incrementAndGet();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            boolean authenticated = password == null;
+            int marker;
+            while ((marker = in.read()) == '*') {
+                byte[][] command = new byte[Integer.parseInt(readLine(in))][];
+                for (int i = 0; i < command.length; i++) {
+                    in.read();
+                    command[i] = in.readNBytes(Integer.parseInt(readLine(in)));
+                    in.readNBytes(2);
+                }
+                String name = new String(command[0], StandardCharsets.US_ASCII);
+                if (name.equals("AUTH")) {
+                    authenticated = password != null && password.equals(new String(command[1], StandardCharsets.UTF_8));
+                    write(out, authenticated ? "+OK\r\n" : "-WRONGPASS invalid password\r\n");
+                } else if (malformedReply.compareAndSet(true, false)) {
+                    write(out, ":oops\r\n");
+                } else if (!authenticated) {
+                    write(out, "-NOAUTH Authentication required.\r\n");
+                } else {
+                    execute(name, command, out);
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            return;
+        }
+    }
+
+    private void execute(String name, byte[][] command, OutputStream out) throws IOException {
+        String key = command.length > 1 ? new String(command[1], StandardCharsets.UTF_8) : null;
+        switch (name) {
+            case "PING" -> write(out, "+PONG\r\n");
+            case "SET" -> {
+                boolean ifAbsent = command.length > 5 && new String(command[5], StandardCharsets.US_ASCII).equals("NX");
+                if (ifAbsent && values.putIfAbsent(key, new Entry(command[2], ttl(command, 3))) != null) {
+                    write(out, "$-1\r\n");
+                } else {
+                    if (!ifAbsent) {
+                        values.put(key, new Entry(command[2], ttl(command, 3)));
+                    }
+                    write(out, "+OK\r\n");
+                }
+            }
+            case "EVAL" -> {
+                String scriptKey = new String(command[3], StandardCharsets.UTF_8);
+                Entry entry = values.get(scriptKey);
+                boolean replaced = entry != null && Arrays.equals(entry.value(), command[4])
+                        && values.replace(scriptKey, entry, new Entry(command[5],
+                                Long.parseLong(new String(command[6], StandardCharsets.US_ASCII))));
+                write(out, ":" + (replaced ? 1 : 0) + "\r\n");
+            }
+            case "GETEX" -> {
+                Entry entry = values.get(key);
+                if (entry == null) {
+                    write(out, "$-1\r\n");
+                } else {
+                    values.put(key, new Entry(entry.value(), ttl(command, 2)));
+                    write(out, "$" + entry.value().length + "\r\n");
+                    out.write(entry.value());
+                    write(out, "\r\n");
+                }
+            }
+            case "DEL" -> write(out, ":" + (values.remove(key) == null ? 0 : 1) + "\r\n");
+            default -> write(out, "-ERR unknown command '" + name + "'\r\n");
+        }
+    }
+
+    private static long ttl(byte[][] command, int index) {
+        if (command.length > index + 1 && new String(command[index], StandardCharsets.US_ASCII).equals("PX")) {
+            return Long.parseLong(new String(command[index + 1], StandardCharsets.US_ASCII));
+        }
+        return -1;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int next;
+        while ((next = in.read()) != '\r') {
+            line.append((char) next);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private static void write(OutputStream out, String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record Entry(byte[] value, long ttlMillis) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.game.blackjack.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapGameStoreTests {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final long MAX_BYTES = 4L * OffHeapGameStore.CHUNK_BYTES;
+
+    @Test
+    void saveLoadAndDelete_roundTripState() {
+        OffHeapGameStore store = new OffHeapGameStore(TTL, MAX_BYTES);
+
+        assertNull(store.load("abc"));
+        store.save("abc", new byte[] { 1, 2, 3 });
+        assertArrayEquals(new byte[] { 1, 2, 3 }, store.load("abc"));
+        store.delete("abc");
+        assertNull(store.load("abc"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void save_movesStateBetweenSlotSizes() {
+        OffHeapGameStore store = new OffHeapGameStore(TTL, MAX_BYTES);
+        byte[] large = filled(700, 7);
+        byte[] small = filled(40, 3);
+
+        store.save("abc", small);
+        store.save("abc", large);
+        assertArrayEquals(large, store.load("abc"));
+        store.save("abc", small);
+        store.save("def", large);
+
+        assertArrayEquals(small, store.load("abc"));
+        assertArrayEquals(large, store.load("def"));
+    }
+
+    @Test
+    void replace_writesOnlyOverExpectedState() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        OffHeapGameStore store = new OffHeapGameStore(TTL, MAX_BYTES, clock);
+        byte[] small = filled(40, 3);
+        byte[] large = filled(700, 7);
+
+        assertTrue(store.replace("abc", null, small));
+        assertFalse(store.replace("abc", null, large));
+        assertFalse(store.replace("abc", filled(40, 4), large));
+        assertFalse(store.replace("abc", filled(41, 3), large));
+        assertTrue(store.replace("abc", small, large));
+        assertArrayEquals(large, store.load("abc"));
+
+        clock.advance(TTL);
+        assertFalse(store.replace("abc", large, small));
+        assertTrue(store.replace("abc", null, small));
+        assertArrayEquals(small, store.load("abc"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void save_reusesReleasedSlots() {
+        OffHeapGameStore store = new OffHeapGameStore(TTL, MAX_BYTES);
+        byte[] state = filled(300, 1);
+        for (int i = 0; i < 10_000; i++) {
+            store.save("game-" + i, state);
+        }
+        long reserved = store.reservedBytes();
+
+        for (int i = 0; i < 10_000; i++) {
+            store.delete("game-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            store.save("other-" + i, state);
+        }
+
+        assertEquals(reserved, store.reservedBytes());
+        assertArrayEquals(state, store.load("other-9999"));
+    }
+
+    @Test
+    void save_failsWhenCapacityIsExhausted() {
+        OffHeapGameStore store = new OffHeapGameStore(TTL, OffHeapGameStore.CHUNK_BYTES);
+        byte[] state = filled(OffHeapGameStore.MAX_SLOT_BYTES - 64, 2);
+        int slots = OffHeapGameStore.CHUNK_BYTES / OffHeapGameStore.MAX_SLOT_BYTES;
+        for (int i = 0; i < slots; i++) {
+            store.save("game-" + i, state);
+        }
+
+        assertThrows(GameStoreException.class, () -> store.save("overflow", state));
+        assertNull(store.load("overflow"));
+        store.delete("game-0");
+        store.save("overflow", state);
+
+        assertArrayEquals(state, store.load("overflow"));
+        assertEquals(OffHeapGameStore.CHUNK_BYTES, store.reservedBytes());
+    }
+
+    @Test
+    void save_rejectsStateLargerThanASlot() {
+        OffHeapGameStore store = new OffHeapGameStore(TTL, MAX_BYTES);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> store.save("abc", new byte[OffHeapGameStore.MAX_SLOT_BYTES]));
+    }
+
+    @Test
+    void load_expiresIdleStateAndRefreshesActiveState() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        OffHeapGameStore store = new OffHeapGameStore(TTL, MAX_BYTES, clock);
+        store.save("active", new byte[] { 1 });
+        store.save("idle", new byte[] { 2 });
+
+        clock.advance(Duration.ofMinutes(20));
+        assertNotNull(store.load("active"));
+        clock.advance(Duration.ofMinutes(20));
+
+        assertNotNull(store.load("active"));
+        assertNull(store.load("idle"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void save_periodicallyRemovesExpiredState() {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        OffHeapGameStore store = new OffHeapGameStore(TTL, MAX_BYTES, clock);
+        store.save("idle", new byte[] { 1 });
+        clock.advance(TTL);
+
+        for (int i = 0; i < 1023; i++) {
+            store.save("active", new byte[] { 2 });
+        }
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void saveAndLoad_areSafeAcrossThreads() throws Exception {
+        OffHeapGameStore store = new OffHeapGameStore(TTL, 64L * OffHeapGameStore.CHUNK_BYTES);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int owner = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        byte[] state = filled(1 + i % 500, owner);
+                        store.save("game-" + owner + "-" + i % 50, state);
+                        assertArrayEquals(state, store.load("game-" + owner + "-" + i % 50));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(400, store.size());
+    }
+
+    @Test
+    void constructor_rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapGameStore(Duration.ZERO, MAX_BYTES));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapGameStore(TTL, 1024));
+    }
+
+    private static byte[] filled(int length, int value) {
+        byte[] state = new byte[length];
+        for (int i = 0; i < length; i++) {
+            state[i] = (byte) (value + i);
+        }
+        return state;
+    }
+}
@@ -0,0 +1,117 @@
+package com.game.blackjack.store;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisGameStoreTests {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void saveLoadAndDelete_roundTripBinaryState() throws IOException {
+        try (LocalRedisServer server = new LocalRedisServer(null);
+                RedisGameStore store = new RedisGameStore("127.0.0.1", server.port(), null, 2, TTL, TIMEOUT)) {
+            byte[] state = { 0, '\r', '\n', '$', -1, 42 };
+
+            assertNull(store.load("abc"));
+            store.save("abc", state);
+            assertArrayEquals(state, store.load("abc"));
+            assertEquals(TTL.toMillis(), server.expiryMillis("blackjack:game:abc"));
+            store.delete("abc");
+            assertNull(store.load("abc"));
+        }
+    }
+
+    @Test
+    void replace_writesOnlyOverExpectedState() throws IOException {
+        try (LocalRedisServer server = new LocalRedisServer(null);
+                RedisGameStore store = new RedisGameStore("127.0.0.1", server.port(), null, 2, TTL, TIMEOUT);
+                RedisGameStore otherNode = new RedisGameStore("127.0.0.1", server.port(), null, 2, TTL, TIMEOUT)) {
+            byte[] first = { 0, '\r', '\n', 1 };
+            byte[] second = { 0, '\r', '\n', 2 };
+
+            assertTrue(store.replace("abc", null, first));
+            assertFalse(otherNode.replace("abc", null, second));
+            assertTrue(otherNode.replace("abc", first, second));
+            assertFalse(store.replace("abc", first, new byte[] { 3 }));
+
+            assertArrayEquals(second, store.load("abc"));
+            assertEquals(TTL.toMillis(), server.expiryMillis("blackjack:game:abc"));
+        }
+    }
+
+    @Test
+    void execute_reusesPooledConnections() throws IOException {
+        try (LocalRedisServer server = new LocalRedisServer(null);
+                RedisGameStore store = new RedisGameStore("127.0.0.1", server.port(), "", 2, TTL, TIMEOUT)) {
+            for (int i = 0; i < 20; i++) {
+                store.save("player", new byte[] { (byte) i });
+                assertArrayEquals(new byte[] { (byte) i }, store.load("player"));
+            }
+
+            assertEquals(1, server.connections());
+        }
+    }
+
+    @Test
+    void connect_authenticatesWithPassword() throws IOException {
+        try (LocalRedisServer server = new LocalRedisServer("secret");
+                RedisGameStore store = new RedisGameStore("127.0.0.1", server.port(), "secret", 2, TTL, TIMEOUT);
+                RedisGameStore wrongPassword = new RedisGameStore("127.0.0.1", server.port(), "guess", 2, TTL, TIMEOUT);
+                RedisGameStore noPassword = new RedisGameStore("127.0.0.1", server.port(), null, 2, TTL, TIMEOUT)) {
+            store.save("abc", new byte[] { 1 });
+            assertArrayEquals(new byte[] { 1 }, store.load("abc"));
+
+            assertThrows(GameStoreException.class, () -> wrongPassword.load("abc"));
+            GameStoreException error = assertThrows(GameStoreException.class, () -> noPassword.load("abc"));
+            assertTrue(error.getMessage().contains("NOAUTH"));
+        }
+    }
+
+    @Test
+    void execute_wrapsConnectionFailures() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        try (RedisGameStore store = new RedisGameStore("127.0.0.1", port, null, 2, TTL, TIMEOUT)) {
+            assertThrows(GameStoreException.class, () -> store.load("abc"));
+        }
+    }
+
+    @Test
+    void execute_closesConnectionOnMalformedReply() throws IOException {
+        try (LocalRedisServer server = new LocalRedisServer(null);
+                RedisGameStore store = new RedisGameStore("127.0.0.1", server.port(), null, 2, TTL, TIMEOUT)) {
+            store.save("abc", new byte[] { 1 });
+            server.replyMalformedOnce();
+
+            GameStoreException error = assertThrows(GameStoreException.class, () -> store.load("abc"));
+            assertInstanceOf(NumberFormatException.class, error.getCause());
+            assertArrayEquals(new byte[] { 1 }, store.load("abc"));
+            assertEquals(2, server.connections());
+        }
+    }
+
+    @Test
+    void constructor_rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RedisGameStore("127.0.0.1", 6379, null, 0, TTL, TIMEOUT));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RedisGameStore("127.0.0.1", 6379, null, 2, Duration.ZERO, TIMEOUT));
+    }
+
+    @Test
+    void close_rejectsFurtherCommands() {
+        RedisGameStore store = new RedisGameStore("127.0.0.1", 6379, null, 2, TTL, TIMEOUT);
+        store.close();
+
+        assertThrows(IllegalStateException.class, () -> store.load("abc"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.game.blackjack.strategy;
+
+import org.junit.jupiter.api.Test;
+
+import com.game.blackjack.BlackjackGame;
+import com.game.blackjack.Card;
+import com.game.blackjack.Hand;
+import com.game.blackjack.ShuffleEngine;
+import com.game.blackjack.odds.DealerProbabilityCalculator;
+import com.game.blackjack.simulation.HitBelowStrategy;
+import com.game.blackjack.simulation.MonteCarloSimulator;
+import com.game.blackjack.simulation.PlayerAction;
+import com.game.blackjack.simulation.SimulationConfig;
+import com.game.blackjack.simulation.SimulationResult;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicStrategyTests {
+
+    private static final int ACE = 0;
+    private static final int TWO = 1;
+    private static final int SIX = 5;
+    private static final int NINE = 8;
+    private static final int TEN = 9;
+
+    private final BasicStrategy strategy = new BasicStrategy(new DealerProbabilityCalculator(256));
+
+    @Test
+    void table_matchesWellKnownBasicStrategyCells() {
+        StrategyTable table = strategy.table(6, false);
+
+        assertEquals(PlayerAction.DOUBLE, table.action(hand("6", "5"), SIX, true, true));
+        assertEquals(PlayerAction.HIT, table.action(hand("6", "5"), SIX, false, true));
+        assertEquals(PlayerAction.STAND, table.action(hand("10", "2"), SIX, true, true));
+        assertEquals(PlayerAction.HIT, table.action(hand("10", "2"), TWO, true, true));
+        assertEquals(PlayerAction.STAND, table.action(hand("10", "7"), TEN, true, true));
+        assertEquals(PlayerAction.HIT, table.action(hand("7", "5"), TEN, true, true));
+        assertEquals(PlayerAction.SPLIT, table.action(hand("8", "8"), SIX, true, true));
+        assertEquals(PlayerAction.SPLIT, table.action(hand("A", "A"), SIX, true, true));
+        assertEquals(PlayerAction.STAND, table.action(hand("K", "Q"), SIX, true, true));
+        assertEquals(PlayerAction.HIT, table.action(hand("A", "7"), NINE, true, true));
+        assertEquals(PlayerAction.STAND, table.action(hand("A", "8"), TEN, true, true));
+        assertEquals(PlayerAction.STAND, table.action(hand("A", "7", "10"), TWO, true, true));
+        assertFalse(table.takeInsurance());
+    }
+
+    @Test
+    void table_fallsBackWhenSplitOrDoubleIsUnavailable() {
+        StrategyTable table = strategy.table(6, false);
+
+        assertEquals(PlayerAction.STAND, table.action(hand("8", "8"), SIX, false, false));
+        assertEquals(PlayerAction.HIT, table.action(hand("A", "A"), SIX, false, false));
+        assertEquals(PlayerAction.HIT, table.action(hand("3", "3", "5"), SIX, true, false));
+    }
+
+    @Test
+    void table_isCachedPerRuleSet() {
+        assertSame(strategy.table(6, false), strategy.table(6, false));
+        assertNotSame(strategy.table(6, false), strategy.table(6, true));
+        assertNotSame(strategy.table(6, false), strategy.table(1, false));
+        assertThrows(IllegalArgumentException.class, () -> strategy.table(0, false));
+        assertThrows(IllegalArgumentException.class, () -> strategy.table(BasicStrategy.MAX_DECKS + 1, false));
+    }
+
+    @Test
+    void hint_followsTableForCurrentHand() {
+        BlackjackGame game = new BlackjackGame();
+        assertThrows(IllegalStateException.class, () -> strategy.hint(game));
+
+        game.placeBet(10);
+        game.dealInitialCards();
+
+        Hint hint = strategy.hint(game);
+        assertEquals(strategy.decide(game, game.getCurrentHand(), game.getDealerUpcard()), hint.action());
+        assertFalse(hint.takeInsurance());
+    }
+
+    @Test
+    void simulation_basicStrategyBeatsHittingToSeventeen() {
+        SimulationConfig config = new SimulationConfig(6, false, 200_000, 10, 5);
+        MonteCarloSimulator simulator = new MonteCarloSimulator(ForkJoinPool.commonPool(), ShuffleEngine.DEFAULT_ALGORITHM);
+
+        SimulationResult basic = simulator.run(config, strategy);
+        SimulationResult naive = simulator.run(config, new HitBelowStrategy(17));
+
+        assertTrue(basic.expectedValue() > naive.expectedValue(),
+                "basic " + basic.expectedValue() + " naive " + naive.expectedValue());
+    }
+
+    private static Hand hand(String... values) {
+        Hand hand = new Hand(10);
+        for (String value : values) {
+            hand.addCard(new Card(value, "Spades"));
+        }
+        return hand;
+    }
+}